@@ -0,0 +1,145 @@
+//  BenchmarkInputs.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.util.benchmark;
+
+import jmetal.core.Problem;
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.problems.DTLZ.DTLZ2;
+import jmetal.problems.WFG.WFG1;
+import jmetal.problems.ZDT.ZDT1;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
+
+import java.util.Random;
+
+/**
+ * This class generates the populations used as inputs of the benchmarks. The
+ * solutions are real coded, have random decision variables drawn from a
+ * seeded generator, and are evaluated with ZDT1, DTLZ2 or WFG1. If the inputs
+ * are requested on the front, the distance related variables are set to their
+ * optimal values, so that all the solutions are non-dominated.
+ */
+public class BenchmarkInputs {
+  /**
+   * Names of the problems which can generate inputs
+   */
+  public static final String [] PROBLEMS = {"ZDT1", "DTLZ2", "WFG1"} ;
+
+  /**
+   * Creates the problem generating the inputs
+   * @param problemName ZDT1, DTLZ2 or WFG1
+   * @param numberOfObjectives Number of objectives; ZDT1 only accepts 2
+   * @throws JMException
+   */
+  public static Problem getProblem(String problemName, int numberOfObjectives) throws JMException {
+    try {
+      if (problemName.equalsIgnoreCase("ZDT1") && (numberOfObjectives == 2))
+        return new ZDT1("Real", 30) ;
+      else if (problemName.equalsIgnoreCase("DTLZ2"))
+        return new DTLZ2("Real", numberOfObjectives + 9, numberOfObjectives) ;
+      else if (problemName.equalsIgnoreCase("WFG1"))
+        return new WFG1("Real", 2 * (numberOfObjectives - 1), 20, numberOfObjectives) ;
+    } catch (ClassNotFoundException e) {
+      Configuration.logger_.severe("BenchmarkInputs.getProblem: " + e) ;
+      throw new JMException("Exception in BenchmarkInputs.getProblem()") ;
+    }
+    Configuration.logger_.severe("BenchmarkInputs.getProblem: problem " +
+        problemName + " with " + numberOfObjectives + " objectives is not available") ;
+    throw new JMException("Exception in BenchmarkInputs.getProblem()") ;
+  } // getProblem
+
+  /**
+   * Indicates whether a problem can generate inputs with a number of objectives
+   */
+  public static boolean isAvailable(String problemName, int numberOfObjectives) {
+    if (problemName.equalsIgnoreCase("ZDT1"))
+      return numberOfObjectives == 2 ;
+    return numberOfObjectives >= 2 ;
+  } // isAvailable
+
+  /**
+   * Generates an evaluated population
+   * @param problemName ZDT1, DTLZ2 or WFG1
+   * @param populationSize Number of solutions
+   * @param numberOfObjectives Number of objectives
+   * @param onFront If true, the solutions are placed on the Pareto front
+   * @param seed Seed of the decision variables; the same seed produces the
+   * same population
+   * @throws JMException
+   */
+  public static SolutionSet generate(String problemName,
+                                     int populationSize,
+                                     int numberOfObjectives,
+                                     boolean onFront,
+                                     long seed) throws JMException {
+    Problem problem = getProblem(problemName, numberOfObjectives) ;
+    int numberOfVariables = problem.getNumberOfVariables() ;
+    int firstDistanceVariable = positionParameters(problemName, numberOfObjectives) ;
+    Random random = new Random(seed) ;
+
+    SolutionSet population = new SolutionSet(populationSize) ;
+    for (int i = 0; i < populationSize; i++) {
+      Solution solution ;
+      try {
+        solution = new Solution(problem) ;
+      } catch (ClassNotFoundException e) {
+        Configuration.logger_.severe("BenchmarkInputs.generate: " + e) ;
+        throw new JMException("Exception in BenchmarkInputs.generate()") ;
+      }
+      XReal x = new XReal(solution) ;
+      for (int j = 0; j < numberOfVariables; j++) {
+        double value ;
+        if (onFront && (j >= firstDistanceVariable))
+          value = optimalDistanceVariable(problemName, j, x) ;
+        else
+          value = x.getLowerBound(j) +
+                  random.nextDouble() * (x.getUpperBound(j) - x.getLowerBound(j)) ;
+        x.setValue(j, value) ;
+      } // for
+      problem.evaluate(solution) ;
+      population.add(solution) ;
+    } // for
+    return population ;
+  } // generate
+
+  /**
+   * Returns the number of position related variables of a problem
+   */
+  private static int positionParameters(String problemName, int numberOfObjectives) {
+    if (problemName.equalsIgnoreCase("ZDT1"))
+      return 1 ;
+    else if (problemName.equalsIgnoreCase("DTLZ2"))
+      return numberOfObjectives - 1 ;
+    else
+      return 2 * (numberOfObjectives - 1) ;
+  } // positionParameters
+
+  /**
+   * Returns the value of a distance related variable on the Pareto front
+   */
+  private static double optimalDistanceVariable(String problemName, int index,
+                                                XReal x) throws JMException {
+    if (problemName.equalsIgnoreCase("ZDT1"))
+      return 0.0 ;
+    else if (problemName.equalsIgnoreCase("DTLZ2"))
+      return 0.5 ;
+    else
+      return 0.35 * x.getUpperBound(index) ;
+  } // optimalDistanceVariable
+} // BenchmarkInputs
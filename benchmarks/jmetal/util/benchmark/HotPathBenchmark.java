@@ -0,0 +1,235 @@
+//  HotPathBenchmark.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.util.benchmark;
+
+import jmetal.core.PopulationStore;
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.operators.crossover.DifferentialEvolutionCrossover;
+import jmetal.operators.crossover.DifferentialEvolutionKernel;
+import jmetal.operators.mutation.PolynomialMutation;
+import jmetal.util.Distance;
+import jmetal.util.JMException;
+import jmetal.util.Ranking;
+import jmetal.util.comparators.DominanceComparator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of the code on the critical path of the algorithms of the
+ * framework. The inputs are populations of 100 to 10000 solutions with 2 to
+ * 10 objectives generated by DTLZ2 and WFG1 (see <code>BenchmarkInputs</code>);
+ * ZDT1 inputs, which only have two objectives, are selected with
+ * <code>-p problem=ZDT1 -p numberOfObjectives=2</code>.
+ * Benchmarks working on a whole population count one operation per call on
+ * the whole input; those working on single solutions or pairs of them count
+ * one operation per solution or pair, visiting the input cyclically.
+ * The allocation rate per operation is reported by the gc profiler
+ * (<code>gradle jmh</code> runs it), as <code>gc.alloc.rate.norm</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotPathBenchmark {
+  /**
+   * Problem generating the inputs: ZDT1, DTLZ2 or WFG1
+   */
+  @Param({"DTLZ2", "WFG1"})
+  public String problem ;
+
+  @Param({"100", "1000", "10000"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5", "10"})
+  public int numberOfObjectives ;
+
+  /**
+   * If true, the solutions are placed on the Pareto front, so that the
+   * input has a single front
+   */
+  @Param({"false"})
+  public boolean onFront ;
+
+  private SolutionSet population_ ;
+
+  // Input of suppress: the population where one of every ten solutions is
+  // duplicated
+  private Solution [] duplicated_ ;
+
+  // Copies of the solutions, modified by the polynomial mutation
+  private Solution [] mutated_ ;
+
+  private Distance distance_ ;
+  private DominanceComparator dominance_ ;
+  private DifferentialEvolutionCrossover crossover_ ;
+  private DifferentialEvolutionKernel kernel_ ;
+  private PopulationStore store_ ;
+  private double [] trial_ ;
+  private PolynomialMutation mutation_ ;
+
+  // Solution used by the next operation of the cyclic benchmarks
+  private int next_ ;
+
+  @Setup(Level.Trial)
+  public void setUp() throws JMException {
+    population_ = BenchmarkInputs.generate(problem, populationSize,
+        numberOfObjectives, onFront, 1) ;
+
+    int size = population_.size() ;
+    duplicated_ = new Solution[size + size / 10] ;
+    int position = 0 ;
+    for (int i = 0; i < size; i++) {
+      duplicated_[position++] = population_.get(i) ;
+      if ((i % 10 == 9) && (position < duplicated_.length))
+        duplicated_[position++] = new Solution(population_.get(i / 2)) ;
+    } // for
+
+    mutated_ = new Solution[size] ;
+    for (int i = 0; i < size; i++)
+      mutated_[i] = new Solution(population_.get(i)) ;
+
+    distance_ = new Distance() ;
+    dominance_ = new DominanceComparator() ;
+
+    HashMap<String, Object> parameters = new HashMap<String, Object>() ;
+    parameters.put("CR", 1.0) ;
+    parameters.put("F", 0.5) ;
+    parameters.put("DE_VARIANT", "rand/1/bin") ;
+    crossover_ = new DifferentialEvolutionCrossover(parameters) ;
+
+    kernel_ = new DifferentialEvolutionKernel("rand/1/bin", 1.0, 0.5, 0.5) ;
+    store_ = new PopulationStore(population_.get(0).getProblem(), size) ;
+    store_.addAll(population_) ;
+    trial_ = new double[store_.getNumberOfVariables()] ;
+
+    parameters = new HashMap<String, Object>() ;
+    parameters.put("probability", 1.0 / mutated_[0].numberOfVariables()) ;
+    parameters.put("distributionIndex", 20.0) ;
+    mutation_ = new PolynomialMutation(parameters) ;
+
+    next_ = 0 ;
+  } // setUp
+
+  /**
+   * Returns the solution of the next cyclic operation and advances
+   */
+  private int advance() {
+    int i = next_ ;
+    next_ = (i + 1) % population_.size() ;
+    return i ;
+  } // advance
+
+  /**
+   * Non-dominated sorting of the population with <code>Ranking</code>
+   */
+  @Benchmark
+  public Ranking ranking() {
+    return new Ranking(population_) ;
+  } // ranking
+
+  /**
+   * <code>Distance.crowdingDistanceAssignment</code> on the population
+   */
+  @Benchmark
+  public double crowdingDistance() {
+    distance_.crowdingDistanceAssignment(population_, numberOfObjectives) ;
+    return population_.get(0).getCrowdingDistance() ;
+  } // crowdingDistance
+
+  /**
+   * <code>SolutionSet.Suppress</code> on the population with duplicates. As
+   * the method modifies the set, each operation also includes copying the
+   * references to a new set.
+   */
+  @Benchmark
+  public SolutionSet suppress() {
+    SolutionSet set = new SolutionSet(duplicated_.length) ;
+    for (int i = 0; i < duplicated_.length; i++)
+      set.add(duplicated_[i]) ;
+    set.Suppress() ;
+    return set ;
+  } // suppress
+
+  /**
+   * <code>DominanceComparator.compare</code> on consecutive solutions
+   */
+  @Benchmark
+  public int dominance() {
+    int i = advance() ;
+    return dominance_.compare(population_.get(i), population_.get(next_)) ;
+  } // dominance
+
+  /**
+   * <code>DifferentialEvolutionCrossover.execute</code> with the rand/1/bin
+   * variant, taking as parents the solutions following the current one
+   */
+  @Benchmark
+  public Object differentialEvolutionCrossover() throws JMException {
+    int size = population_.size() ;
+    int i = advance() ;
+    Solution [] parents = new Solution[3] ;
+    parents[0] = population_.get((i + 1) % size) ;
+    parents[1] = population_.get((i + 2) % size) ;
+    parents[2] = population_.get((i + 3) % size) ;
+    return crossover_.execute(new Object[] {population_.get(i), parents}) ;
+  } // differentialEvolutionCrossover
+
+  /**
+   * <code>DifferentialEvolutionKernel.trial</code> with the rand/1/bin
+   * variant on the variables of the population copied to a
+   * <code>PopulationStore</code>, with the same parents as
+   * <code>differentialEvolutionCrossover</code>
+   */
+  @Benchmark
+  public void differentialEvolutionKernel(Blackhole blackhole) {
+    int size = store_.size() ;
+    int n = store_.getNumberOfVariables() ;
+    int i = advance() ;
+    double [] x = store_.getVariables() ;
+    kernel_.trial(x, i * n, x, ((i + 1) % size) * n, x, ((i + 2) % size) * n,
+        x, ((i + 3) % size) * n, store_.getLowerBounds(), store_.getUpperBounds(),
+        trial_, 0, n) ;
+    blackhole.consume(trial_) ;
+  } // differentialEvolutionKernel
+
+  /**
+   * <code>PolynomialMutation.execute</code> with probability 1/n, applied to
+   * copies of the solutions
+   */
+  @Benchmark
+  public Object polynomialMutation() throws JMException {
+    return mutation_.execute(mutated_[advance()]) ;
+  } // polynomialMutation
+} // HotPathBenchmark
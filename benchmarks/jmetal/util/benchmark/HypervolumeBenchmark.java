@@ -0,0 +1,83 @@
+//  HypervolumeBenchmark.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+//
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.util.benchmark;
+
+import jmetal.qualityIndicator.Hypervolume;
+import jmetal.util.JMException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of <code>Hypervolume.hypervolume</code> on a population
+ * normalized with its own bounds. The exact algorithm is exponential in the
+ * number of objectives, so the default configurations stop at 1000
+ * solutions and 5 objectives; 10 objectives are measured on 100 solutions
+ * with <code>-p populationSize=100 -p numberOfObjectives=10</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HypervolumeBenchmark {
+  /**
+   * Problem generating the inputs: ZDT1, DTLZ2 or WFG1
+   */
+  @Param({"DTLZ2", "WFG1"})
+  public String problem ;
+
+  @Param({"100", "1000"})
+  public int populationSize ;
+
+  @Param({"2", "3", "5"})
+  public int numberOfObjectives ;
+
+  /**
+   * If true, the solutions are placed on the Pareto front
+   */
+  @Param({"false"})
+  public boolean onFront ;
+
+  private double [][] front_ ;
+  private Hypervolume hypervolume_ ;
+
+  @Setup(Level.Trial)
+  public void setUp() throws JMException {
+    front_ = BenchmarkInputs.generate(problem, populationSize,
+        numberOfObjectives, onFront, 1).writeObjectivesToMatrix() ;
+    hypervolume_ = new Hypervolume() ;
+  } // setUp
+
+  @Benchmark
+  public double hypervolume() {
+    return hypervolume_.hypervolume(front_, front_, numberOfObjectives) ;
+  } // hypervolume
+} // HypervolumeBenchmark
@@ -24,7 +24,9 @@ package jmetal.core ;
 import jmetal.util.JMException;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /** 
@@ -59,6 +61,11 @@ public abstract class Algorithm implements Serializable {
    * obtain information from an algorithm.
    */
   private Map<String,Object> outPutParameters_ = null;
+
+  /**
+   * Stores the listeners notified at the end of every generation
+   */
+  private transient List<GenerationListener> generationListeners_ = null;
   
   /**
    * Constructor
@@ -156,6 +163,42 @@ public abstract class Algorithm implements Serializable {
       return null ;
   } // getOutputParameter   
   
+  /**
+   * Adds a listener to be notified at the end of every generation. Only the
+   * algorithms invoking <code>notifyGenerationListeners</code> notify them.
+   * @param listener The listener
+   */
+  public void addGenerationListener(GenerationListener listener) {
+    if (generationListeners_ == null) {
+      generationListeners_ = new ArrayList<GenerationListener>();
+    }
+    generationListeners_.add(listener);
+  } // addGenerationListener
+
+  /**
+   * Removes a listener added with <code>addGenerationListener</code>
+   * @param listener The listener
+   */
+  public void removeGenerationListener(GenerationListener listener) {
+    if (generationListeners_ != null)
+      generationListeners_.remove(listener);
+  } // removeGenerationListener
+
+  /**
+   * Notifies the listeners that a generation has finished. Typically invoked
+   * by <code>execute</code> after updating the archive.
+   * @param generation Number of the generation (0 is the initial population)
+   * @param evaluations Number of evaluations performed so far
+   * @param archive Current archive
+   */
+  protected void notifyGenerationListeners(int generation, int evaluations,
+                                           SolutionSet archive) {
+    if (generationListeners_ != null) {
+      for (GenerationListener listener : generationListeners_)
+        listener.generationCompleted(this, generation, evaluations, archive);
+    }
+  } // notifyGenerationListeners
+
   /**
    * Returns the problem to solve
   * @return Problem The problem to solve
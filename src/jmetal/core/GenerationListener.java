@@ -0,0 +1,38 @@
+//  GenerationListener.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.core;
+
+/**
+ * Listener notified by an algorithm at the end of every generation, once its
+ * archive has been updated (see <code>Algorithm.addGenerationListener</code>).
+ * It is called from the thread running the algorithm, which waits for it, so
+ * the implementations must return quickly; a listener needing more time
+ * should copy what it needs (e.g. <code>archive.writeObjectivesToMatrix()</code>)
+ * and do the work in another thread, as <code>IndicatorTracker</code> does.
+ * The archive belongs to the algorithm and must not be modified or kept.
+ */
+public interface GenerationListener {
+  /**
+   * Called at the end of a generation
+   * @param algorithm The algorithm
+   * @param generation Number of the generation (0 is the initial population)
+   * @param evaluations Number of evaluations performed so far
+   * @param archive Current archive of the algorithm
+   */
+  public void generationCompleted(Algorithm algorithm, int generation,
+                                  int evaluations, SolutionSet archive) ;
+} // GenerationListener
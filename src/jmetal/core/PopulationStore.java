@@ -0,0 +1,321 @@
+//  PopulationStore.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.core;
+
+import jmetal.encodings.solutionType.RealSolutionType;
+import jmetal.encodings.variable.StoredReal;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Class representing a population of real-coded solutions stored as a
+ * structure of arrays: the decision variables of all the solutions are kept
+ * in one contiguous <code>double</code> block, and so are the objectives.
+ * Solution i occupies the positions
+ * <code>i*numberOfVariables .. (i+1)*numberOfVariables-1</code> of
+ * <code>getVariables()</code>, so operators can work directly on the arrays.
+ * <p>
+ * For code written against <code>Solution</code>, <code>getSolution(i)</code>
+ * returns a <code>StoredSolution</code>, a view whose variables and objectives
+ * are read from and written to the store. The view is created once per slot
+ * and always reflects its current contents. <code>XReal</code> accesses the
+ * views without going through the <code>Variable</code> objects.
+ * <p>
+ * Only the differential evolution kernel works on the arrays directly (see
+ * <code>ADE_MOIA</code>). Polynomial mutation reaches them through
+ * <code>XReal</code> when it is applied to a view, while
+ * <code>Ranking</code> and <code>Distance</code> still read the objectives
+ * solution by solution through <code>getObjective</code>.
+ */
+public class PopulationStore implements Serializable {
+
+  private static final long serialVersionUID = 1L ;
+
+  /**
+   * Problem whose solutions are stored
+   */
+  private final Problem problem_ ;
+
+  private final int numberOfVariables_ ;
+  private final int numberOfObjectives_ ;
+
+  /**
+   * Number of slots in use
+   */
+  private int size_ ;
+
+  /**
+   * Decision variables, numberOfVariables_ per slot
+   */
+  private double [] variables_ ;
+
+  /**
+   * Objective values, numberOfObjectives_ per slot
+   */
+  private double [] objectives_ ;
+
+  private double [] overallConstraintViolation_ ;
+  private int [] numberOfViolatedConstraints_ ;
+
+  private final double [] lowerBounds_ ;
+  private final double [] upperBounds_ ;
+
+  /**
+   * Views of the slots, created on demand
+   */
+  private StoredSolution [] views_ ;
+
+  /**
+   * Constructor
+   * @param problem Problem to solve; its solution type must be
+   * <code>RealSolutionType</code>
+   * @param capacity Initial number of slots; the store grows if needed
+   * @throws JMException
+   */
+  public PopulationStore(Problem problem, int capacity) throws JMException {
+    if (problem.getSolutionType().getClass() != RealSolutionType.class) {
+      Configuration.logger_.severe("PopulationStore: solution type " +
+          problem.getSolutionType() + " invalid") ;
+      throw new JMException("Exception in PopulationStore constructor") ;
+    }
+    problem_ = problem ;
+    numberOfVariables_ = problem.getNumberOfVariables() ;
+    numberOfObjectives_ = problem.getNumberOfObjectives() ;
+    capacity = Math.max(capacity, 1) ;
+
+    variables_ = new double[capacity * numberOfVariables_] ;
+    objectives_ = new double[capacity * numberOfObjectives_] ;
+    overallConstraintViolation_ = new double[capacity] ;
+    numberOfViolatedConstraints_ = new int[capacity] ;
+    views_ = new StoredSolution[capacity] ;
+
+    lowerBounds_ = new double[numberOfVariables_] ;
+    upperBounds_ = new double[numberOfVariables_] ;
+    for (int i = 0; i < numberOfVariables_; i++) {
+      lowerBounds_[i] = problem.getLowerLimit(i) ;
+      upperBounds_[i] = problem.getUpperLimit(i) ;
+    }
+    size_ = 0 ;
+  } // PopulationStore
+
+  /**
+   * Adds an empty slot at the end of the store
+   * @return The index of the slot
+   */
+  public int add() {
+    if (size_ == overallConstraintViolation_.length) {
+      int capacity = 2 * size_ ;
+      variables_ = Arrays.copyOf(variables_, capacity * numberOfVariables_) ;
+      objectives_ = Arrays.copyOf(objectives_, capacity * numberOfObjectives_) ;
+      overallConstraintViolation_ = Arrays.copyOf(overallConstraintViolation_, capacity) ;
+      numberOfViolatedConstraints_ = Arrays.copyOf(numberOfViolatedConstraints_, capacity) ;
+      views_ = Arrays.copyOf(views_, capacity) ;
+    }
+    int slot = size_++ ;
+    Arrays.fill(variables_, slot * numberOfVariables_, (slot + 1) * numberOfVariables_, 0.0) ;
+    Arrays.fill(objectives_, slot * numberOfObjectives_, (slot + 1) * numberOfObjectives_, 0.0) ;
+    overallConstraintViolation_[slot] = 0.0 ;
+    numberOfViolatedConstraints_[slot] = 0 ;
+    return slot ;
+  } // add
+
+  /**
+   * Adds a copy of a real-coded solution at the end of the store
+   * @param solution The solution to copy
+   * @return The index of the slot
+   * @throws JMException
+   */
+  public int add(Solution solution) throws JMException {
+    int slot = add() ;
+    XReal x = new XReal(solution) ;
+    int offset = slot * numberOfVariables_ ;
+    for (int i = 0; i < numberOfVariables_; i++)
+      variables_[offset + i] = x.getValue(i) ;
+    offset = slot * numberOfObjectives_ ;
+    for (int i = 0; i < numberOfObjectives_; i++)
+      objectives_[offset + i] = solution.getObjective(i) ;
+    overallConstraintViolation_[slot] = solution.getOverallConstraintViolation() ;
+    numberOfViolatedConstraints_[slot] = solution.getNumberOfViolatedConstraint() ;
+    return slot ;
+  } // add
+
+  /**
+   * Adds copies of the solutions of a set
+   * @param solutionSet The solutions to copy
+   * @throws JMException
+   */
+  public void addAll(SolutionSet solutionSet) throws JMException {
+    for (int i = 0; i < solutionSet.size(); i++)
+      add(solutionSet.get(i)) ;
+  } // addAll
+
+  /**
+   * Copies the contents of a slot into another one
+   * @param from Source slot
+   * @param to Destination slot
+   */
+  public void copy(int from, int to) {
+    System.arraycopy(variables_, from * numberOfVariables_, variables_,
+        to * numberOfVariables_, numberOfVariables_) ;
+    System.arraycopy(objectives_, from * numberOfObjectives_, objectives_,
+        to * numberOfObjectives_, numberOfObjectives_) ;
+    overallConstraintViolation_[to] = overallConstraintViolation_[from] ;
+    numberOfViolatedConstraints_[to] = numberOfViolatedConstraints_[from] ;
+  } // copy
+
+  /**
+   * Removes all the slots. The memory is kept for reuse.
+   */
+  public void clear() {
+    size_ = 0 ;
+  } // clear
+
+  /**
+   * Reduces the number of slots in use
+   * @param size New number of slots; must not be greater than the current one
+   */
+  public void truncate(int size) {
+    if (size > size_)
+      Configuration.logger_.severe("PopulationStore.truncate: size " + size +
+          " greater than " + size_) ;
+    else
+      size_ = size ;
+  } // truncate
+
+  /**
+   * Evaluates the solution stored in a slot
+   * @param slot The slot
+   * @throws JMException
+   */
+  public void evaluate(int slot) throws JMException {
+    problem_.evaluate(getSolution(slot)) ;
+    problem_.evaluateConstraints(getSolution(slot)) ;
+  } // evaluate
+
+  /**
+   * Returns the view of a slot
+   * @param slot The slot
+   * @return A <code>Solution</code> backed by the store
+   */
+  public StoredSolution getSolution(int slot) {
+    if (slot >= size_)
+      throw new IndexOutOfBoundsException("Index out of Bound " + slot) ;
+    if (views_[slot] == null) {
+      Variable [] variables = new Variable[numberOfVariables_] ;
+      for (int i = 0; i < numberOfVariables_; i++)
+        variables[i] = new StoredReal(this, slot, i) ;
+      views_[slot] = new StoredSolution(this, slot, variables) ;
+    }
+    return views_[slot] ;
+  } // getSolution
+
+  /**
+   * Returns a <code>SolutionSet</code> containing the views of all the slots
+   */
+  public SolutionSet toSolutionSet() {
+    SolutionSet solutionSet = new SolutionSet(size_) ;
+    for (int i = 0; i < size_; i++)
+      solutionSet.add(getSolution(i)) ;
+    return solutionSet ;
+  } // toSolutionSet
+
+  /**
+   * Copies the objectives of the stored solutions to a matrix
+   * @return A matrix containing the objectives
+   */
+  public double [][] writeObjectivesToMatrix() {
+    double [][] matrix = new double[size_][numberOfObjectives_] ;
+    for (int i = 0; i < size_; i++)
+      System.arraycopy(objectives_, i * numberOfObjectives_, matrix[i], 0, numberOfObjectives_) ;
+    return matrix ;
+  } // writeObjectivesToMatrix
+
+  public double getVariable(int slot, int index) {
+    return variables_[slot * numberOfVariables_ + index] ;
+  } // getVariable
+
+  public void setVariable(int slot, int index, double value) {
+    variables_[slot * numberOfVariables_ + index] = value ;
+  } // setVariable
+
+  public double getObjective(int slot, int index) {
+    return objectives_[slot * numberOfObjectives_ + index] ;
+  } // getObjective
+
+  public void setObjective(int slot, int index, double value) {
+    objectives_[slot * numberOfObjectives_ + index] = value ;
+  } // setObjective
+
+  public double getOverallConstraintViolation(int slot) {
+    return overallConstraintViolation_[slot] ;
+  } // getOverallConstraintViolation
+
+  public void setOverallConstraintViolation(int slot, double value) {
+    overallConstraintViolation_[slot] = value ;
+  } // setOverallConstraintViolation
+
+  public int getNumberOfViolatedConstraint(int slot) {
+    return numberOfViolatedConstraints_[slot] ;
+  } // getNumberOfViolatedConstraint
+
+  public void setNumberOfViolatedConstraint(int slot, int value) {
+    numberOfViolatedConstraints_[slot] = value ;
+  } // setNumberOfViolatedConstraint
+
+  /**
+   * Returns the block of decision variables. The array is replaced when the
+   * store grows, so it must not be kept across calls to <code>add</code>.
+   */
+  public double [] getVariables() {
+    return variables_ ;
+  } // getVariables
+
+  /**
+   * Returns the block of objective values. The array is replaced when the
+   * store grows, so it must not be kept across calls to <code>add</code>.
+   */
+  public double [] getObjectives() {
+    return objectives_ ;
+  } // getObjectives
+
+  public double [] getLowerBounds() {
+    return lowerBounds_ ;
+  } // getLowerBounds
+
+  public double [] getUpperBounds() {
+    return upperBounds_ ;
+  } // getUpperBounds
+
+  public int size() {
+    return size_ ;
+  } // size
+
+  public int getNumberOfVariables() {
+    return numberOfVariables_ ;
+  } // getNumberOfVariables
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives_ ;
+  } // getNumberOfObjectives
+
+  public Problem getProblem() {
+    return problem_ ;
+  } // getProblem
+} // PopulationStore
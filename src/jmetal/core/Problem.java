@@ -21,9 +21,15 @@
 
 package jmetal.core;
 
+import jmetal.encodings.solutionType.ArrayRealSolutionType;
+import jmetal.encodings.solutionType.BinaryRealSolutionType;
+import jmetal.encodings.solutionType.RealSolutionType;
+import jmetal.util.Configuration;
 import jmetal.util.JMException;
+import jmetal.util.wrapper.XReal;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * Abstract class representing a multiobjective optimization problem
@@ -81,6 +87,12 @@ public abstract class Problem implements Serializable {
    * Permutation variables)
    */
   protected int    [] length_  ;
+
+  /**
+   * Caches whether the class overrides evaluateBatch(double[][], double[][],
+   * int, int); computed on first use
+   */
+  private transient Boolean nativeBatch_ ;
   
   /**
    * Stores the type of each encodings.variable
@@ -148,6 +160,110 @@ public abstract class Problem implements Serializable {
    */    
   public abstract void evaluate(Solution solution) throws JMException ;    
     
+  /**
+   * Evaluates a batch of points given as a matrix of decision variables,
+   * storing the objective values of point i in f[i]. The default
+   * implementation evaluates each point through a temporary
+   * <code>Solution</code>, so it only applies to Real and ArrayReal encoded
+   * problems; problems with a cheaper formulation override it with a loop
+   * over primitive arrays.
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   * @throws JMException
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to)
+    throws JMException {
+    Solution solution ;
+    try {
+      solution = new Solution(this) ;
+    } catch (ClassNotFoundException e) {
+      Configuration.logger_.severe("Problem.evaluateBatch: cannot create a " +
+          "solution of problem " + problemName_) ;
+      throw new JMException("Exception in evaluateBatch()") ;
+    }
+    XReal vars = new XReal(solution) ;
+    for (int i = from; i < to; i++) {
+      for (int j = 0; j < numberOfVariables_; j++)
+        vars.setValue(j, x[i][j]) ;
+      evaluate(solution) ;
+      for (int j = 0; j < numberOfObjectives_; j++)
+        f[i][j] = solution.getObjective(j) ;
+    }
+  } // evaluateBatch
+
+  /**
+   * Evaluates all the points of a matrix of decision variables
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @throws JMException
+   */
+  public void evaluateBatch(double [][] x, double [][] f) throws JMException {
+    evaluateBatch(x, f, 0, x.length) ;
+  } // evaluateBatch
+
+  /**
+   * Evaluates the objectives and constraints of the solutions of a list in
+   * the range [from, to). When the problem provides its own matrix version
+   * of evaluateBatch and the solutions are real coded, the decision
+   * variables are gathered in a matrix and evaluated in a single call;
+   * otherwise the solutions are evaluated one at a time.
+   * @param solutions The solutions to evaluate
+   * @param from First index (inclusive)
+   * @param to Last index (exclusive)
+   * @throws JMException
+   */
+  public void evaluateBatch(List<Solution> solutions, int from, int to)
+    throws JMException {
+    if (!hasNativeBatch()) {
+      for (int i = from; i < to; i++) {
+        evaluate(solutions.get(i)) ;
+        evaluateConstraints(solutions.get(i)) ;
+      }
+      return ;
+    }
+
+    int size = to - from ;
+    double [][] x = new double[size][numberOfVariables_] ;
+    double [][] f = new double[size][numberOfObjectives_] ;
+    for (int i = 0; i < size; i++) {
+      XReal vars = new XReal(solutions.get(from + i)) ;
+      for (int j = 0; j < numberOfVariables_; j++)
+        x[i][j] = vars.getValue(j) ;
+    }
+
+    evaluateBatch(x, f, 0, size) ;
+
+    for (int i = 0; i < size; i++) {
+      Solution solution = solutions.get(from + i) ;
+      for (int j = 0; j < numberOfObjectives_; j++)
+        solution.setObjective(j, f[i][j]) ;
+      evaluateConstraints(solution) ;
+    }
+  } // evaluateBatch
+
+  /**
+   * Tells whether evaluateBatch(List, int, int) can use the matrix version
+   * of evaluateBatch
+   */
+  private boolean hasNativeBatch() {
+    if (nativeBatch_ == null) {
+      boolean overridden ;
+      try {
+        overridden = getClass().getMethod("evaluateBatch", double[][].class,
+            double[][].class, int.class, int.class).getDeclaringClass() != Problem.class ;
+      } catch (NoSuchMethodException e) {
+        overridden = false ;
+      }
+      Class<?> type = (solutionType_ == null) ? null : solutionType_.getClass() ;
+      nativeBatch_ = overridden && ((type == RealSolutionType.class) ||
+          (type == BinaryRealSolutionType.class) ||
+          (type == ArrayRealSolutionType.class)) ;
+    }
+    return nativeBatch_ ;
+  } // hasNativeBatch
+
   /**
    * Gets the number of side constraints in the problem.
    * @return the number of constraints.
@@ -208,6 +324,7 @@ public abstract class Problem implements Serializable {
    */
   public void setSolutionType(SolutionType type) {
     solutionType_ = type;
+    nativeBatch_  = null;
   } // setSolutionType
 
   /**
@@ -198,6 +198,11 @@ public class Solution implements Serializable {
     distanceToSolutionSet_ = Double.POSITIVE_INFINITY ;
     //<-
 
+    info_ = new double[3];
+    for(int i = 0; i< info_.length; i++){
+    	info_[i] = -1;
+    }
+
     variable_ = variables ;
   } // Constructor
   
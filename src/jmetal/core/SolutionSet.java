@@ -435,11 +435,126 @@ public class SolutionSet implements Serializable {
     return capacity_ ;
   }
   
+  /**
+   * Tolerance under which two objective values are considered equal by
+   * <code>Suppress</code>
+   */
+  private static final double SUPPRESS_TOLERANCE = 0.00000001 ;
+
   /**
    * delete the same solution 
+   * Two solutions are the same if all their objective values differ by at most
+   * 1e-8; of each group of equal solutions only the first one is kept. The
+   * solutions are hashed by their first two objectives quantized to that
+   * tolerance, so every solution is compared only with the kept solutions of
+   * the neighbouring cells, and the set is compacted in a single pass.
    * */
   public void Suppress() {
-		int decisionnum = solutionsList_.get(0).getNumberOfObjectives();
+    int size = solutionsList_.size() ;
+    if (size == 0)
+      return ;
+    int numberOfObjectives = solutionsList_.get(0).getNumberOfObjectives() ;
+    if (numberOfObjectives == 0)
+      return ;
+
+    // The first two objectives are quantized to cells twice as wide as the
+    // tolerance, so two equal solutions always lie in neighbouring cells
+    // despite the rounding of the quotients
+    int hashed = Math.min(numberOfObjectives, 2) ;
+    long [][] cell = new long[hashed][size] ;
+    for (int i = 0; i < size; i++) {
+      for (int m = 0; m < hashed; m++) {
+        double value = solutionsList_.get(i).getObjective(m) ;
+        // Non finite or huge values cannot be quantized; the comparison of
+        // every pair handles them
+        if (!(Math.abs(value) < 1.0e9)) {
+          suppressPairwise(numberOfObjectives) ;
+          return ;
+        }
+        cell[m][i] = (long)Math.floor(value / (2 * SUPPRESS_TOLERANCE)) ;
+      }
+    }
+
+    // Open addressing table from cells to the last kept solution of the
+    // cell; next[i] links the kept solutions of the same cell
+    int capacity = Integer.highestOneBit(size) * 4 ;
+    long [] keys = new long[capacity] ;
+    int [] heads = new int[capacity] ;
+    Arrays.fill(heads, -1) ;
+    int [] next = new int[size] ;
+
+    int kept = 0 ;
+    for (int i = 0; i < size; i++) {
+      Solution solution = solutionsList_.get(i) ;
+      long c0 = cell[0][i] ;
+      long c1 = (hashed > 1) ? cell[1][i] : 0 ;
+      long spread1 = (hashed > 1) ? 1 : 0 ;
+      boolean duplicated = false ;
+      for (long d0 = -1; (d0 <= 1) && !duplicated; d0++) {
+        for (long d1 = -spread1; (d1 <= spread1) && !duplicated; d1++) {
+          int j = heads[slot(keys, heads, cellKey(c0 + d0, c1 + d1))] ;
+          while ((j >= 0) && !duplicated) {
+            duplicated = sameObjectives(solutionsList_.get(j), solution, numberOfObjectives) ;
+            j = next[j] ;
+          }
+        }
+      }
+      if (!duplicated) {
+        long key = cellKey(c0, c1) ;
+        int h = slot(keys, heads, key) ;
+        keys[h] = key ;
+        next[i] = heads[h] ;
+        heads[h] = i ;
+        kept++ ;
+      } else {
+        next[i] = -2 ;
+      }
+    }
+
+    // Compaction: next[i] == -2 marks the removed solutions
+    int position = 0 ;
+    for (int i = 0; i < size; i++)
+      if (next[i] != -2)
+        solutionsList_.set(position++, solutionsList_.get(i)) ;
+    solutionsList_.subList(kept, size).clear() ;
+  } // Suppress
+
+  /**
+   * Returns the position of a cell in the hash table: the one holding it, or
+   * the empty one where it would be inserted
+   */
+  private int slot(long [] keys, int [] heads, long cell) {
+    int mask = keys.length - 1 ;
+    long hash = cell * 0x9E3779B97F4A7C15L ;
+    int h = (int)(hash ^ (hash >>> 32)) & mask ;
+    while ((heads[h] >= 0) && (keys[h] != cell))
+      h = (h + 1) & mask ;
+    return h ;
+  } // slot
+
+  /**
+   * Combines the cells of the two hashed objectives in a single key
+   */
+  private long cellKey(long cell0, long cell1) {
+    return cell0 * 0x100000001B3L + cell1 ;
+  } // cellKey
+
+  private boolean sameObjectives(Solution solution1, Solution solution2,
+                                 int numberOfObjectives) {
+    for (int m = 0; m < numberOfObjectives; m++) {
+      double diff = solution1.getObjective(m) - solution2.getObjective(m) ;
+      if (diff < 0)
+        diff = -diff ;
+      if (diff > SUPPRESS_TOLERANCE)
+        return false ;
+    }
+    return true ;
+  } // sameObjectives
+
+  /**
+   * Removes the same solutions comparing every pair of them
+   */
+  private void suppressPairwise(int decisionnum) {
 		double diff;
 		for (int k = 0; k < solutionsList_.size(); k++) {
 			for (int l = k + 1; l < solutionsList_.size(); l++) {
@@ -458,6 +573,5 @@ public class SolutionSet implements Serializable {
 				}
 			}
 		}
-  }
+  } // suppressPairwise
 } // SolutionSet
-
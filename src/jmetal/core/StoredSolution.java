@@ -0,0 +1,80 @@
+//  StoredSolution.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.core;
+
+/**
+ * A <code>Solution</code> whose decision variables, objectives and constraint
+ * information live in a slot of a <code>PopulationStore</code>. The other
+ * attributes (rank, crowding distance, fitness, ...) are kept in the object
+ * as in any other solution. Copying a view with
+ * <code>new Solution(view)</code> produces an ordinary, independent solution.
+ */
+public class StoredSolution extends Solution {
+
+  private static final long serialVersionUID = 1L ;
+
+  private final PopulationStore store_ ;
+  private final int slot_ ;
+
+  /**
+   * Constructor. Views are created by <code>PopulationStore.getSolution</code>
+   */
+  StoredSolution(PopulationStore store, int slot, Variable [] variables) {
+    super(store.getProblem(), variables) ;
+    store_ = store ;
+    slot_ = slot ;
+  } // StoredSolution
+
+  public PopulationStore getStore() {
+    return store_ ;
+  } // getStore
+
+  public int getSlot() {
+    return slot_ ;
+  } // getSlot
+
+  public void setObjective(int i, double value) {
+    store_.setObjective(slot_, i, value) ;
+  } // setObjective
+
+  public double getObjective(int i) {
+    return store_.getObjective(slot_, i) ;
+  } // getObjective
+
+  public int getNumberOfObjectives() {
+    return store_.getNumberOfObjectives() ;
+  } // getNumberOfObjectives
+
+  public double getSumobjvalue() {
+    return store_.getObjective(slot_, store_.getNumberOfObjectives() - 1) ;
+  } // getSumobjvalue
+
+  public void setOverallConstraintViolation(double value) {
+    store_.setOverallConstraintViolation(slot_, value) ;
+  } // setOverallConstraintViolation
+
+  public double getOverallConstraintViolation() {
+    return store_.getOverallConstraintViolation(slot_) ;
+  } // getOverallConstraintViolation
+
+  public void setNumberOfViolatedConstraint(int value) {
+    store_.setNumberOfViolatedConstraint(slot_, value) ;
+  } // setNumberOfViolatedConstraint
+
+  public int getNumberOfViolatedConstraint() {
+    return store_.getNumberOfViolatedConstraint(slot_) ;
+  } // getNumberOfViolatedConstraint
+} // StoredSolution
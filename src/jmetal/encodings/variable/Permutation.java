@@ -38,6 +38,24 @@ public class Permutation extends Variable {
    */
   public int size_;
 
+  /**
+   * Stores the objective values computed for the permutation by a problem
+   * supporting delta evaluation, or null if they are not known
+   */
+  private double [] cachedObjectives_ = null;
+
+  /**
+   * Stores the problem which computed cachedObjectives_
+   */
+  private Object cacheOwner_ = null;
+
+  /**
+   * Stores the positions exchanged by the swap applied to the permutation
+   * after its objective values were cached (-1 if there is no such swap)
+   */
+  private int swapPosition1_ = -1;
+  private int swapPosition2_ = -1;
+
   /**
    * Constructor
    */
@@ -114,6 +132,12 @@ public class Permutation extends Variable {
     vector_ = new int[size_];
 
     System.arraycopy(permutation.vector_, 0, vector_, 0, size_);
+
+    if (permutation.cachedObjectives_ != null)
+      cachedObjectives_ = permutation.cachedObjectives_.clone();
+    cacheOwner_    = permutation.cacheOwner_;
+    swapPosition1_ = permutation.swapPosition1_;
+    swapPosition2_ = permutation.swapPosition2_;
   } //Permutation
 
 
@@ -133,6 +157,84 @@ public class Permutation extends Variable {
     return size_;
   } //getNumberOfBits
 
+  /**
+   * Swaps two elements of the permutation. If the objective values of the
+   * permutation are cached, the swap is recorded, so that the problem can
+   * update them instead of evaluating the whole permutation again. Only one
+   * swap is recorded; a second one discards the cached values.
+   * @param pos1 Position of the first element
+   * @param pos2 Position of the second element
+   */
+  public void swap(int pos1, int pos2) {
+    int temp = vector_[pos1];
+    vector_[pos1] = vector_[pos2];
+    vector_[pos2] = temp;
+
+    if (cachedObjectives_ != null) {
+      if (swapPosition1_ == -1) {
+        swapPosition1_ = pos1;
+        swapPosition2_ = pos2;
+      } else
+        invalidateCachedObjectives();
+    } // if
+  } // swap
+
+  /**
+   * Discards the cached objective values. Operators modifying vector_
+   * directly must call this method.
+   */
+  public void invalidateCachedObjectives() {
+    cachedObjectives_ = null;
+    cacheOwner_       = null;
+    swapPosition1_    = -1;
+    swapPosition2_    = -1;
+  } // invalidateCachedObjectives
+
+  /**
+   * Returns the objective values cached by a problem. The array is not
+   * copied.
+   * @param owner The problem evaluating the permutation
+   * @return The objective values, or null if they are not known or were
+   * cached by another problem
+   */
+  public double [] getCachedObjectives(Object owner) {
+    return (cacheOwner_ == owner) ? cachedObjectives_ : null;
+  } // getCachedObjectives
+
+  /**
+   * Caches the objective values of the permutation, which has to be in the
+   * same state it was when they were computed, and forgets the recorded swap
+   * @param owner The problem which computed the values
+   * @param objectives The objective values
+   */
+  public void setCachedObjectives(Object owner, double [] objectives) {
+    if ((cachedObjectives_ == null) || (cachedObjectives_.length != objectives.length))
+      cachedObjectives_ = new double[objectives.length];
+    if (cachedObjectives_ != objectives)
+      System.arraycopy(objectives, 0, cachedObjectives_, 0, objectives.length);
+    cacheOwner_    = owner;
+    swapPosition1_ = -1;
+    swapPosition2_ = -1;
+  } // setCachedObjectives
+
+  /**
+   * Returns the first position of the swap applied after the objective
+   * values were cached
+   * @return The position, or -1 if there is no recorded swap
+   */
+  public int getSwapPosition1() {
+    return swapPosition1_;
+  } // getSwapPosition1
+
+  /**
+   * Returns the second position of the swap applied after the objective
+   * values were cached
+   * @return The position, or -1 if there is no recorded swap
+   */
+  public int getSwapPosition2() {
+    return swapPosition2_;
+  } // getSwapPosition2
+
   /**
    * Returns a string representing the object
    * @return The string
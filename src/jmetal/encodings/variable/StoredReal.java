@@ -0,0 +1,75 @@
+//  StoredReal.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.encodings.variable;
+
+import jmetal.core.PopulationStore;
+import jmetal.core.Variable;
+
+/**
+ * Real decision variable whose value lives in a <code>PopulationStore</code>.
+ * A deep copy is an ordinary <code>Real</code> variable.
+ */
+public class StoredReal extends Variable {
+
+  private static final long serialVersionUID = 1L ;
+
+  private final PopulationStore store_ ;
+  private final int slot_ ;
+  private final int index_ ;
+
+  /**
+   * Constructor
+   * @param store The store
+   * @param slot Slot of the solution
+   * @param index Index of the variable
+   */
+  public StoredReal(PopulationStore store, int slot, int index) {
+    store_ = store ;
+    slot_ = slot ;
+    index_ = index ;
+  } // StoredReal
+
+  public double getValue() {
+    return store_.getVariable(slot_, index_) ;
+  } // getValue
+
+  public void setValue(double value) {
+    store_.setVariable(slot_, index_, value) ;
+  } // setValue
+
+  public double getLowerBound() {
+    return store_.getLowerBounds()[index_] ;
+  } // getLowerBound
+
+  public double getUpperBound() {
+    return store_.getUpperBounds()[index_] ;
+  } // getUpperBound
+
+  public Variable deepCopy() {
+    return new Real(getLowerBound(), getUpperBound(), getValue()) ;
+  } // deepCopy
+
+  /**
+   * Returns the type of the variable, which is the one of the copies
+   */
+  public Class<?> getVariableType() {
+    return Real.class ;
+  } // getVariableType
+
+  public String toString() {
+    return getValue() + "" ;
+  } // toString
+} // StoredReal
@@ -0,0 +1,362 @@
+//  Experiment.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.experiments;
+
+import jmetal.core.Algorithm;
+import jmetal.core.Problem;
+import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.IndicatorTracker;
+import jmetal.qualityIndicator.QualityIndicator;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
+import jmetal.util.SplittableRandomGenerator;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * This class runs the independent runs of an algorithm on a list of problems.
+ * The runs are executed on a work-stealing thread pool; each one draws its
+ * random numbers from its own generator, whose seed depends only on the seed
+ * of the experiment, the problem and the run, so results do not depend on
+ * the number of threads nor on the scheduling. The Pareto front of every
+ * problem is read once and shared by all its runs. At the end, the values of
+ * IGD, HV, GD and generalized spread of every run are written to a file per
+ * problem and indicator, and their medians and interquartile ranges to a
+ * table.
+ */
+public class Experiment {
+  /**
+   * Names of the indicators, in the order they are stored
+   */
+  public static final String [] INDICATORS = {"IGD", "HV", "GD", "SPREAD"} ;
+
+  private String algorithmName_ ;
+  private IAlgorithmSettings settings_ ;
+  private List<ExperimentProblem> problems_ ;
+  private int independentRuns_ ;
+  private int numberOfThreads_ ;
+  private long seed_ ;
+  private String outputDirectory_ ;
+  private boolean writeFronts_ ;
+  private int [] trackedIndicators_ ;
+
+  /**
+   * indicators_[p][i][r]: value of indicator i in run r of problem p
+   */
+  private double [][][] indicators_ ;
+
+  /**
+   * time_[p][r]: computing time (ms) of run r of problem p
+   */
+  private long [][] time_ ;
+
+  /**
+   * Constructor
+   * @param algorithmName Name of the algorithm, used as prefix of the files
+   * @param settings Configuration of the algorithm
+   */
+  public Experiment(String algorithmName, IAlgorithmSettings settings) {
+    algorithmName_ = algorithmName ;
+    settings_ = settings ;
+    problems_ = new ArrayList<ExperimentProblem>() ;
+    independentRuns_ = 30 ;
+    numberOfThreads_ = 0 ;
+    seed_ = 1 ;
+    outputDirectory_ = "." ;
+    writeFronts_ = true ;
+  } // Experiment
+
+  public void addProblem(ExperimentProblem problem) {
+    problems_.add(problem) ;
+  }
+
+  public void setIndependentRuns(int independentRuns) {
+    independentRuns_ = independentRuns ;
+  }
+
+  /**
+   * Sets the number of threads; 0 uses one per available processor
+   */
+  public void setNumberOfThreads(int numberOfThreads) {
+    numberOfThreads_ = numberOfThreads ;
+  }
+
+  public void setSeed(long seed) {
+    seed_ = seed ;
+  }
+
+  public void setOutputDirectory(String outputDirectory) {
+    outputDirectory_ = outputDirectory ;
+  }
+
+  /**
+   * Indicates whether the front obtained by every run is written to a file
+   */
+  public void setWriteFronts(boolean writeFronts) {
+    writeFronts_ = writeFronts ;
+  }
+
+  /**
+   * Records the convergence curve of every run of the problems having a
+   * Pareto front (see <code>IndicatorTracker</code>), in a file named as its
+   * front with the suffix "_curve.csv"; null, the default, disables it
+   * @param indicators Indicators to record (QualityIndicator.IGD, ...)
+   */
+  public void setTrackedIndicators(int [] indicators) {
+    trackedIndicators_ = indicators ;
+  }
+
+  /**
+   * Returns the values of an indicator in every run of a problem, or null if
+   * the problem has no Pareto front
+   * @param problem Index of the problem, in the order they were added
+   * @param indicator Index of the indicator in <code>INDICATORS</code>
+   */
+  public double [] getIndicatorValues(int problem, int indicator) {
+    if (indicators_[problem] == null)
+      return null ;
+    return indicators_[problem][indicator] ;
+  } // getIndicatorValues
+
+  /**
+   * Executes all the runs and writes the results
+   * @throws JMException
+   */
+  public void run() throws JMException {
+    int threads = numberOfThreads_ ;
+    if (threads <= 0)
+      threads = Runtime.getRuntime().availableProcessors() ;
+    new File(outputDirectory_).mkdirs() ;
+
+    int numberOfProblems = problems_.size() ;
+    final Problem [] problems = new Problem[numberOfProblems] ;
+    final QualityIndicator [] references = new QualityIndicator[numberOfProblems] ;
+    indicators_ = new double[numberOfProblems][][] ;
+    time_ = new long[numberOfProblems][independentRuns_] ;
+
+    ForkJoinPool pool = new ForkJoinPool(threads) ;
+    try {
+      // STEP 1. Read the Pareto fronts, in parallel
+      List<Callable<Void>> tasks = new ArrayList<Callable<Void>>() ;
+      for (int p = 0; p < numberOfProblems; p++) {
+        final int problemIndex = p ;
+        tasks.add(new Callable<Void>() {
+          public Void call() throws Exception {
+            ExperimentProblem description = problems_.get(problemIndex) ;
+            problems[problemIndex] = description.createProblem() ;
+            if (description.getParetoFrontFile() != null) {
+              references[problemIndex] = new QualityIndicator(problems[problemIndex],
+                  description.getParetoFrontFile()) ;
+              indicators_[problemIndex] = new double[INDICATORS.length][independentRuns_] ;
+            }
+            return null ;
+          }
+        }) ;
+      } // for
+      execute(pool, tasks) ;
+
+      // STEP 2. Execute the independent runs
+      tasks.clear() ;
+      for (int p = 0; p < numberOfProblems; p++) {
+        for (int r = 0; r < independentRuns_; r++) {
+          final int problemIndex = p ;
+          final int run = r ;
+          tasks.add(new Callable<Void>() {
+            public Void call() throws Exception {
+              runOnce(problemIndex, run, problems[problemIndex].getName(),
+                  references[problemIndex]) ;
+              return null ;
+            }
+          }) ;
+        } // for
+      } // for
+      execute(pool, tasks) ;
+    } finally {
+      pool.shutdown() ;
+    }
+
+    // STEP 3. Write the results
+    for (int p = 0; p < numberOfProblems; p++) {
+      if (indicators_[p] == null)
+        continue ;
+      for (int i = 0; i < INDICATORS.length; i++) {
+        double [] values = indicators_[p][i].clone() ;
+        Arrays.sort(values) ;
+        writeValues(filePrefix(problems[p]) + "_" + INDICATORS[i], values) ;
+      } // for
+    } // for
+    writeTable(problems) ;
+  } // run
+
+  /**
+   * Executes one run
+   */
+  private void runOnce(int problemIndex, int run, String problemName,
+                       QualityIndicator reference) throws JMException {
+    Problem problem = problems_.get(problemIndex).createProblem() ;
+    PseudoRandom.setThreadRandomGenerator(new SplittableRandomGenerator(
+        SplittableRandomGenerator.deriveSeed(
+            SplittableRandomGenerator.deriveSeed(seed_, problemIndex), run))) ;
+    try {
+      Algorithm algorithm = settings_.configure(problem) ;
+      algorithm.setInputParameter("indicators", reference) ;
+      IndicatorTracker tracker = null ;
+      if ((trackedIndicators_ != null) && (reference != null)) {
+        tracker = new IndicatorTracker(reference, trackedIndicators_,
+            filePrefix(problem) + "_T" + (run + 1) + "_curve.csv") ;
+        algorithm.addGenerationListener(tracker) ;
+      }
+
+      long initTime = System.currentTimeMillis() ;
+      SolutionSet population ;
+      try {
+        population = algorithm.execute() ;
+        time_[problemIndex][run] = System.currentTimeMillis() - initTime ;
+      } catch (ClassNotFoundException e) {
+        Configuration.logger_.severe("Experiment.runOnce: " + e) ;
+        throw new JMException("Exception in Experiment.runOnce()") ;
+      } finally {
+        if (tracker != null)
+          tracker.close() ;
+      }
+
+      if (writeFronts_)
+        population.printObjectivesToFile(filePrefix(problem) + "_T" + (run + 1)) ;
+
+      if (reference != null) {
+        double [][] values = indicators_[problemIndex] ;
+        double [] all = reference.computeAll(population) ;
+        values[0][run] = all[QualityIndicator.IGD] ;
+        values[1][run] = all[QualityIndicator.HYPERVOLUME] ;
+        values[2][run] = all[QualityIndicator.GD] ;
+        values[3][run] = all[QualityIndicator.GENERALIZED_SPREAD] ;
+      }
+    } finally {
+      PseudoRandom.setThreadRandomGenerator(null) ;
+    }
+  } // runOnce
+
+  private String filePrefix(Problem problem) {
+    return outputDirectory_ + File.separator + algorithmName_ + "_" +
+           problem.getName() + "_" + problem.getNumberOfObjectives() ;
+  } // filePrefix
+
+  /**
+   * Runs the tasks on the pool, waiting for all of them
+   */
+  private void execute(ForkJoinPool pool, List<Callable<Void>> tasks) throws JMException {
+    List<Future<Void>> futures = pool.invokeAll(tasks) ;
+    for (Future<Void> future : futures) {
+      try {
+        future.get() ;
+      } catch (InterruptedException e) {
+        Configuration.logger_.severe("Experiment.execute: " + e) ;
+        throw new JMException("Exception in Experiment.execute()") ;
+      } catch (ExecutionException e) {
+        Configuration.logger_.severe("Experiment.execute: " + e.getCause()) ;
+        throw new JMException("Exception in Experiment.execute()") ;
+      }
+    } // for
+  } // execute
+
+  /**
+   * Writes the median and the interquartile range of every indicator and of
+   * the computing time
+   */
+  private void writeTable(Problem [] problems) {
+    String path = outputDirectory_ + File.separator + algorithmName_ + "_MedianIQR.txt" ;
+    try {
+      BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path))) ;
+      StringBuilder header = new StringBuilder(String.format("%-12s %3s", "Problem", "M")) ;
+      for (int i = 0; i < INDICATORS.length; i++)
+        header.append(String.format(" %27s", INDICATORS[i] + " median(IQR)")) ;
+      header.append(String.format(" %27s", "TIME(ms) median(IQR)")) ;
+      bw.write(header.toString()) ;
+      bw.newLine() ;
+
+      for (int p = 0; p < problems.length; p++) {
+        StringBuilder line = new StringBuilder(String.format("%-12s %3d",
+            problems[p].getName(), problems[p].getNumberOfObjectives())) ;
+        for (int i = 0; i < INDICATORS.length; i++) {
+          if (indicators_[p] == null)
+            line.append(String.format(" %27s", "-")) ;
+          else
+            line.append(medianIQR(indicators_[p][i])) ;
+        } // for
+        double [] time = new double[independentRuns_] ;
+        for (int r = 0; r < independentRuns_; r++)
+          time[r] = time_[p][r] ;
+        line.append(medianIQR(time)) ;
+        bw.write(line.toString()) ;
+        bw.newLine() ;
+      } // for
+      bw.close() ;
+    } catch (IOException e) {
+      Configuration.logger_.severe("Error acceding to the file");
+      e.printStackTrace();
+    }
+  } // writeTable
+
+  private String medianIQR(double [] values) {
+    double [] sorted = values.clone() ;
+    Arrays.sort(sorted) ;
+    return String.format(" %14.6e(%.4e)", percentile(sorted, 50),
+        percentile(sorted, 75) - percentile(sorted, 25)) ;
+  } // medianIQR
+
+  /**
+   * Returns a percentile of sorted values, interpolating linearly between the
+   * closest ranks
+   */
+  private double percentile(double [] sorted, double percent) {
+    if (sorted.length == 0)
+      return Double.NaN ;
+    double position = (sorted.length - 1) * percent / 100.0 ;
+    int lower = (int) Math.floor(position) ;
+    int upper = (int) Math.ceil(position) ;
+    return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]) ;
+  } // percentile
+
+  /**
+   * Writes values, one per line, in the format used by ADE_MOIA_main
+   */
+  private void writeValues(String path, double [] values) {
+    try {
+      BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path))) ;
+      for (int i = 0; i < values.length; i++) {
+        bw.write(values[i] + " ") ;
+        bw.newLine() ;
+      }
+      bw.close() ;
+    } catch (IOException e) {
+      Configuration.logger_.severe("Error acceding to the file");
+      e.printStackTrace();
+    }
+  } // writeValues
+} // Experiment
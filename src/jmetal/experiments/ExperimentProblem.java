@@ -0,0 +1,62 @@
+//  ExperimentProblem.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.experiments;
+
+import jmetal.core.Problem;
+import jmetal.problems.ProblemFactory;
+import jmetal.util.JMException;
+
+/**
+ * Description of a problem of an <code>Experiment</code>: the name and
+ * constructor parameters used by <code>ProblemFactory</code>, and the file
+ * containing its Pareto front.
+ */
+public class ExperimentProblem {
+  private String name_ ;
+  private Object [] parameters_ ;
+  private String paretoFrontFile_ ;
+
+  /**
+   * Constructor
+   * @param name Name of the problem class, e.g. "ZDT1" or "DTLZ2"
+   * @param parameters Parameters of the constructor, e.g. {"Real", 10, 3}
+   * @param paretoFrontFile File of the Pareto front; if null, no quality
+   * indicators are computed for the problem
+   */
+  public ExperimentProblem(String name, Object [] parameters, String paretoFrontFile) {
+    name_ = name ;
+    parameters_ = parameters ;
+    paretoFrontFile_ = paretoFrontFile ;
+  } // ExperimentProblem
+
+  public String getName() {
+    return name_ ;
+  }
+
+  public String getParetoFrontFile() {
+    return paretoFrontFile_ ;
+  }
+
+  /**
+   * Creates a new instance of the problem. Problems may keep state while
+   * evaluating, so every run works on its own instance.
+   * @throws JMException
+   */
+  public Problem createProblem() throws JMException {
+    return new ProblemFactory().getProblem(name_, parameters_) ;
+  } // createProblem
+} // ExperimentProblem
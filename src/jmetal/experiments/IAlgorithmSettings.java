@@ -0,0 +1,38 @@
+//  IAlgorithmSettings.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.experiments;
+
+import jmetal.core.Algorithm;
+import jmetal.core.Problem;
+import jmetal.util.JMException;
+
+/**
+ * Interface representing the configuration of an algorithm in an
+ * <code>Experiment</code>. Each independent run calls <code>configure</code>
+ * with its own problem instance, so the algorithm and its operators must not
+ * be shared between calls.
+ */
+public interface IAlgorithmSettings {
+  /**
+   * Creates an algorithm, with its parameters and operators, to solve a
+   * problem
+   * @param problem The problem to solve
+   * @return The configured algorithm
+   * @throws JMException
+   */
+  public Algorithm configure(Problem problem) throws JMException ;
+} // IAlgorithmSettings
@@ -1,11 +1,13 @@
 package jmetal.metaheuristics.ADE_MOIA;
 
-import java.awt.List;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.IdentityHashMap;
 
 import jmetal.core.*;
-import jmetal.qualityIndicator.QualityIndicator;
+import jmetal.encodings.solutionType.RealSolutionType;
+import jmetal.operators.crossover.DifferentialEvolutionCrossover;
+import jmetal.operators.crossover.DifferentialEvolutionKernel;
+import jmetal.util.CrowdingDistanceTruncation;
 import jmetal.util.Distance;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
@@ -14,6 +16,7 @@ import jmetal.util.comparators.CrowdingComparator;
 
 import jmetal.util.StdRandom;
 import jmetal.util.comparators.DominanceComparator;
+import jmetal.util.parallel.IParallelEvaluator;
 //import jmetal.util.comparators.*;
 /**
  * Implementation of NSGA-II. This implementation of NSGA-II makes use of a
@@ -25,6 +28,12 @@ import jmetal.util.comparators.DominanceComparator;
  */
 
 public class ADE_MOIA extends Algorithm {
+	/**
+	 * Evaluator used to evaluate the offspring of a generation as a batch;
+	 * null when the solutions are evaluated one at a time
+	 */
+	private IParallelEvaluator parallelEvaluator_;
+
 	/**
 	 * Constructor
 	 * 
@@ -34,6 +43,23 @@ public class ADE_MOIA extends Algorithm {
 	public ADE_MOIA(Problem problem) {
 		super(problem);
 	} // NSGAII
+
+	/**
+	 * Constructor. The offspring of every generation are created first and
+	 * then evaluated together through the parallel evaluator. All the random
+	 * numbers are drawn by the calling thread in the same order as in the
+	 * sequential version, so a fixed seed gives the same result whatever the
+	 * number of threads is.
+	 * 
+	 * @param problem
+	 *            Problem to solve
+	 * @param evaluator
+	 *            Parallel evaluator
+	 */
+	public ADE_MOIA(Problem problem, IParallelEvaluator evaluator) {
+		super(problem);
+		parallelEvaluator_ = evaluator;
+	} // ADE_MOIA
 	/**
 	 * Runs the NSGA-II algorithm.
 	 * 
@@ -51,10 +77,6 @@ public class ADE_MOIA extends Algorithm {
 		double wF = 0.8;
 		double Crm= 0.5;
 		double wCr = 0.9;
-		
-		QualityIndicator indicators; // QualityIndicator object
-		int requiredEvaluations; // Use in the example of use of the
-		// indicators object (see below)
 
 		SolutionSet population;
 		SolutionSet offspringPopulation;
@@ -72,20 +94,18 @@ public class ADE_MOIA extends Algorithm {
 
 		DominanceComparator dominaceCompare = new DominanceComparator();
 		Distance distance = new Distance();
+		CrowdingDistanceTruncation truncation = new CrowdingDistanceTruncation();
 
 		// Read the parameters
 		populationSize = ((Integer) getInputParameter("populationSize"))
 				.intValue();
 		maxEvaluations = ((Integer) getInputParameter("maxEvaluations"))
 				.intValue();
-		indicators = (QualityIndicator) getInputParameter("indicators");
 
 		// Initialize the variables
 		population = new SolutionSet(populationSize);
 		evaluations = 0;
 
-		requiredEvaluations = 0;
-
 		// Read the operators
 		cloneoperator = operators_.get("clone");
 		mutationOperator = operators_.get("mutation");
@@ -94,154 +114,275 @@ public class ADE_MOIA extends Algorithm {
 		//selection operator is null
 		DEselectionOperator = operators_.get("DEselection");
 
-		//1. INIT POPULATION
-		//Create the initial solutionSet
-		Solution newSolution;
-		for (int i = 0; i < populationSize; i++) {
-			newSolution = new Solution(problem_);
-			problem_.evaluate(newSolution);
-			problem_.evaluateConstraints(newSolution);
-			evaluations++;
-			population.add(newSolution);
-		} // for
-		
-		//2.GET THE FIRST FRONT
-		//fast non dominated sort
-		Ranking ranking = new Ranking(population);
-		//get the first front
-		front = ranking.getSubfront(0);
-		//lastfront = ranking.getSubfront(1);
-//		if(lastfront.size()>0)
-//			lastfront.clear();
-		if (ranking.getNumberOfSubfronts()>1)
-		{
-			lastfront = ranking.getSubfront(1);
-			for (int i =2; i < ranking.getNumberOfSubfronts();++i)
-			{
-				lastfront = lastfront.union(ranking.getSubfront(i));
-				//lastfront=lastfront.union(ranking.getSubfront(i));
-			}
-		}
-		else
-		{
-			lastfront = ranking.getSubfront(0);
-		}
-		//sort the front according to the crowding distance
-		distance.crowdingDistanceAssignment(front,
-				problem_.getNumberOfObjectives());
-		front.sort(new CrowdingComparator());
-		population.clear();
-		
-		//get the clone population from the first front
-		for (int k = 0; k < front.size() && k < clonesize; k++) {
-			clonepopulation.add(front.get(k));
-		} // for
-		Archive = front;
-		// Generations
-		ArrayList<Double> Fsuccess=new ArrayList();
-		Double FsuccessSum = 0.0;
-		int it = 0;
-		while (evaluations < maxEvaluations) {
-			//1.CLONE POPULATION
-			population = (SolutionSet) cloneoperator.execute(clonepopulation);
-			// Create the offSpring solutionSet
-			offspringPopulation = new SolutionSet(populationSize);
-			//Solution[] parents = new Solution[2];
-			Solution parents[];
-			//set CR value
-			DEcrossoverOperator.setParameter("CR", 0.55+(1.0/Math.PI)*Math.atan((1.0-(double)evaluations/(double)maxEvaluations-0.8)/0.1));
-			//System.out.println(DEcrossoverOperator.getParameter("CR"));
-			it=it+1;
-			for (int i = 0; i < population.size(); i++) {
-				if (evaluations < maxEvaluations) {
-					// obtain parents
-					parents = (Solution [])DEselectionOperator.execute(new Object[]{population, i});
-					//parent[0],parent[1] select from the first paretof and parent[1]select from the last paretof
-			        parents[1]=lastfront.get(PseudoRandom.randInt(0, lastfront.size()-1));
-					Solution offSpring;
-			        // Crossover. Two parameters are required: the current individual and the 
-			        //            array of parents
-			        double Fmtemp;
-			        do
-			        {
-			        	Fmtemp = StdRandom.cauchy(Fm, 0.1);
-			        }while(Fmtemp<=0.1 || Fmtemp>=0.9);
-			        DEcrossoverOperator.setParameter("F", Fmtemp);
-			        offSpring = (Solution)DEcrossoverOperator.execute(new Object[]{population.get(i), parents}) ;
-					mutationOperator.execute(offSpring);
-					problem_.evaluate(offSpring);
-					problem_.evaluateConstraints(offSpring);
-					offspringPopulation.add(offSpring);
-					// offspringPopulation.add(offSpring[1]);
-					int dominance;
-					dominance = dominaceCompare.compare(offSpring,population.get(i));
-					if(dominance == -1)
-					{
-						//¼Fֵ
-						Fsuccess.add((Double) DEcrossoverOperator.getParameter("F"));
-						//Crsuccess.add((Double) DEcrossoverOperator.getParameter("CR"));
-					}
-					evaluations += 1;
-				} // if
-			} // for
-			
-			if(Fsuccess.size()>0.1*populationSize)
-			{
-				//Fһε
-				for(int i=0;i<Fsuccess.size();++i)
-				{
-					FsuccessSum += Fsuccess.get(i);
-				}
-				Fm =FsuccessSum/(double)Fsuccess.size();
-				//System.out.println("FF:"+Fm);
-				Fsuccess.clear();FsuccessSum=0.0;
-			}
-			
-			// Create the solutionSet union of solutionSet and offSpring
-			union = ((SolutionSet) Archive).union(offspringPopulation);
-			union.Suppress();
-			
-			// Ranking the union
-			ranking = new Ranking(union);
-
-			Archive.clear();
-			clonepopulation.clear();
+		if (parallelEvaluator_ != null)
+			parallelEvaluator_.startEvaluator(problem_);
+		// The evaluator threads are not daemons, so they are always stopped
+		try {
 
+			//1. INIT POPULATION
+			//Create the initial solutionSet
+			Solution newSolution;
+			for (int i = 0; i < populationSize; i++) {
+				newSolution = new Solution(problem_);
+				if (parallelEvaluator_ == null) {
+					problem_.evaluate(newSolution);
+					problem_.evaluateConstraints(newSolution);
+				} else {
+					parallelEvaluator_.addSolutionForEvaluation(newSolution);
+				}
+				evaluations++;
+				population.add(newSolution);
+			} // for
+			if (parallelEvaluator_ != null && populationSize > 0)
+				parallelEvaluator_.parallelEvaluation();
+		
+			//2.GET THE FIRST FRONT
+			//fast non dominated sort
+			Ranking ranking = new Ranking(population);
+			//get the first front
 			front = ranking.getSubfront(0);
-			//GET DA 
+			//lastfront = ranking.getSubfront(1);
+	//		if(lastfront.size()>0)
+	//			lastfront.clear();
 			if (ranking.getNumberOfSubfronts()>1)
 			{
-				lastfront.clear();
 				lastfront = ranking.getSubfront(1);
 				for (int i =2; i < ranking.getNumberOfSubfronts();++i)
 				{
-					lastfront=lastfront.union(ranking.getSubfront(i));
+					lastfront = lastfront.union(ranking.getSubfront(i));
+					//lastfront=lastfront.union(ranking.getSubfront(i));
 				}
 			}
 			else
 			{
-				lastfront.clear();
 				lastfront = ranking.getSubfront(0);
 			}
+			//sort the front according to the crowding distance
 			distance.crowdingDistanceAssignment(front,
 					problem_.getNumberOfObjectives());
-			
-			front.Suppress();
-			// Remain is less than front(index).size, insert only the best one
 			front.sort(new CrowdingComparator());
+			population.clear();
+		
+			//get the clone population from the first front
+			for (int k = 0; k < front.size() && k < clonesize; k++) {
+				clonepopulation.add(front.get(k));
+			} // for
+			Archive = front;
+			notifyGenerationListeners(0, evaluations, Archive);
 
-			while (front.size() > populationSize) {
-				front.remove(front.size() - 1);
+			// Real-coded problems with DifferentialEvolutionCrossover use the
+			// primitive-array DE kernel: the variables of the clones and of the
+			// last fronts are copied to stores once per generation, the trial
+			// vector is written into a buffer, and the offspring discarded by the
+			// archive are reused as children of the next generation
+			PopulationStore cloneStore = null;
+			PopulationStore lastfrontStore = null;
+			IdentityHashMap<Solution, Integer> cloneSlots = null;
+			ArrayList<Solution> freeOffspring = null;
+			double[] trial = null;
+			int numberOfVariables = problem_.getNumberOfVariables();
+			if ((DEcrossoverOperator instanceof DifferentialEvolutionCrossover)
+					&& (problem_.getSolutionType().getClass() == RealSolutionType.class)) {
+				cloneStore = new PopulationStore(problem_, populationSize);
+				lastfrontStore = new PopulationStore(problem_, populationSize);
+				cloneSlots = new IdentityHashMap<Solution, Integer>();
+				freeOffspring = new ArrayList<Solution>();
+				trial = new double[numberOfVariables];
+				lastfrontStore.addAll(lastfront);
+			}
+
+			// Generations
+			ArrayList<Double> Fsuccess=new ArrayList();
+			Double FsuccessSum = 0.0;
+			int it = 0;
+			while (evaluations < maxEvaluations) {
+				//1.CLONE POPULATION
+				population = (SolutionSet) cloneoperator.execute(clonepopulation);
+				// Create the offSpring solutionSet
+				offspringPopulation = new SolutionSet(populationSize);
+				//Solution[] parents = new Solution[2];
+				Solution parents[];
+				//set CR value
+				DEcrossoverOperator.setParameter("CR", 0.55+(1.0/Math.PI)*Math.atan((1.0-(double)evaluations/(double)maxEvaluations-0.8)/0.1));
+				//System.out.println(DEcrossoverOperator.getParameter("CR"));
+				it=it+1;
+				// offspring pending of evaluation and their F values (batch mode)
+				ArrayList<Solution> pendingOffspring = new ArrayList<Solution>();
+				ArrayList<Double> pendingF = new ArrayList<Double>();
+				if (cloneStore != null) {
+					cloneStore.clear();
+					cloneSlots.clear();
+					for (int k = 0; k < population.size(); k++) {
+						if (!cloneSlots.containsKey(population.get(k)))
+							cloneSlots.put(population.get(k), cloneStore.add(population.get(k)));
+					}
+				}
+				for (int i = 0; i < population.size(); i++) {
+					if (evaluations + pendingOffspring.size() < maxEvaluations) {
+						// obtain parents
+						parents = (Solution [])DEselectionOperator.execute(new Object[]{population, i});
+						//parent[0],parent[1] select from the first paretof and parent[1]select from the last paretof
+						int lastfrontIndex = PseudoRandom.randInt(0, lastfront.size()-1);
+				        parents[1]=lastfront.get(lastfrontIndex);
+						Solution offSpring;
+				        // Crossover. Two parameters are required: the current individual and the 
+				        //            array of parents
+				        double Fmtemp;
+				        do
+				        {
+				        	Fmtemp = StdRandom.cauchy(Fm, 0.1);
+				        }while(Fmtemp<=0.1 || Fmtemp>=0.9);
+				        DEcrossoverOperator.setParameter("F", Fmtemp);
+				        if (cloneStore != null) {
+				        	DifferentialEvolutionKernel kernel =
+				        			((DifferentialEvolutionCrossover) DEcrossoverOperator).getKernel();
+				        	double[] clones = cloneStore.getVariables();
+				        	kernel.trial(clones, cloneSlots.get(population.get(i)) * numberOfVariables,
+				        			clones, cloneSlots.get(parents[0]) * numberOfVariables,
+				        			lastfrontStore.getVariables(), lastfrontIndex * numberOfVariables,
+				        			clones, cloneSlots.get(parents[2]) * numberOfVariables,
+				        			cloneStore.getLowerBounds(), cloneStore.getUpperBounds(),
+				        			trial, 0, numberOfVariables);
+				        	offSpring = newOffspring(population.get(i), trial, freeOffspring);
+				        } else
+				        	offSpring = (Solution)DEcrossoverOperator.execute(new Object[]{population.get(i), parents}) ;
+						mutationOperator.execute(offSpring);
+						if (parallelEvaluator_ != null) {
+							parallelEvaluator_.addSolutionForEvaluation(offSpring);
+							pendingOffspring.add(offSpring);
+							pendingF.add(Fmtemp);
+							continue;
+						}
+						problem_.evaluate(offSpring);
+						problem_.evaluateConstraints(offSpring);
+						offspringPopulation.add(offSpring);
+						// offspringPopulation.add(offSpring[1]);
+						int dominance;
+						dominance = dominaceCompare.compare(offSpring,population.get(i));
+						if(dominance == -1)
+						{
+							//记录该F值
+							Fsuccess.add((Double) DEcrossoverOperator.getParameter("F"));
+							//Crsuccess.add((Double) DEcrossoverOperator.getParameter("CR"));
+						}
+						evaluations += 1;
+					} // if
+				} // for
+
+				if (pendingOffspring.size() > 0) {
+					parallelEvaluator_.parallelEvaluation();
+					// pendingOffspring.get(i) was created from population.get(i)
+					for (int i = 0; i < pendingOffspring.size(); i++) {
+						Solution offSpring = pendingOffspring.get(i);
+						offspringPopulation.add(offSpring);
+						if (dominaceCompare.compare(offSpring, population.get(i)) == -1)
+							Fsuccess.add(pendingF.get(i));
+						evaluations += 1;
+					} // for
+				} // if
+			
+				if(Fsuccess.size()>0.1*populationSize)
+				{
+					//计算F下一次迭代的中心
+					for(int i=0;i<Fsuccess.size();++i)
+					{
+						FsuccessSum += Fsuccess.get(i);
+					}
+					Fm =FsuccessSum/(double)Fsuccess.size();
+					//System.out.println("FF:"+Fm);
+					Fsuccess.clear();FsuccessSum=0.0;
+				}
+			
+				// Create the solutionSet union of solutionSet and offSpring
+				union = ((SolutionSet) Archive).union(offspringPopulation);
+				union.Suppress();
+			
+				// Ranking the union
+				ranking = new Ranking(union);
+
+				Archive.clear();
+				clonepopulation.clear();
+
+				front = ranking.getSubfront(0);
+				//GET DA 
+				if (ranking.getNumberOfSubfronts()>1)
+				{
+					lastfront.clear();
+					lastfront = ranking.getSubfront(1);
+					for (int i =2; i < ranking.getNumberOfSubfronts();++i)
+					{
+						lastfront=lastfront.union(ranking.getSubfront(i));
+					}
+				}
+				else
+				{
+					lastfront.clear();
+					lastfront = ranking.getSubfront(0);
+				}
 				distance.crowdingDistanceAssignment(front,
 						problem_.getNumberOfObjectives());
+			
+				front.Suppress();
+				// Remain is less than front(index).size, insert only the best one
 				front.sort(new CrowdingComparator());
-			}
-			Archive = front;// mutationOperator.setParameter("distributionIndex",18.0+4*front.size()/Archivesize);
-			for (int k = 0; k < clonesize && k < front.size(); k++) {
-				clonepopulation.add(front.get(k));
-			}
-		} // while
+
+				// remove the most crowded solutions one at a time
+				truncation.execute(front, populationSize,
+						problem_.getNumberOfObjectives());
+				if (cloneStore != null) {
+					// lastfront is only read through lastfrontStore, so the
+					// offspring which did not enter the archive can be reused
+					lastfrontStore.clear();
+					lastfrontStore.addAll(lastfront);
+					cloneSlots.clear();
+					for (int k = 0; k < front.size(); k++)
+						cloneSlots.put(front.get(k), k);
+					for (int k = 0; k < offspringPopulation.size(); k++) {
+						if (!cloneSlots.containsKey(offspringPopulation.get(k)))
+							freeOffspring.add(offspringPopulation.get(k));
+					}
+				}
+				Archive = front;// mutationOperator.setParameter("distributionIndex",18.0+4*front.size()/Archivesize);
+				for (int k = 0; k < clonesize && k < front.size(); k++) {
+					clonepopulation.add(front.get(k));
+				}
+				notifyGenerationListeners(it, evaluations, Archive);
+			} // while
+		} finally {
+			if (parallelEvaluator_ != null)
+				parallelEvaluator_.stopEvaluator();
+		}
 
 		return Archive;
 	} // execute
+
+	/**
+	 * Creates the child of the current solution whose variables are those of
+	 * a trial vector. The child is taken from the discarded offspring if
+	 * there are any, so that no memory is allocated; otherwise it is a copy
+	 * of the current solution, as in DifferentialEvolutionCrossover.
+	 * @param current The current solution
+	 * @param trial The trial vector
+	 * @param freeOffspring Discarded offspring, which can be reused
+	 * @return The child
+	 * @throws JMException
+	 */
+	private Solution newOffspring(Solution current, double[] trial,
+			ArrayList<Solution> freeOffspring) throws JMException {
+		Solution child;
+		if (freeOffspring.isEmpty()) {
+			child = new Solution(current);
+		} else {
+			child = freeOffspring.remove(freeOffspring.size() - 1);
+			child.setOverallConstraintViolation(current.getOverallConstraintViolation());
+			child.setNumberOfViolatedConstraint(current.getNumberOfViolatedConstraint());
+			child.setRank(current.getRank());
+			child.setCrowdingDistance(current.getCrowdingDistance());
+			child.setFitness(current.getFitness());
+		}
+		Variable[] variables = child.getDecisionVariables();
+		for (int j = 0; j < trial.length; j++)
+			variables[j].setValue(trial[j]);
+		return child;
+	} // newOffspring
 } // NSGA-II
\ No newline at end of file
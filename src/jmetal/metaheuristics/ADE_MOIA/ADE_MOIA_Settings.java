@@ -0,0 +1,76 @@
+package jmetal.metaheuristics.ADE_MOIA;
+
+import java.util.HashMap;
+
+import jmetal.core.Algorithm;
+import jmetal.core.Operator;
+import jmetal.core.Problem;
+import jmetal.experiments.IAlgorithmSettings;
+import jmetal.operators.clone.CloneFactory;
+import jmetal.operators.crossover.CrossoverFactory;
+import jmetal.operators.mutation.MutationFactory;
+import jmetal.operators.selection.SelectionFactory;
+import jmetal.util.JMException;
+
+/**
+ * Default configuration of ADE_MOIA: population of 100 solutions, 25000
+ * evaluations, proportional cloning, DE crossover and polynomial mutation.
+ */
+public class ADE_MOIA_Settings implements IAlgorithmSettings {
+	public int populationSize_ = 100;
+	public int maxEvaluations_ = 25000;
+	public int cloneSize_ = 100;
+	public double CR_ = 0.5;
+	public double F_ = 0.5;
+	public double distributionIndex_ = 20.0;
+
+	/**
+	 * Configures an ADE_MOIA instance to solve a problem
+	 * @param problem The problem to solve
+	 * @return The configured algorithm
+	 * @throws JMException
+	 */
+	public Algorithm configure(Problem problem) throws JMException {
+		Algorithm algorithm; // The algorithm to use
+		Operator clone; // Clone operator
+		Operator DEcrossover; // DE Crossover operator
+		Operator mutation; // Mutation operator
+		Operator DEselection; // selection operator
+		HashMap<String, Object> parameters; // Operator parameters
+
+		algorithm = new ADE_MOIA(problem);
+
+		// Algorithm parameters
+		algorithm.setInputParameter("populationSize", populationSize_);
+		algorithm.setInputParameter("maxEvaluations", maxEvaluations_);
+
+		// Clone operator
+		parameters = new HashMap<String, Object>();
+		parameters.put("clonesize", cloneSize_);
+		clone = CloneFactory.getClone("proportionalclone", parameters);
+
+		// DE Crossover operator
+		parameters = new HashMap<String, Object>();
+		parameters.put("CR", CR_);
+		parameters.put("F", F_);
+		DEcrossover = CrossoverFactory.getCrossoverOperator("DifferentialEvolutionCrossover", parameters);
+
+		// DE SELECTION
+		parameters = null;
+		DEselection = SelectionFactory.getSelectionOperator("DifferentialEvolutionSelection", parameters);
+
+		// PM
+		parameters = new HashMap<String, Object>();
+		parameters.put("probability", 1.0 / problem.getNumberOfVariables());
+		parameters.put("distributionIndex", distributionIndex_);
+		mutation = MutationFactory.getMutationOperator("PolynomialMutation", parameters);
+
+		// Add the operators to the algorithm
+		algorithm.addOperator("clone", clone);
+		algorithm.addOperator("mutation", mutation);
+		algorithm.addOperator("DEcrossover", DEcrossover);
+		algorithm.addOperator("DEselection", DEselection);
+
+		return algorithm;
+	} // configure
+} // ADE_MOIA_Settings
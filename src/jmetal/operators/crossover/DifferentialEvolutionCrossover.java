@@ -83,6 +83,8 @@ public class DifferentialEvolutionCrossover extends Crossover {
 	private double K_   ;
 	private String DE_Variant_ ; // DE variant (rand/1/bin, rand/1/exp, etc.)
 
+	private DifferentialEvolutionKernel kernel_ ; // created by getKernel
+
 	/**
 	 * Constructor
 	 */
@@ -118,11 +120,9 @@ public class DifferentialEvolutionCrossover extends Crossover {
 	//} // Constructor
 
 	/**
-	 * Executes the operation
-	 * @param object An object containing an array of three parents
-	 * @return An object containing the offSprings
+	 * Reads the parameters which may have been changed with setParameter
 	 */
-	public Object execute(Object object) throws JMException {
+	private void readParameters() {
 		if (parameters_.get("CR") != null)
 	  		CR_ = (Double) parameters_.get("CR") ;  		
 	  	if (parameters_.get("F") != null)
@@ -131,6 +131,32 @@ public class DifferentialEvolutionCrossover extends Crossover {
 	  		K_ = (Double) parameters_.get("K") ;  		
 	  	if (parameters_.get("DE_VARIANT") != null)
 	  		DE_Variant_ = (String) parameters_.get("DE_VARIANT") ;
+	} // readParameters
+
+	/**
+	 * Returns a kernel computing, on primitive arrays, the same trial vectors
+	 * as execute with the current parameters of the operator. The kernel is
+	 * reused between calls, so it must be obtained again after changing the
+	 * parameters.
+	 * @return The kernel
+	 * @throws JMException If the DE variant is unknown
+	 */
+	public DifferentialEvolutionKernel getKernel() throws JMException {
+		readParameters() ;
+		if ((kernel_ == null) || !kernel_.getVariant().equals(DE_Variant_))
+			kernel_ = new DifferentialEvolutionKernel(DE_Variant_, CR_, F_, K_) ;
+		else
+			kernel_.setParameters(CR_, F_, K_) ;
+		return kernel_ ;
+	} // getKernel
+
+	/**
+	 * Executes the operation
+	 * @param object An object containing an array of three parents
+	 * @return An object containing the offSprings
+	 */
+	public Object execute(Object object) throws JMException {
+		readParameters() ;
 		Object[] parameters = (Object[])object ;
 		Solution current   = (Solution) parameters[0];
 		Solution [] parent = (Solution [])parameters[1];
@@ -0,0 +1,178 @@
+//  DifferentialEvolutionKernel.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.operators.crossover;
+
+import jmetal.util.Configuration;
+import jmetal.util.IRandomGenerator;
+import jmetal.util.JMException;
+import jmetal.util.PseudoRandom;
+
+/**
+ * This class computes the trial vectors of
+ * <code>DifferentialEvolutionCrossover</code> on primitive arrays. The
+ * vectors are read from and written to <code>double</code> arrays at given
+ * offsets (e.g. the slots of a <code>PopulationStore</code>), so no solutions
+ * or wrappers are created. For the same parameters and the same state of
+ * <code>PseudoRandom</code>, the trial vector and the random numbers drawn are
+ * exactly those of <code>DifferentialEvolutionCrossover.execute</code>.
+ * Supported variants: rand/1/bin, rand/1/exp, current-to-rand/1,
+ * current-to-rand/1/bin and current-to-rand/1/exp, and their best
+ * counterparts.
+ */
+public class DifferentialEvolutionKernel {
+  private static final int RAND_1_BIN = 0 ;
+  private static final int RAND_1_EXP = 1 ;
+  private static final int CURRENT_TO_RAND_1 = 2 ;
+  private static final int CURRENT_TO_RAND_1_BIN = 3 ;
+  private static final int CURRENT_TO_RAND_1_EXP = 4 ;
+
+  private String variantName_ ;
+  private int variant_ ;
+  private double CR_ ;
+  private double F_ ;
+  private double K_ ;
+
+  /**
+   * Constructor
+   * @param variant DE variant, e.g. "rand/1/bin"
+   * @param CR Crossover control value
+   * @param F Scaling factor
+   * @param K Weight of the current-to-rand/1 variants
+   * @throws JMException If the variant is unknown
+   */
+  public DifferentialEvolutionKernel(String variant, double CR, double F, double K) throws JMException {
+    variantName_ = variant ;
+    if (variant.equals("rand/1/bin") || variant.equals("best/1/bin"))
+      variant_ = RAND_1_BIN ;
+    else if (variant.equals("rand/1/exp") || variant.equals("best/1/exp"))
+      variant_ = RAND_1_EXP ;
+    else if (variant.equals("current-to-rand/1") || variant.equals("current-to-best/1"))
+      variant_ = CURRENT_TO_RAND_1 ;
+    else if (variant.equals("current-to-rand/1/bin") || variant.equals("current-to-best/1/bin"))
+      variant_ = CURRENT_TO_RAND_1_BIN ;
+    else if (variant.equals("current-to-rand/1/exp") || variant.equals("current-to-best/1/exp"))
+      variant_ = CURRENT_TO_RAND_1_EXP ;
+    else {
+      Configuration.logger_.severe("DifferentialEvolutionKernel: " +
+          " unknown DE variant (" + variant + ")") ;
+      throw new JMException("Exception in DifferentialEvolutionKernel constructor") ;
+    }
+    setParameters(CR, F, K) ;
+  } // DifferentialEvolutionKernel
+
+  public String getVariant() {
+    return variantName_ ;
+  }
+
+  /**
+   * Sets the control parameters
+   * @param CR Crossover control value
+   * @param F Scaling factor
+   * @param K Weight of the current-to-rand/1 variants
+   */
+  public void setParameters(double CR, double F, double K) {
+    CR_ = CR ;
+    F_ = F ;
+    K_ = K ;
+  } // setParameters
+
+  /**
+   * Computes a trial vector
+   * @param current Array containing the current vector
+   * @param currentOffset Position of the current vector in its array
+   * @param parent0 Array containing the first parent
+   * @param offset0 Position of the first parent in its array
+   * @param parent1 Array containing the second parent
+   * @param offset1 Position of the second parent in its array
+   * @param parent2 Array containing the third parent (the base vector)
+   * @param offset2 Position of the third parent in its array
+   * @param lowerBounds Lower bounds of the variables
+   * @param upperBounds Upper bounds of the variables
+   * @param trial Array receiving the trial vector
+   * @param trialOffset Position of the trial vector in its array
+   * @param numberOfVariables Length of the vectors
+   */
+  public void trial(double [] current, int currentOffset,
+                    double [] parent0, int offset0,
+                    double [] parent1, int offset1,
+                    double [] parent2, int offset2,
+                    double [] lowerBounds, double [] upperBounds,
+                    double [] trial, int trialOffset,
+                    int numberOfVariables) {
+    // same draws as PseudoRandom.randInt(0, n-1) and PseudoRandom.randDouble()
+    IRandomGenerator random = PseudoRandom.getRandomGenerator() ;
+    int jrand = random.nextInt(numberOfVariables - 1) ;
+    double CR = CR_ ;
+    double F = F_ ;
+    double K = K_ ;
+
+    switch (variant_) {
+      case RAND_1_BIN:
+      case RAND_1_EXP:
+        for (int j = 0; j < numberOfVariables; j++) {
+          double value ;
+          if (random.nextDouble() < CR || j == jrand) {
+            value = parent2[offset2 + j] + F * (parent0[offset0 + j] - parent1[offset1 + j]) ;
+            if (value < lowerBounds[j])
+              value = lowerBounds[j] ;
+            if (value > upperBounds[j])
+              value = upperBounds[j] ;
+          } else {
+            // in the exponential variants, the first rejected gene ends the
+            // crossover
+            if (variant_ == RAND_1_EXP)
+              CR = 0.0 ;
+            value = current[currentOffset + j] ;
+          }
+          trial[trialOffset + j] = value ;
+        } // for
+        break ;
+
+      case CURRENT_TO_RAND_1:
+        for (int j = 0; j < numberOfVariables; j++) {
+          double c = current[currentOffset + j] ;
+          double value = c + K * (parent2[offset2 + j] - c) +
+                         F * (parent0[offset0 + j] - parent1[offset1 + j]) ;
+          if (value < lowerBounds[j])
+            value = lowerBounds[j] ;
+          if (value > upperBounds[j])
+            value = upperBounds[j] ;
+          trial[trialOffset + j] = value ;
+        } // for
+        break ;
+
+      default: // CURRENT_TO_RAND_1_BIN, CURRENT_TO_RAND_1_EXP
+        for (int j = 0; j < numberOfVariables; j++) {
+          double c = current[currentOffset + j] ;
+          double value ;
+          if (random.nextDouble() < CR || j == jrand) {
+            value = c + K * (parent2[offset2 + j] - c) +
+                    F * (parent0[offset0 + j] - parent1[offset1 + j]) ;
+            if (value < lowerBounds[j])
+              value = lowerBounds[j] ;
+            if (value > upperBounds[j])
+              value = upperBounds[j] ;
+          } else {
+            if (variant_ == CURRENT_TO_RAND_1_EXP)
+              CR = 0.0 ;
+            value = c ;
+          }
+          trial[trialOffset + j] = value ;
+        } // for
+    } // switch
+  } // trial
+} // DifferentialEvolutionKernel
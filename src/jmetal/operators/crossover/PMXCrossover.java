@@ -137,6 +137,10 @@ public class PMXCrossover extends Crossover {
         offspring1Vector[i] = n1;
         offspring2Vector[i] = n2;
       } // for
+
+      // The offspring have to be fully evaluated
+      ((Permutation) offspring[0].getDecisionVariables()[0]).invalidateCachedObjectives();
+      ((Permutation) offspring[1].getDecisionVariables()[0]).invalidateCachedObjectives();
     } // if
 
     return offspring;
@@ -230,7 +230,7 @@ public class SPXCrossover extends Crossover {
 
   public static void main(String[] args) throws ClassNotFoundException, JMException, Exception 
   {
-		//1:ZDT4popsize and get it's first front
+		//1:对ZDT4生成popsize个个体 and get it's first front
 	    Problem problem = new ZDT4("Real",10);
 	    int popsize = 100;
 	    SolutionSet population = new SolutionSet (popsize);
@@ -150,6 +150,10 @@ public class TwoPointsCrossover extends Crossover {
 							offspring2Vector[m++] = temp;
 						} // if
 					} // for
+
+					// The offspring have to be fully evaluated
+					((Permutation)offspring[0].getDecisionVariables()[0]).invalidateCachedObjectives() ;
+					((Permutation)offspring[1].getDecisionVariables()[0]).invalidateCachedObjectives() ;
 				} // if 
 			} // if
 			else
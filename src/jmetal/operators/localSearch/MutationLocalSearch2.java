@@ -307,7 +307,7 @@ public class MutationLocalSearch2 extends LocalSearch {
   } // evaluations
   
   public static void main(String[] args) throws ClassNotFoundException, JMException, Exception {
-		//ZDT4popsize
+		//对ZDT4生成popsize个个体
 	    Problem problem = new ZDT4("Real",10);
 	    int popsize = 100;
 	    SolutionSet population = new SolutionSet (popsize);
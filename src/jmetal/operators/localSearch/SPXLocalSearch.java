@@ -316,7 +316,7 @@ public class SPXLocalSearch extends LocalSearch {
   } // evaluations
   
   public static void main(String[] args) throws ClassNotFoundException, JMException, Exception {
-		//ZDT45
+		//对ZDT4生成5个个体
 	    Problem problem = new ZDT4("Real",10);
 	    int popsize = 100;
 	    SolutionSet population = new SolutionSet (popsize);
@@ -27,12 +27,12 @@ import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
+import jmetal.util.StdRandom;
 import jmetal.util.wrapper.XReal;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
 
 /**
  * This class implements a polynomial mutation operator.
@@ -73,7 +73,6 @@ public class GaussianMutation extends Mutation {
 		double y, yl, yu;
 		XReal x = new XReal(solution);
 		for (int var = 0; var < solution.numberOfVariables(); var++) {
-			Random r=new Random();
 			if (PseudoRandom.randDouble() <= probability) {
 				y = x.getValue(var);
 				yl = x.getLowerBound(var);
@@ -81,9 +80,9 @@ public class GaussianMutation extends Mutation {
 				
 				rnd = PseudoRandom.randDouble();
 				if (rnd <= 0.5) {
-					deltaq =  0.1*r.nextGaussian();
+					deltaq =  0.1*StdRandom.gaussian();
 				} else {
-					deltaq = -0.1*r.nextGaussian();
+					deltaq = -0.1*StdRandom.gaussian();
 				}
 				y = y + deltaq * (yu - yl);
 				if (y < yl)
@@ -69,12 +69,10 @@ public class SwapMutation extends Mutation{
    * @throws JMException 
    */
   public void doMutation(double probability, Solution solution) throws JMException {   
-    int permutation[] ;
     int permutationLength ;
 	    if (solution.getType().getClass() == PermutationSolutionType.class) {
 
 	      permutationLength = ((Permutation)solution.getDecisionVariables()[0]).getLength() ;
-	      permutation = ((Permutation)solution.getDecisionVariables()[0]).vector_ ;
 
 	      if (PseudoRandom.randDouble() < probability) {
 	        int pos1 ;
@@ -89,10 +87,8 @@ public class SwapMutation extends Mutation{
 	          else 
 	            pos2 = PseudoRandom.randInt(pos1, permutationLength- 1);
 	        } // while
-	        // swap
-	        int temp = permutation[pos1];
-	        permutation[pos1] = permutation[pos2];
-	        permutation[pos2] = temp;    
+	        // swap (recorded by the permutation for delta evaluation)
+	        ((Permutation)solution.getDecisionVariables()[0]).swap(pos1, pos2);
 	      } // if
 	    } // if
 	    else  {
@@ -27,12 +27,12 @@ import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.Configuration;
 import jmetal.util.JMException;
 import jmetal.util.PseudoRandom;
+import jmetal.util.StdRandom;
 import jmetal.util.wrapper.XReal;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
 
 /**
  * This class implements a polynomial mutation operator.
@@ -79,7 +79,6 @@ public class iAdaptiveMutation extends Mutation {
 	    XReal x = new XReal(solution);
 	    for (int var=0; var < solution.numberOfVariables(); var++)
 	    {
-	    	Random r=new Random();
 	      if (PseudoRandom.randDouble() <= probability)
 	      {
 	        y      = x.getValue(var);
@@ -123,7 +122,7 @@ public class iAdaptiveMutation extends Mutation {
 	        	}
 	        	//deltaq = Math.exp(solution.getCrowdingDistance()/solution.getmaxDistance())*solution.getmutationscale(); 
 	        }
-	        y = y + deltaq*r.nextGaussian()*(yu-yl);
+	        y = y + deltaq*StdRandom.gaussian()*(yu-yl);
 	        //solution.age_=0;
 	        //solution.setmutationscale(PseudoRandom.randDouble());
 	       // System.out.print(solution.getmutationscale()+"  ");
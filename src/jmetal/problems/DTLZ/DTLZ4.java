@@ -80,22 +80,45 @@ public class DTLZ4 extends Problem{
   */      
   public void evaluate(Solution solution) throws JMException {
     Variable[] gen  = solution.getDecisionVariables();
-  
     double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
-    double alpha = 100.0;
-    int k = numberOfVariables_ - numberOfObjectives_ + 1;
-  
     for (int i = 0; i < numberOfVariables_; i++)
       x[i] = gen[i].getValue();
 
+    evaluate(x, f) ;
+
+    for (int i = 0; i < numberOfObjectives_; i++)
+      solution.setObjective(i,f[i]);
+  } // evaluate
+
+  /**
+   * Evaluates a batch of points without creating solutions
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    for (int i = from; i < to; i++)
+      evaluate(x[i], f[i]) ;
+  } // evaluateBatch
+
+  /**
+   * Computes the objectives of a point
+   * @param x Decision variables
+   * @param f Objectives
+   */
+  private void evaluate(double [] x, double [] f) {
+    double alpha = 100.0;
+    int k = numberOfVariables_ - numberOfObjectives_ + 1;
+
     double g = 0.0;
     for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
       g += (x[i] - 0.5)*(x[i] - 0.5);                
-        
+
     for (int i = 0; i < numberOfObjectives_; i++)
       f[i] = 1.0 + g;
-        
+
     for (int i = 0; i < numberOfObjectives_; i++) {
       for (int j = 0; j < numberOfObjectives_ - (i + 1); j++)            
         f[i] *= java.lang.Math.cos(java.lang.Math.pow(x[j],alpha)*(java.lang.Math.PI/2.0));                
@@ -104,9 +127,6 @@ public class DTLZ4 extends Problem{
           f[i] *= java.lang.Math.sin(java.lang.Math.pow(x[aux],alpha)*(java.lang.Math.PI/2.0));
         } //if
     } // for
-        
-    for (int i = 0; i < numberOfObjectives_; i++)
-      solution.setObjective(i,f[i]);                
   } // evaluate 
 }
 
@@ -79,27 +79,52 @@ import jmetal.util.JMException;
   */      
   public void evaluate(Solution solution) throws JMException {
     Variable[] gen  = solution.getDecisionVariables();
-
     double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
     double [] theta = new double[numberOfObjectives_-1];
-    int k = numberOfVariables_ - numberOfObjectives_ + 1;
-        
     for (int i = 0; i < numberOfVariables_; i++)
       x[i] = gen[i].getValue();
-        
+
+    evaluate(x, f, theta) ;
+
+    for (int i = 0; i < numberOfObjectives_; i++)
+      solution.setObjective(i,f[i]);
+  } // evaluate
+
+  /**
+   * Evaluates a batch of points without creating solutions
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    double [] theta = new double[numberOfObjectives_-1];
+    for (int i = from; i < to; i++)
+      evaluate(x[i], f[i], theta) ;
+  } // evaluateBatch
+
+  /**
+   * Computes the objectives of a point
+   * @param x Decision variables
+   * @param f Objectives
+   * @param theta Workspace for the angles
+   */
+  private void evaluate(double [] x, double [] f, double [] theta) {
+    int k = numberOfVariables_ - numberOfObjectives_ + 1;
+
     double g = 0.0;
     for (int i = numberOfVariables_ - k; i < numberOfVariables_; i++)
       g += java.lang.Math.pow(x[i],0.1);
-        
+
     double t = java.lang.Math.PI  / (4.0 * (1.0 + g));
     theta[0] = x[0] * java.lang.Math.PI / 2;  
     for (int i = 1; i < (numberOfObjectives_-1); i++) 
       theta[i] = t * (1.0 + 2.0 * g * x[i]);			
-        
+
     for (int i = 0; i < numberOfObjectives_; i++)
       f[i] = 1.0 + g;
-        
+
     for (int i = 0; i < numberOfObjectives_; i++){
       for (int j = 0; j < numberOfObjectives_ - (i + 1); j++)            
         f[i] *= java.lang.Math.cos(theta[j]);                
@@ -108,9 +133,6 @@ import jmetal.util.JMException;
           f[i] *= java.lang.Math.sin(theta[aux]);
         } //if
     } // for
-
-    for (int i = 0; i < numberOfObjectives_; i++)
-      solution.setObjective(i,f[i]);        
   } // evaluate
 }
 
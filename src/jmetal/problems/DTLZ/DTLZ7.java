@@ -79,40 +79,58 @@ public class DTLZ7 extends Problem{
   */        
   public void evaluate(Solution solution) throws JMException {
     Variable[] gen  = solution.getDecisionVariables();
-
     double [] x = new double[numberOfVariables_];
     double [] f = new double[numberOfObjectives_];
-    int k = numberOfVariables_ - numberOfObjectives_ + 1;
-            
     for (int i = 0; i < numberOfVariables_; i++)
       x[i] = gen[i].getValue();
-        
+
+    evaluate(x, f) ;
+
+    for (int i = 0; i < numberOfObjectives_; i++)
+      solution.setObjective(i,f[i]);
+  } // evaluate
+
+  /**
+   * Evaluates a batch of points without creating solutions
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    for (int i = from; i < to; i++)
+      evaluate(x[i], f[i]) ;
+  } // evaluateBatch
+
+  /**
+   * Computes the objectives of a point
+   * @param x Decision variables
+   * @param f Objectives
+   */
+  private void evaluate(double [] x, double [] f) {
+    int k = numberOfVariables_ - numberOfObjectives_ + 1;
+
     //Calculate g
     double g = 0.0;
     for (int i = this.numberOfVariables_ - k; i < numberOfVariables_; i++)
       g += x[i] ;
-        
+
     g = 1 + (9.0 * g) / k;
     //<-
-                
+
     //Calculate the value of f1,f2,f3,...,fM-1 (take acount of vectors start at 0)
       System.arraycopy(x, 0, f, 0, numberOfObjectives_ - 1);
     //<-
-        
+
     //->Calculate fM
     double h = 0.0;
     for (int i = 0; i < numberOfObjectives_ -1; i++)
       h += (f[i]/(1.0 + g))*(1 + Math.sin(3.0 * Math.PI * f[i]));
-       
+
     h = numberOfObjectives_ - h;
-        
+
     f[numberOfObjectives_-1] = (1 + g) * h;
     //<-
-        
-    //-> Setting up the value of the objetives
-    for (int i = 0; i < numberOfObjectives_; i++)
-      solution.setObjective(i,f[i]);        
-    //<-
   } // evaluate
 }
 
@@ -21,8 +21,6 @@
 
 package jmetal.problems.LZ09;
 
-import java.util.Vector;
-
 /**
  * Base class to implement the problems of the LZ09 benchmark, which is
  * defined in:
@@ -47,64 +45,63 @@ public class LZ09 {
   int ptype ;
   
 	// control the PF shape
-	void alphaFunction(double alpha[], Vector<Double> x, int dim, int type) {
+	void alphaFunction(double alpha[], double [] x, int dim, int type) {
 		if (dim == 2) {
 			if (type == 21) {
-				alpha[0] = x.elementAt(0);
-				alpha[1] = 1 - Math.sqrt(x.elementAt(0));
+				alpha[0] = x[0];
+				alpha[1] = 1 - Math.sqrt(x[0]);
 			}
 
 			if (type == 22) {
-				alpha[0] = x.elementAt(0);
-				alpha[1] = 1 - x.elementAt(0) * x.elementAt(0);
+				alpha[0] = x[0];
+				alpha[1] = 1 - x[0] * x[0];
 			}
 
 			if (type == 23) {
-				alpha[0] = x.elementAt(0);
+				alpha[0] = x[0];
 				alpha[1] = 1 - Math.sqrt(alpha[0]) - alpha[0]
 				           * Math.sin(10 * alpha[0] * alpha[0] * Math.PI);
 			}
 
 			if (type == 24) {
-				alpha[0] = x.elementAt(0);
-				alpha[1] = 1 - x.elementAt(0) - 0.05 * Math.sin(4 * Math.PI * x.elementAt(0));
+				alpha[0] = x[0];
+				alpha[1] = 1 - x[0] - 0.05 * Math.sin(4 * Math.PI * x[0]);
 			}
 		} else {
 			if (type == 31) {
-				alpha[0] = Math.cos(x.elementAt(0) * Math.PI / 2) * Math.cos(x.elementAt(1) * Math.PI / 2);
-				alpha[1] = Math.cos(x.elementAt(0) * Math.PI / 2) * Math.sin(x.elementAt(1) * Math.PI / 2);
-				alpha[2] = Math.sin(x.elementAt(0) * Math.PI / 2);
+				alpha[0] = Math.cos(x[0] * Math.PI / 2) * Math.cos(x[1] * Math.PI / 2);
+				alpha[1] = Math.cos(x[0] * Math.PI / 2) * Math.sin(x[1] * Math.PI / 2);
+				alpha[2] = Math.sin(x[0] * Math.PI / 2);
 			}
 
 			if (type == 32) {
-				alpha[0] = 1 - Math.cos(x.elementAt(0) * Math.PI / 2)
-				* Math.cos(x.elementAt(1) * Math.PI / 2);
-				alpha[1] = 1 - Math.cos(x.elementAt(0) * Math.PI / 2)
-				* Math.sin(x.elementAt(1) * Math.PI / 2);
-				alpha[2] = 1 - Math.sin(x.elementAt(0) * Math.PI / 2);
+				alpha[0] = 1 - Math.cos(x[0] * Math.PI / 2)
+				* Math.cos(x[1] * Math.PI / 2);
+				alpha[1] = 1 - Math.cos(x[0] * Math.PI / 2)
+				* Math.sin(x[1] * Math.PI / 2);
+				alpha[2] = 1 - Math.sin(x[0] * Math.PI / 2);
 			}
 
 			if (type == 33) {
-				alpha[0] = x.elementAt(0);
-				alpha[1] = x.elementAt(1);
+				alpha[0] = x[0];
+				alpha[1] = x[1];
 				alpha[2] = 3
-				- (Math.sin(3 * Math.PI * x.elementAt(0)) + Math.sin(3 * Math.PI * x.elementAt(1))) - 2
-				* (x.elementAt(0) + x.elementAt(1));
+				- (Math.sin(3 * Math.PI * x[0]) + Math.sin(3 * Math.PI * x[1])) - 2
+				* (x[0] + x[1]);
 			}
 
 			if (type == 34) {
-				alpha[0] = x.elementAt(0) * x.elementAt(1);
-				alpha[1] = x.elementAt(0) * (1 - x.elementAt(1));
-				alpha[2] = (1 - x.elementAt(0));
+				alpha[0] = x[0] * x[1];
+				alpha[1] = x[0] * (1 - x[1]);
+				alpha[2] = (1 - x[0]);
 			}
 		}
 	} // alphaFunction
 
 	// control the distance
-	double betaFunction(Vector<Double> x, int type) {
+	double betaFunction(double [] x, int offset, int dim, int type) {
 		double beta;
 		beta = 0;
-		int dim = x.size();
 
 		if (dim == 0)
 			beta = 0;
@@ -112,7 +109,7 @@ public class LZ09 {
 		if (type == 1) {
 			beta = 0;
 			for (int i = 0; i < dim; i++) {
-				beta += x.elementAt(i) * x.elementAt(i);
+				beta += x[offset + i] * x[offset + i];
 			}
 			beta = 2.0 * beta / dim;
 		}
@@ -120,7 +117,7 @@ public class LZ09 {
 		if (type == 2) {
 			beta = 0;
 			for (int i = 0; i < dim; i++) {
-				beta += Math.sqrt(i + 1) * x.elementAt(i) * x.elementAt(i);
+				beta += Math.sqrt(i + 1) * x[offset + i] * x[offset + i];
 			}
 			beta = 2.0 * beta / dim;
 		}
@@ -128,7 +125,7 @@ public class LZ09 {
 		if (type == 3) {
 			double sum = 0, xx;
 			for (int i = 0; i < dim; i++) {
-				xx = 2 * x.elementAt(i);
+				xx = 2 * x[offset + i];
 				sum += (xx * xx - Math.cos(4 * Math.PI * xx) + 1);
 			}
 			beta = 2.0 * sum / dim;
@@ -137,7 +134,7 @@ public class LZ09 {
 		if (type == 4) {
 			double sum = 0, prod = 1, xx;
 			for (int i = 0; i < dim; i++) {
-				xx = 2 * x.elementAt(i);
+				xx = 2 * x[offset + i];
 				sum += xx * xx;
 				prod *= Math.cos(10 * Math.PI * xx / Math.sqrt(i + 1));
 			}
@@ -243,72 +240,82 @@ public class LZ09 {
 	}
 	
 
-	void objective(Vector<Double> x_var, Vector <Double> y_obj)
+	/**
+	 * Returns the length of the workspace required by objective()
+	 */
+	int workspaceSize() {
+		return 3 * nvar ;
+	} // workspaceSize
+
+	/**
+	 * Computes the objective values of a point
+	 * @param x_var The decision variables
+	 * @param y_obj The objective values (output)
+	 * @param work A workspace of workspaceSize() elements
+	 */
+	void objective(double [] x_var, double [] y_obj, double [] work)
 	{
+		for (int i = 0; i < nobj; i++)
+			y_obj[i] = 0.0 ;
+
+		// the aa, bb and cc sequences are stored at offsets 0, nvar and 2*nvar
+		int na = 0, nb = 0, nc = 0 ;
+		int bb = nvar, cc = 2 * nvar ;
+
 		// 2-objective case
 		if(nobj==2)
 		{
 			if(ltype==21||ltype==22||ltype==23||ltype==24||ltype==26)
 			{
 				double g = 0, h = 0, a, b;
-				Vector <Double> aa = new Vector();
-				Vector <Double> bb = new Vector();
 				for(int n=1;n<nvar;n++)
 				{
 
 					if(n%2==0){
-						a = psfunc2(x_var.elementAt(n),x_var.elementAt(0),n,ltype,1);  // linkage
-						aa.addElement(a);
+						a = psfunc2(x_var[n],x_var[0],n,ltype,1);  // linkage
+						work[na++] = a;
 					}
 					else
 					{
-						b = psfunc2(x_var.elementAt(n),x_var.elementAt(0),n,ltype,2);
-						bb.addElement(b);
+						b = psfunc2(x_var[n],x_var[0],n,ltype,2);
+						work[bb + nb++] = b;
 					}	
 
 				}
 				
-				g = betaFunction(aa, dtype);
-				h = betaFunction(bb, dtype);
-
-				double alpha [] = new double[2] ;
-				alphaFunction(alpha,x_var,2,ptype);  // shape function
-				y_obj.set(0, alpha[0] + h);
-				y_obj.set(1, alpha[1] + g); 
-				aa.clear(); 
-				bb.clear();
+				g = betaFunction(work, 0, na, dtype);
+				h = betaFunction(work, bb, nb, dtype);
+
+				alphaFunction(y_obj,x_var,2,ptype);  // shape function
+				y_obj[0] += h;
+				y_obj[1] += g; 
 			}
 			
 			if(ltype==25)
 			{
 				double g = 0, h = 0, a, b;
-				double e = 0, c;
-				Vector <Double> aa = new Vector() ;
-				Vector <Double> bb = new Vector() ;
+				double c;
 				for(int n=1;n<nvar;n++){
 					if(n%3==0){
-						a = psfunc2(x_var.elementAt(n),x_var.elementAt(0),n,ltype,1); 
-						aa.addElement(a);
+						a = psfunc2(x_var[n],x_var[0],n,ltype,1); 
+						work[na++] = a;
 					}
 					else if(n%3==1)
 					{
-						b = psfunc2(x_var.elementAt(n),x_var.elementAt(0),n,ltype,2);
-						bb.addElement(b);
+						b = psfunc2(x_var[n],x_var[0],n,ltype,2);
+						work[bb + nb++] = b;
 					}	
 					else{
-						c = psfunc2(x_var.elementAt(n),x_var.elementAt(0),n,ltype,3);
-						if(n%2==0)    aa.addElement(c);			
-						else          bb.addElement(c);
+						c = psfunc2(x_var[n],x_var[0],n,ltype,3);
+						if(n%2==0)    work[na++] = c;			
+						else          work[bb + nb++] = c;
 					}
 				}		
-				g = betaFunction(aa,dtype);          // distance function
-				h = betaFunction(bb,dtype);
-				double alpha[] = new double[2];
-				alphaFunction(alpha,x_var,2,ptype);  // shape function
-				y_obj.set(0, alpha[0] + h);
-				y_obj.set(1, alpha[1] + g); 
-				aa.clear(); 
-				bb.clear();
+				g = betaFunction(work, 0, na, dtype);          // distance function
+				h = betaFunction(work, bb, nb, dtype);
+				alphaFunction(y_obj,x_var,2,ptype);  // shape function
+				y_obj[0] += h;
+				y_obj[1] += g; 
 			}
 		}
 		
@@ -319,30 +326,23 @@ public class LZ09 {
 			if(ltype==31||ltype==32)
 			{
 				double g = 0, h = 0, e = 0, a;
-				Vector <Double> aa  = new Vector() ;
-				Vector <Double> bb = new Vector();
-				Vector <Double> cc = new Vector();
 				for(int n=2;n<nvar;n++)
 				{
-					a = psfunc3(x_var.elementAt(n),x_var.elementAt(0),x_var.elementAt(1),n,ltype);
-					if(n%3==0)	    aa.addElement(a);
-					else if(n%3==1)	bb.addElement(a);
-					else            cc.addElement(a);
+					a = psfunc3(x_var[n],x_var[0],x_var[1],n,ltype);
+					if(n%3==0)	    work[na++] = a;
+					else if(n%3==1)	work[bb + nb++] = a;
+					else            work[cc + nc++] = a;
 				}
 
-				g = betaFunction(aa,dtype);
-				h = betaFunction(bb,dtype);
-				e = betaFunction(cc,dtype);
-
-				double alpha[] = new double[3];
-				alphaFunction(alpha,x_var,3,ptype);  // shape function
-				y_obj.set(0, alpha[0] + h);
-				y_obj.set(1 ,alpha[1] + g); 
-				y_obj.set(2, alpha[2] + e); 
-				aa.clear(); 
-				bb.clear();
-				cc.clear();
+				g = betaFunction(work, 0, na, dtype);
+				h = betaFunction(work, bb, nb, dtype);
+				e = betaFunction(work, cc, nc, dtype);
+
+				alphaFunction(y_obj,x_var,3,ptype);  // shape function
+				y_obj[0] += h;
+				y_obj[1] += g; 
+				y_obj[2] += e; 
 			}
 		}
-	}
+	} // objective
 }
@@ -28,8 +28,6 @@ import jmetal.encodings.solutionType.BinaryRealSolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 import jmetal.util.JMException;
 
-import java.util.Vector;
-
 /** 
  * Class representing problem LZ09_F2 
  */
@@ -87,18 +85,29 @@ public class LZ09_F2 extends Problem {
     public void evaluate(Solution solution) throws JMException {
       Variable[] gen  = solution.getDecisionVariables();
       
-      Vector<Double> x = new Vector<Double>(numberOfVariables_) ;
-      Vector<Double> y = new Vector<Double>(numberOfObjectives_);
+      double [] x = new double[numberOfVariables_] ;
+      double [] y = new double[numberOfObjectives_] ;
           
-      for (int i = 0; i < numberOfVariables_; i++) {
-      	x.addElement(gen[i].getValue());
-      	y.addElement(0.0) ;
-      } // for
+      for (int i = 0; i < numberOfVariables_; i++)
+      	x[i] = gen[i].getValue() ;
         
-      LZ09_.objective(x, y) ;
+      LZ09_.objective(x, y, new double[LZ09_.workspaceSize()]) ;
       
       for (int i = 0; i < numberOfObjectives_; i++)
-        solution.setObjective(i, y.get(i)); 
+        solution.setObjective(i, y[i]); 
     } // evaluate
+
+    /**
+     * Evaluates a batch of points without creating solutions
+     * @param x Decision variables, one point per row
+     * @param f Objectives, one point per row
+     * @param from First row (inclusive)
+     * @param to Last row (exclusive)
+     */
+    public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+      double [] work = new double[LZ09_.workspaceSize()] ;
+      for (int i = from; i < to; i++)
+        LZ09_.objective(x[i], f[i], work) ;
+    } // evaluateBatch
 } // LZ09_F2
 
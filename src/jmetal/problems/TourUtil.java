@@ -0,0 +1,79 @@
+//  TourUtil.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.problems;
+
+/**
+ * Utilities for the problems whose solutions are closed tours encoded as
+ * permutations (<code>mTSP</code> and <code>singleObjective.TSP</code>). The
+ * length of a tour is the sum of matrix[tour[i]][tour[i+1]], plus the closing
+ * edge matrix[tour[0]][tour[n-1]].
+ */
+public class TourUtil {
+  /**
+   * Computes the change of the length of a tour, measured with a given
+   * matrix, when the cities at positions r and s are swapped. Only the
+   * (at most four) edges touching those positions change.
+   * @param matrix The matrix
+   * @param tour The tour, once swapped
+   * @param r The first swapped position
+   * @param s The second swapped position
+   * @return The change of the length
+   */
+  public static double swapDelta(double [][] matrix, int [] tour, int r, int s) {
+    int n = tour.length ;
+    int e0 = (r + n - 1) % n ;
+    int e1 = r ;
+    int e2 = (s + n - 1) % n ;
+    int e3 = s ;
+    double delta ;
+
+    delta = edgeLength(matrix, tour, e0, -1, -1) - edgeLength(matrix, tour, e0, r, s) ;
+    if (e1 != e0)
+      delta += edgeLength(matrix, tour, e1, -1, -1) - edgeLength(matrix, tour, e1, r, s) ;
+    if ((e2 != e0) && (e2 != e1))
+      delta += edgeLength(matrix, tour, e2, -1, -1) - edgeLength(matrix, tour, e2, r, s) ;
+    if ((e3 != e0) && (e3 != e1) && (e3 != e2))
+      delta += edgeLength(matrix, tour, e3, -1, -1) - edgeLength(matrix, tour, e3, r, s) ;
+
+    return delta ;
+  } // swapDelta
+
+  /**
+   * Returns the length of the edge starting at a position of a tour, with
+   * the cities at positions r and s exchanged (no exchange if they are -1)
+   */
+  private static double edgeLength(double [][] matrix, int [] tour, int edge,
+                                   int r, int s) {
+    int n = tour.length ;
+    if (edge < n - 1)
+      return matrix[city(tour, edge, r, s)][city(tour, edge + 1, r, s)] ;
+    else
+      return matrix[city(tour, 0, r, s)][city(tour, n - 1, r, s)] ;
+  } // edgeLength
+
+  /**
+   * Returns the city at a position of a tour with the cities at positions r
+   * and s exchanged
+   */
+  private static int city(int [] tour, int position, int r, int s) {
+    if (position == r)
+      return tour[s] ;
+    else if (position == s)
+      return tour[r] ;
+    else
+      return tour[position] ;
+  } // city
+} // TourUtil
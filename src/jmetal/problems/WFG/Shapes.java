@@ -34,7 +34,7 @@ public class Shapes {
   /**
    * Calculate a linear shape
    */
-  public float linear(float [] x, int m){        
+  public static float linear(float [] x, int m){        
     float  result = (float)1.0;        
     int M = x.length;        
     
@@ -50,7 +50,7 @@ public class Shapes {
   /**
    * Calculate a convex shape
    */
-  public float convex(float [] x, int m){
+  public static float convex(float [] x, int m){
     float result = (float)1.0;
     int M = x.length;
         
@@ -67,7 +67,7 @@ public class Shapes {
   /**
    * Calculate a concave shape
    */
-  public float concave(float [] x, int m){
+  public static float concave(float [] x, int m){
     float result = (float)1.0;
     int M = x.length;
         
@@ -83,7 +83,7 @@ public class Shapes {
   /**
    * Calculate a mixed shape
    */
-  public float mixed(float [] x, int A, float alpha){
+  public static float mixed(float [] x, int A, float alpha){
     float tmp;        
     tmp =(float) Math.cos((float)2.0 * A * (float)Math.PI * x[0] + (float)Math.PI * (float)0.5);
     tmp /= (2.0 * (float) A * Math.PI);
@@ -94,7 +94,7 @@ public class Shapes {
   /**
    *  Calculate a disc shape
    */
-  public float disc(float [] x, int A, float alpha, float beta){
+  public static float disc(float [] x, int A, float alpha, float beta){
     float tmp;        
     tmp = (float)Math.cos((float)A * Math.pow(x[0], beta) * Math.PI);
         
@@ -25,7 +25,9 @@ import jmetal.util.Configuration;
 import jmetal.util.JMException;
 
 /**
- * Class implementing the basics transformations for WFG
+ * Class implementing the basics transformations for WFG. All the
+ * transformations are static and do not allocate memory, and the range
+ * versions of r_sum and r_nonsep work on a part of a vector without copying it
  */
 public class Transformations {
         
@@ -38,7 +40,7 @@ public class Transformations {
    * b_poly transformation
    * @throws JMException 
    */
-  public float b_poly(float y, float alpha) throws JMException{
+  public static float b_poly(float y, float alpha) throws JMException{
     if (!(alpha>0)) {
       
       Configuration.logger_.severe("WFG.Transformations.b_poly: Param alpha " +
@@ -55,7 +57,7 @@ public class Transformations {
   /**
    * b_flat transformation
    */
-  public float b_flat(float y, float A, float B, float C){    
+  public static float b_flat(float y, float A, float B, float C){    
     float tmp1 = Math.min((float)0, (float)Math.floor(y - B))* A*(B-y)/B;
     float tmp2 = Math.min((float)0, (float)Math.floor(C - y))* (1 - A)*(y - C)/(1 - C);
         
@@ -65,14 +67,14 @@ public class Transformations {
   /**
    * s_linear transformation
    */
-  public float s_linear(float y, float A){
+  public static float s_linear(float y, float A){
     return correct_to_01(Math.abs(y - A) /(float)Math.abs(Math.floor(A - y) + A));
   } // s_linear
     
   /**
    * s_decept transformation
    */
-  public float s_decept(float y, float A, float B, float C){        
+  public static float s_decept(float y, float A, float B, float C){        
     float tmp, tmp1, tmp2;
         
     tmp1 = (float)Math.floor(y - A + B) * ((float)1.0 - C + (A - B)/B) / (A - B);
@@ -86,7 +88,7 @@ public class Transformations {
   /**
    * s_multi transformation
    */
-  public float s_multi(float y, int A, int B, float C){                
+  public static float s_multi(float y, int A, int B, float C){                
     float tmp1, tmp2;
         
     tmp1 = ((float)4.0 * A + (float)2.0) *
@@ -102,29 +104,59 @@ public class Transformations {
   /**
    * r_sum transformation
    */
-  public float r_sum(float [] y, float [] w){
+  public static float r_sum(float [] y, float [] w){
+    return r_sum(y, w, 0, y.length);
+  } // r_sum
+
+  /**
+   * r_sum transformation of the elements y[from..to-1], weighted by
+   * w[from..to-1]
+   */
+  public static float r_sum(float [] y, float [] w, int from, int to){
     float tmp1 = (float)0.0, tmp2 =(float) 0.0;
-    for (int i = 0; i < y.length; i++){
+    for (int i = from; i < to; i++){
       tmp1 += y[i]*w[i];
       tmp2 += w[i];
     }
         
     return correct_to_01(tmp1 / tmp2);
-  } // r_sum  
+  } // r_sum
+
+  /**
+   * r_sum transformation of the elements y[from..to-1] with all the
+   * weights equal to 1
+   */
+  public static float r_sum(float [] y, int from, int to){
+    float tmp1 = (float)0.0, tmp2 =(float) 0.0;
+    for (int i = from; i < to; i++){
+      tmp1 += y[i];
+      tmp2 += (float)1.0;
+    }
+        
+    return correct_to_01(tmp1 / tmp2);
+  } // r_sum
     
   /**
    * r_nonsep transformation
    */
-  public float r_nonsep(float [] y, int A){               
+  public static float r_nonsep(float [] y, int A){
+    return r_nonsep(y, 0, y.length, A);
+  } // r_nonsep
+
+  /**
+   * r_nonsep transformation of the elements y[from..to-1]
+   */
+  public static float r_nonsep(float [] y, int from, int to, int A){
     float tmp, denominator, numerator;
+    int length = to - from;
       
     tmp = (float)Math.ceil(A/(float)2.0);        
-    denominator = y.length * tmp * ((float)1.0 + (float)2.0*A - (float)2.0*tmp)/A;        
+    denominator = length * tmp * ((float)1.0 + (float)2.0*A - (float)2.0*tmp)/A;        
     numerator = (float)0.0;
-    for (int j = 0; j < y.length; j++){
-      numerator += y[j];
+    for (int j = 0; j < length; j++){
+      numerator += y[from + j];
       for (int k = 0; k <= A-2; k++){
-        numerator += Math.abs( y[j] - y[( j+k+1 ) % y.length]);
+        numerator += Math.abs( y[from + j] - y[from + ( j+k+1 ) % length]);
       }
     }
         
@@ -134,7 +166,7 @@ public class Transformations {
   /**
    * b_param transformation
    */
-  public float b_param(float y, float u, float A, float B, float C){
+  public static float b_param(float y, float u, float A, float B, float C){
     float result, v, exp;
         
     v = A - ((float)1.0 - (float)2.0 * u) *
@@ -147,7 +179,7 @@ public class Transformations {
     
   /**
    */
-  float correct_to_01(float a){    
+  static float correct_to_01(float a){    
     float min = (float)0.0;
     float max = (float)1.0;
     float min_epsilon = min - epsilon;
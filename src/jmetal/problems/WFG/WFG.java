@@ -25,7 +25,6 @@ import jmetal.core.Problem;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
 import jmetal.encodings.solutionType.RealSolutionType;
 
-import java.util.Random;
 
 /**
  * Implements a reference abstract class for all WFG test problems
@@ -48,7 +47,6 @@ public abstract class WFG extends Problem{
   protected int [] A_;
   protected int [] S_;
   protected int D_ = 1;
-  protected Random random = new Random();            
     
   /** 
   * Constructor
@@ -85,32 +83,28 @@ public abstract class WFG extends Problem{
     
   /**
    * Gets the x vector (consulte WFG tooltik reference)
+   * @param t The transformed vector (only the first M_ elements are used)
+   * @param x The x vector (output), M_ elements
    */
-  public float [] calculate_x(float [] t){
-    float [] x = new float[M_];
-        
+  public void calculate_x(float [] t, float [] x){
     for (int i = 0; i < M_-1; i++){
       x[i] = Math.max(t[M_-1],A_[i]) * (t[i]  - (float)0.5) + (float)0.5;
     }
         
     x[M_-1] = t[M_-1];
-        
-    return x;
   } // calculate_x
     
   /**
    * Normalizes a vector (consulte WFG toolkit reference)
+   * @param z The vector to normalize
+   * @param result The normalized vector (output), z.length elements
    */
-  public float [] normalise(float [] z){
-    float [] result = new float[z.length];
-        
+  public void normalise(float [] z, float [] result){
     for (int i = 0; i < z.length; i++){
       float bound = (float)2.0 * (i + 1);
       result[i] = z[i] / bound;
       result[i] = correct_to_01(result[i]);
     }
-        
-    return result;
   } // normalize    
     
    
@@ -147,11 +141,55 @@ public abstract class WFG extends Problem{
     return result;
   } // subVector
 
+  /**
+   * Evaluates a batch of points without creating solutions. The variables
+   * are converted to float, as the evaluate(Solution) methods of the WFG
+   * problems do, and the work buffers are shared by all the points
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    float [] variables = new float[numberOfVariables_];
+    float [] y         = new float[numberOfVariables_];
+    float [] t         = new float[numberOfVariables_];
+    float [] shape     = new float[M_];
+    float [] result    = new float[M_];
+    for (int i = from; i < to; i++) {
+      for (int j = 0; j < numberOfVariables_; j++)
+        variables[j] = (float)x[i][j];
+
+      evaluate(variables, y, t, shape, result);
+      for (int j = 0; j < M_; j++)
+        f[i][j] = result[j];
+    }
+  } // evaluateBatch
+
   /** 
   * Evaluates a solution 
   * @param variables The solution to evaluate
-  * @return a double [] with the evaluation results
+  * @return a float [] with the evaluation results
   */  
-  abstract public float[] evaluate(float[] variables);
+  public float [] evaluate(float [] variables) {
+    float [] result = new float[M_];
+    evaluate(variables, new float[variables.length], new float[variables.length],
+             new float[M_], result);
+
+    return result;
+  } // evaluate
+
+  /**
+   * Evaluates a solution without allocating memory. The transformations
+   * are applied in place on y or moved between y and t, so the two
+   * buffers must have as many elements as z
+   * @param z The solution to evaluate (it is not modified)
+   * @param y Work buffer
+   * @param t Work buffer
+   * @param x Buffer for the x vector, M_ elements
+   * @param f The evaluation results (output), M_ elements
+   */
+  protected abstract void evaluate(float [] z, float [] y, float [] t,
+                                   float [] x, float [] f);
   // evaluate
 }
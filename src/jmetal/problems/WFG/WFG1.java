@@ -34,6 +34,11 @@ import jmetal.util.JMException;
  *            Proceedings, volume 3410 of Lecture Notes in Computer Science
  */
 public class WFG1 extends WFG {
+
+ /**
+  * Weights of the r_sum transformation in t4
+  */
+  private final float [] w_;
  
  /**
   * Constructor
@@ -66,110 +71,78 @@ public class WFG1 extends WFG {
     for (int i = 0; i < M_-1; i++)
       A_[i] = 1;          
         
+    w_ = new float[numberOfVariables_];
+    for (int i = 0; i < numberOfVariables_; i++)
+      w_[i] = (float)2.0 * (i + 1);
   } // WFG1
       
   /** 
   * Evaluates a solution 
   * @param z The solution to evaluate
-  * @return a double [] with the evaluation results
+  * @param y Work buffer
+  * @param t Work buffer
+  * @param x Buffer for the x vector
+  * @param f The evaluation results
   */  
-  public float [] evaluate(float [] z){                
-    float [] y;
-        
-    y = normalise(z);
-    y = t1(y,k_);
-    y = t2(y,k_);
+  protected void evaluate(float [] z, float [] y, float [] t, float [] x, float [] f){
+    normalise(z, y);
+    t1(y,k_);
+    t2(y,k_);
     try {
-      y = t3(y);
+      t3(y);
     } catch (JMException e) {
       // TODO Auto-generated catch block
       e.printStackTrace();
     }
-    y = t4(y,k_,M_);
-    
+    t4(y,t,k_,M_);
         
-    float [] result = new float[M_];
-    float [] x = calculate_x(y);
+    calculate_x(t, x);
     for (int m = 1; m <= M_ - 1 ; m++) {
-      result [m-1] = D_*x[M_-1] + S_[m-1] * (new Shapes()).convex(x,m);
+      f[m-1] = D_*x[M_-1] + S_[m-1] * Shapes.convex(x,m);
     }
         
-    result[M_-1] = D_*x[M_-1] + S_[M_-1] * (new Shapes()).mixed(x,5,(float)1.0);
-        
-    return result;
+    f[M_-1] = D_*x[M_-1] + S_[M_-1] * Shapes.mixed(x,5,(float)1.0);
   } // evaluate
     
   /**
-   * WFG1 t1 transformation
+   * WFG1 t1 transformation (in place)
    */
-  public float [] t1(float [] z, int k){
-    float [] result = new float[z.length];
-
-    System.arraycopy(z, 0, result, 0, k);
-        
+  public void t1(float [] z, int k){
     for (int i = k; i < z.length; i++) {
-      result[i] = (new Transformations()).s_linear(z[i],(float)0.35);
+      z[i] = Transformations.s_linear(z[i],(float)0.35);
     }
-        
-    return result;      
   } // t1
 
   /**
-  * WFG1 t2 transformation
+  * WFG1 t2 transformation (in place)
   */
-  public float [] t2(float [] z, int k){
-    float [] result = new float[z.length];
-
-    System.arraycopy(z, 0, result, 0, k);
-        
+  public void t2(float [] z, int k){
     for (int i = k; i < z.length; i++) {
-      result[i] = (new Transformations()).b_flat(z[i],(float)0.8,(float)0.75,(float)0.85);
+      z[i] = Transformations.b_flat(z[i],(float)0.8,(float)0.75,(float)0.85);
     }
-        
-    return result;
   } // t2
     
   /**
-  * WFG1 t3 transformation
+  * WFG1 t3 transformation (in place)
    * @throws JMException 
   */
-  public float [] t3(float [] z) throws JMException{
-    float [] result = new float[z.length];
-        
+  public void t3(float [] z) throws JMException{
     for (int i = 0; i < z.length; i++) {
-      result[i] = (new Transformations()).b_poly(z[i],(float)0.02);
+      z[i] = Transformations.b_poly(z[i],(float)0.02);
     }
-        
-    return result;
   } // t3
     
   /**
   * WFG1 t4 transformation
   */
-  public float [] t4(float [] z, int k, int M){
-    float [] result = new float[M];
-    float [] w      = new float[z.length];
-                
-    for (int i = 0; i < z.length; i++) {
-      w[i] = (float)2.0 * (i + 1);
-    }
-        
+  public void t4(float [] z, float [] result, int k, int M){
     for (int i = 1; i <= M-1; i++){
       int head = (i - 1)*k/(M-1) + 1;
-      int tail = i * k / (M - 1);                                   
-      float [] subZ = subVector(z,head-1,tail-1);
-      float [] subW = subVector(w,head-1,tail-1);
-            
-      result[i-1] = (new Transformations()).r_sum(subZ,subW);
+      int tail = i * k / (M - 1);
+      result[i-1] = Transformations.r_sum(z,w_,head-1,tail);
     }
         
-    int head = k + 1 - 1;
-    int tail = z.length - 1;              
-    float [] subZ = subVector(z,head,tail);      
-    float [] subW = subVector(w,head,tail);        
-    result[M-1] = (new Transformations()).r_sum(subZ,subW);
-                
-    return result;
+    result[M-1] = Transformations.r_sum(z,w_,k,z.length);
   } // t4
                 
   /** 
@@ -72,90 +72,60 @@ public class WFG3 extends WFG{
   /** 
   * Evaluates a solution 
   * @param z The solution to evaluate
-  * @return double [] with the evaluation results
+  * @param y Work buffer
+  * @param t Work buffer
+  * @param x Buffer for the x vector
+  * @param f The evaluation results
   */  
-  public float [] evaluate(float [] z){                
-    float [] y;
-
-    y = normalise(z);        
-    y = t1(y,k_);
-    y = t2(y,k_);        
-    y = t3(y,k_,M_);
-                    
-    float [] result = new float[M_];
-    float [] x = calculate_x(y);        
+  protected void evaluate(float [] z, float [] y, float [] t, float [] x, float [] f){
+    normalise(z, y);
+    t1(y,k_);
+    t2(y,t,k_);
+    t3(t,y,k_,M_);
+        
+    calculate_x(y, x);
     for (int m = 1; m <= M_ ; m++) {
-      result [m-1] = D_*x[M_-1] + S_[m-1] * (new Shapes()).linear(x,m);                
+      f[m-1] = D_*x[M_-1] + S_[m-1] * Shapes.linear(x,m);
     }
-        
-    return result;
   } // evaluate
     
   /**
-   * WFG3 t1 transformation
-   */  
-  public float [] t1(float [] z, int k){
-    float [] result = new float[z.length];
-
-    System.arraycopy(z, 0, result, 0, k);
-        
+   * WFG3 t1 transformation (in place)
+   */
+  public void t1(float [] z, int k){
     for (int i = k; i < z.length; i++) {
-      result[i] = (new Transformations()).s_linear(z[i],(float)0.35);
+      z[i] = Transformations.s_linear(z[i],(float)0.35);
     }
-        
-    return result;      
   } // t1
 
-  
   /**
-   * WFG3 t2 transformation
-   */ 
-  public float [] t2(float [] z, int k){
-    float [] result = new float[z.length];
-
+   * WFG3 t2 transformation. The first k elements are copied and each pair of
+   * distance-related parameters is replaced by one value
+   */
+  public void t2(float [] z, float [] result, int k){
     System.arraycopy(z, 0, result, 0, k);
         
-    int l = z.length - k;        
+    int l = z.length - k;
     for (int i = k+1; i <= k + l/2; i++){
       int head = k + 2*(i - k) - 1;
-      int tail = k + 2*(i - k);              
-      float [] subZ = subVector(z,head-1,tail-1);
-            
-      result[i-1] = (new Transformations()).r_nonsep(subZ,2);
-    }        
-    return result;
+      int tail = k + 2*(i - k);
+      result[i-1] = Transformations.r_nonsep(z,head-1,tail,2);
+    }
   } // t2
 
   /**
-  * WFG3 t3 transformation
-  */ 
-  public float [] t3(float [] z, int k, int M){
-    float [] result = new float[M];
-    float [] w      = new float[z.length];
-            
-    for (int i = 0; i < z.length; i++) {
-      w[i] = (float)1.0;
-    }
-        
+   * WFG3 t3 transformation
+   */
+  public void t3(float [] z, float [] result, int k, int M){
     for (int i = 1; i <= M-1; i++){
       int head = (i - 1)*k/(M-1) + 1;
-      int tail = i * k / (M - 1);                             
-      float [] subZ = subVector(z,head-1,tail-1);
-      float [] subW = subVector(w,head-1,tail-1);
-            
-      result[i-1] = (new Transformations()).r_sum(subZ,subW);            
+      int tail = i * k / (M - 1);
+      result[i-1] = Transformations.r_sum(z,head-1,tail);
     }
         
-    int l = z.length - k;
-    int head = k + 1;
-    int tail = k + l / 2;              
-    float [] subZ = subVector(z,head-1,tail-1);      
-    float [] subW = subVector(w,head-1,tail-1);        
-    result[M-1] = (new Transformations()).r_sum(subZ,subW);
-                        
-    return result;
+    result[M-1] = Transformations.r_sum(z,k,k + (z.length - k) / 2);
   } // t3
-    
+
   /** 
   * Evaluates a solution 
   * @param solution The solution to evaluate
@@ -71,67 +71,44 @@ public class WFG4 extends WFG{
   /** 
   * Evaluates a solution 
   * @param z The solution to evaluate
-  * @return double [] with the evaluation results
-  */    
-  public float [] evaluate(float [] z){
-    float [] y;
-    
-    y = normalise(z);
-    y = t1(y,k_);
-    y = t2(y,k_,M_);
-    
-    float [] result = new float[M_];
-    float [] x = calculate_x(y);
+  * @param y Work buffer
+  * @param t Work buffer
+  * @param x Buffer for the x vector
+  * @param f The evaluation results
+  */  
+  protected void evaluate(float [] z, float [] y, float [] t, float [] x, float [] f){
+    normalise(z, y);
+    t1(y,k_);
+    t2(y,t,k_,M_);
+
+    calculate_x(t, x);
     for (int m = 1; m <= M_ ; m++) {
-      result [m-1] = D_*x[M_-1] + S_[m-1] * (new Shapes()).concave(x,m);
+      f[m-1] = D_*x[M_-1] + S_[m-1] * Shapes.concave(x,m);
     }
-    
-    return result;
   } // evaluate
-  
+    
   /**
-   * WFG4 t1 transformation
+   * WFG4 t1 transformation (in place)
    */  
-  public float [] t1(float [] z, int k){
-    float [] result = new float[z.length];
-    
+  public void t1(float [] z, int k){
     for (int i = 0; i < z.length; i++) {
-      result[i] = (new Transformations()).s_multi(z[i],30,10,(float)0.35);
+      z[i] = Transformations.s_multi(z[i],30,10,(float)0.35);
     }
-    
-    return result;
   } // t1
   
   /**
-  * WFG4 t2 transformation
-  */  
-  public float [] t2(float [] z, int k, int M){
-    float [] result = new float[M];
-    float [] w      = new float[z.length];
-    
-    for (int i = 0; i < z.length; i++) {
-      w[i] = (float)1.0;
-    }
-            
-    for (int i = 1; i <= M-1; i++) {
+   * WFG4 t2 transformation
+   */
+  public void t2(float [] z, float [] result, int k, int M){
+    for (int i = 1; i <= M-1; i++){
       int head = (i - 1)*k/(M-1) + 1;
-      int tail = i * k / (M - 1);        
-      float [] subZ = subVector(z,head-1,tail-1);
-      float [] subW = subVector(w,head-1,tail-1);
-        
-      result[i-1] = (new Transformations()).r_sum(subZ,subW);
+      int tail = i * k / (M - 1);
+      result[i-1] = Transformations.r_sum(z,head-1,tail);
     }
-      
-    int head = k + 1;
-    int tail = z.length;
-      
-    float [] subZ = subVector(z,head-1,tail-1);
-    float [] subW = subVector(w,head-1,tail-1);
-    result[M-1] = (new Transformations()).r_sum(subZ,subW);
-      
-    return result;
+        
+    result[M-1] = Transformations.r_sum(z,k,z.length);
   } // t2
-    
+
   /** 
   * Evaluates a solution 
   * @param solution The solution to evaluate
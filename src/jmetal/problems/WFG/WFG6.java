@@ -71,63 +71,45 @@ public class WFG6 extends WFG{
   /** 
   * Evaluates a solution 
   * @param z The solution to evaluate
-  * @return double [] with the evaluation results
+  * @param y Work buffer
+  * @param t Work buffer
+  * @param x Buffer for the x vector
+  * @param f The evaluation results
   */  
-  public float [] evaluate(float [] z){                
-    float [] y;
-        
-    y = normalise(z);
-    y = t1(y,k_);
-    y = t2(y,k_,M_);            
+  protected void evaluate(float [] z, float [] y, float [] t, float [] x, float [] f){
+    normalise(z, y);
+    t1(y,k_);
+    t2(y,t,k_,M_);
 
-    float [] result = new float[M_];
-    float [] x = calculate_x(y);
+    calculate_x(t, x);
     for (int m = 1; m <= M_ ; m++) {
-      result [m-1] = D_*x[M_-1] + S_[m-1] * (new Shapes()).concave(x,m);                
+      f[m-1] = D_*x[M_-1] + S_[m-1] * Shapes.concave(x,m);
     }
-        
-    return result;
-  } //  evaluate
-    
-  /**
-   * WFG6 t1 transformation
-   */    
-  public float [] t1(float [] z, int k){
-    float [] result = new float[z.length];
+  } // evaluate
 
-    System.arraycopy(z, 0, result, 0, k);
-        
+  /**
+   * WFG6 t1 transformation (in place)
+   */
+  public void t1(float [] z, int k){
     for (int i = k; i < z.length; i++) {
-      result[i] = (new Transformations()).s_linear(z[i],(float)0.35);
+      z[i] = Transformations.s_linear(z[i],(float)0.35);
     }
-        
-    return result;      
   } // t1
-        
+
   /**
    * WFG6 t2 transformation
-   */      
-  public float [] t2(float [] z, int k, int M){
-    float [] result = new float[M];        
-        
+   */
+  public void t2(float [] z, float [] result, int k, int M){
     for (int i = 1; i <= M-1; i++){
       int head = (i - 1)*k/(M-1) + 1;
-      int tail = i * k / (M - 1);                                   
-      float [] subZ = subVector(z,head-1,tail-1);            
-            
-      result[i-1] = (new Transformations()).r_nonsep(subZ,k/(M-1));            
+      int tail = i * k / (M - 1);
+      result[i-1] = Transformations.r_nonsep(z,head-1,tail,k/(M-1));
     }
         
-    int head = k + 1;
-    int tail = z.length;
     int l = z.length - k;
-              
-    float [] subZ = subVector(z,head-1,tail-1);              
-    result[M-1] = (new Transformations()).r_nonsep(subZ,l);
-                
-    return result;
-  } // t2       
-        
+    result[M-1] = Transformations.r_nonsep(z,k,z.length,l);
+  } // t2
+
   /** 
   * Evaluates a solution 
   * @param solution The solution to evaluate
@@ -55,87 +55,61 @@ public class WFG9 extends WFG{
   /** 
   * Evaluates a solution 
   * @param z The solution to evaluate
-  * @return double [] with the evaluation results
-  */   
-  public float [] evaluate(float [] z){                
-    float [] y;                                
-        
-    y = normalise(z);        
-    y = t1(y,k_);
-    y = t2(y,k_);        
-    y = t3(y,k_,M_);
-            
-    float [] result = new float[M_];
-    float [] x = calculate_x(y);        
+  * @param y Work buffer
+  * @param t Work buffer
+  * @param x Buffer for the x vector
+  * @param f The evaluation results
+  */  
+  protected void evaluate(float [] z, float [] y, float [] t, float [] x, float [] f){
+    normalise(z, y);
+    t1(y,k_);
+    t2(y,k_);
+    t3(y,t,k_,M_);
+
+    calculate_x(t, x);
     for (int m = 1; m <= M_ ; m++) {
-      result [m-1] = D_*x[M_-1] + S_[m-1] * (new Shapes()).concave(x,m);                
-    }        
-    return result;
-  } //evaluate
+      f[m-1] = D_*x[M_-1] + S_[m-1] * Shapes.concave(x,m);
+    }
+  } // evaluate
     
   /**
-   * WFG9 t1 transformation
+   * WFG9 t1 transformation (in place). The i-th element depends on the
+   * elements after it, which have not been transformed yet
    */  
-  public float [] t1(float [] z, int k){
-    float [] result = new float[z.length];
-    float [] w      = new float[z.length];
-        
-    for (int i = 0; i < w.length; i++) {
-      w[i] = (float)1.0;        
-    }
-        
+  public void t1(float [] z, int k){
     for (int i = 0; i < z.length-1; i++){
-      int head = i+1;
-      int tail = z.length-1;
-      float [] subZ = subVector(z,head,tail);
-      float [] subW = subVector(w,head,tail);            
-      float aux = (new Transformations()).r_sum(subZ,subW);            
-      result[i] = (new Transformations()).b_param(z[i],aux,(float)0.98/(float)49.98,(float)0.02,(float)50);
+      float aux = Transformations.r_sum(z,i+1,z.length);
+      z[i] = Transformations.b_param(z[i],aux,(float)0.98/(float)49.98,(float)0.02,(float)50);
     }
-        
-    result[z.length-1] = z[z.length-1];
-    return result;
   } // t1
     
   /**
-   * WFG9 t2 transformation
+   * WFG9 t2 transformation (in place)
    */  
-  public float [] t2(float [] z, int k){
-    float [] result = new float[z.length];
-        
+  public void t2(float [] z, int k){
     for (int i = 0; i < k; i++) {
-      result[i] = (new Transformations()).s_decept(z[i],(float)0.35,(float)0.001,(float)0.05);
+      z[i] = Transformations.s_decept(z[i],(float)0.35,(float)0.001,(float)0.05);
     }
         
     for (int i = k; i < z.length; i++) {
-      result[i] = (new Transformations()).s_multi(z[i],30,95,(float)0.35);
-    }        
-    
-    return result;      
+      z[i] = Transformations.s_multi(z[i],30,95,(float)0.35);
+    }
   } // t2   
     
   /**
    * WFG9 t3 transformation
-   */  
-  public float [] t3(float [] z, int k, int M){
-    float [] result = new float[M];                        
-        
+   */
+  public void t3(float [] z, float [] result, int k, int M){
     for (int i = 1; i <= M-1; i++){
       int head = (i - 1)*k/(M-1) + 1;
-      int tail = i * k / (M - 1);                                   
-      float [] subZ = subVector(z,head-1,tail-1);                        
-      result[i-1] = (new Transformations()).r_nonsep(subZ,k/(M-1));            
+      int tail = i * k / (M - 1);
+      result[i-1] = Transformations.r_nonsep(z,head-1,tail,k/(M-1));
     }
         
-    int head = k + 1;
-    int tail = z.length;
-    int l = z.length - k;              
-    float [] subZ = subVector(z,head-1,tail-1);              
-    result[M-1] = (new Transformations()).r_nonsep(subZ,l);
-                
-    return result;
+    int l = z.length - k;
+    result[M-1] = Transformations.r_nonsep(z,k,z.length,l);
   } // t3
-    
+
   /** 
   * Evaluates a solution 
   * @param solution The solution to evaluate
@@ -93,6 +93,22 @@ public class ZDT2 extends Problem{
     solution.setObjective(0,fx[0]);
     solution.setObjective(1,fx[1]);
   } //evaluate
+
+  /**
+   * Evaluates a batch of points without creating solutions
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    for (int i = from; i < to; i++) {
+      f[i][0] = x[i][0] ;
+      double g = this.evalG(x[i]) ;
+      double h = this.evalH(f[i][0],g) ;
+      f[i][1] = h * g ;
+    }
+  } // evaluateBatch
   
   /**
    * Returns the value of the ZDT2 function G.
@@ -108,6 +124,20 @@ public class ZDT2 extends Problem{
     g = g + 1.0;
     return g;        
   } //evalG
+
+  /**
+   * Returns the value of the ZDT2 function G.
+   * @param x Decision variables
+   */
+  private double evalG(double [] x) {
+    double g = 0.0;        
+    for (int i = 1; i < numberOfVariables_;i++)
+      g += x[i];
+    double constant = (9.0 / (numberOfVariables_-1));
+    g = constant * g;
+    g = g + 1.0;
+    return g;        
+  } //evalG
     
   /**
    * Returns the value of the ZDT2 function H.
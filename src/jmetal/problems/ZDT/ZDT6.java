@@ -91,6 +91,23 @@ public class ZDT6 extends Problem {
     solution.setObjective(0,f[0]);
     solution.setObjective(1,f[1]);    
   } //evaluate
+
+  /**
+   * Evaluates a batch of points without creating solutions
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    for (int i = from; i < to; i++) {
+      double x1 = x[i][0] ;
+      f[i][0] = 1.0 - Math.exp((-4.0)*x1) * Math.pow(Math.sin(6.0*Math.PI*x1),6.0);
+      double g = this.evalG(x[i]) ;
+      double h = this.evalH(f[i][0],g) ;
+      f[i][1] = h * g ;
+    }
+  } // evaluateBatch
     
   /**
   * Returns the value of the ZDT6 function G.
@@ -107,6 +124,21 @@ public class ZDT6 extends Problem {
     g = 1.0 + g;        
     return g;
   } // evalG
+
+  /**
+   * Returns the value of the ZDT6 function G.
+   * @param x Decision variables
+   */
+  private double evalG(double [] x){
+    double g = 0.0;
+    for (int var = 1; var < this.numberOfVariables_; var++)
+      g += x[var];
+    g = g / (numberOfVariables_ - 1);
+    g = java.lang.Math.pow(g,0.25);
+    g = 9.0 * g;
+    g = 1.0 + g;        
+    return g;
+  } // evalG
   
   /**
   * Returns the value of the ZDT6 function H.
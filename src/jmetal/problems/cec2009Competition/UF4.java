@@ -85,6 +85,31 @@ public class UF4 extends Problem {
     for (int i = 0; i < numberOfVariables_; i++)
       x[i] = decisionVariables[i].getValue() ;
 
+    double [] f = new double[numberOfObjectives_] ;
+    evaluate(x, f) ;
+
+    for (int i = 0; i < numberOfObjectives_; i++)
+      solution.setObjective(i, f[i]) ;
+  } // evaluate
+
+  /**
+   * Evaluates a batch of points without creating solutions
+   * @param x Decision variables, one point per row
+   * @param f Objectives, one point per row
+   * @param from First row (inclusive)
+   * @param to Last row (exclusive)
+   */
+  public void evaluateBatch(double [][] x, double [][] f, int from, int to) {
+    for (int i = from; i < to; i++)
+      evaluate(x[i], f[i]) ;
+  } // evaluateBatch
+
+  /**
+   * Computes the objectives of a point
+   * @param x Decision variables
+   * @param f Objectives
+   */
+  private void evaluate(double [] x, double [] f) {
   	int count1, count2;
 		double sum1, sum2, yj, hj ;
 		sum1   = sum2   = 0.0;
@@ -102,7 +127,7 @@ public class UF4 extends Problem {
 			}
     }
     
-    solution.setObjective(0, x[0]	+ 2.0*sum1 / (double)count1);
-    solution.setObjective(1, 1.0 - x[0]*x[0]	+ 2.0*sum2 / (double)count2);
+    f[0] = x[0]	+ 2.0*sum1 / (double)count1;
+    f[1] = 1.0 - x[0]*x[0]	+ 2.0*sum2 / (double)count2;
   } // evaluate
 } // CEC2009_UF4
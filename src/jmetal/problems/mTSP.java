@@ -68,37 +68,62 @@ public class mTSP extends Problem {
   } // mTSP
     
  /** 
-  * Evaluates a solution 
+  * Evaluates a solution. If the permutation only differs from the one of
+  * its cached objective values in a swap, the tour lengths are updated in
+  * constant time
   * @param solution The solution to evaluate
   */      
   public void evaluate(Solution solution) {
+    Permutation variable = (Permutation)solution.getDecisionVariables()[0] ;
+    double [] objectives = variable.getCachedObjectives(this) ;
+
+    if (objectives == null) {
+      objectives = new double[2] ;
+      evaluateTour(variable.vector_, objectives) ;
+    } else if (variable.getSwapPosition1() != -1) {
+      int r = variable.getSwapPosition1() ;
+      int s = variable.getSwapPosition2() ;
+      objectives[0] += TourUtil.swapDelta(distanceMatrix_, variable.vector_, r, s) ;
+      objectives[1] += TourUtil.swapDelta(costMatrix_, variable.vector_, r, s) ;
+    } // if
+
+    variable.setCachedObjectives(this, objectives) ;
+    solution.setObjective(0, objectives[0]);            
+    solution.setObjective(1, objectives[1]);
+  } // evaluate
+
+  /**
+   * Computes the length of a tour with both matrices
+   * @param tour The tour
+   * @param objectives The lengths (output)
+   */
+  private void evaluateTour(int [] tour, double [] objectives) {
     double fitness1   ;
     double fitness2   ;
-    
+
     fitness1   = 0.0 ;
     fitness2   = 0.0 ;
 
     for (int i = 0; i < (numberOfCities_ - 1); i++) {
       int x ; 
       int y ;
-      
-      x = ((Permutation)solution.getDecisionVariables()[0]).vector_[i] ;
-      y = ((Permutation)solution.getDecisionVariables()[0]).vector_[i+1] ;
-//  cout << "I : " << i << ", x = " << x << ", y = " << y << endl ;    
+
+      x = tour[i] ;
+      y = tour[i+1] ;
       fitness1 += distanceMatrix_[x][y] ;
       fitness2 += costMatrix_[x][y];
     } // for
     int firstCity ;
     int lastCity  ;
-    
-    firstCity = ((Permutation)solution.getDecisionVariables()[0]).vector_[0] ;
-    lastCity  = ((Permutation)solution.getDecisionVariables()[0]).vector_[numberOfCities_ - 1] ;
+
+    firstCity = tour[0] ;
+    lastCity  = tour[numberOfCities_ - 1] ;
     fitness1 += distanceMatrix_[firstCity][lastCity] ;
     fitness2 += costMatrix_[firstCity][lastCity];
-    
-    solution.setObjective(0, fitness1);            
-    solution.setObjective(1, fitness2);
-  } // evaluate
+
+    objectives[0] = fitness1 ;
+    objectives[1] = fitness2 ;
+  } // evaluateTour
 
 
   public double [][] readProblem(String file) throws
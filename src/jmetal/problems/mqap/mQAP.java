@@ -85,17 +85,67 @@ public class mQAP extends Problem {
   } // mQAP
   
   
-  // evaluation of the problem
+  // evaluation of the problem. If the permutation only differs from the
+  // one of its cached objective values in a swap, the objectives are
+  // updated in O(n) instead of being computed again in O(n^2)
   public void evaluate(Solution solution) throws JMException {
-    int [] permutation = ((Permutation)solution.getDecisionVariables()[0]).vector_;
-    for (int k = 0; k < numberOfObjectives_; k++) {      
-      double aux = 0.0;
-      for (int i = 0; i < a_matrix.length; i++) {        
-        for (int j = 0; j < a_matrix[i].length; j++) {
-          aux += a_matrix[i][j] * b_matrixs[k][permutation[i]][permutation[j]];
+    Permutation variable = (Permutation)solution.getDecisionVariables()[0];
+    int [] permutation = variable.vector_;
+    double [] objectives = variable.getCachedObjectives(this);
+
+    if (objectives == null) {
+      objectives = new double[numberOfObjectives_];
+      for (int k = 0; k < numberOfObjectives_; k++) {      
+        double aux = 0.0;
+        for (int i = 0; i < a_matrix.length; i++) {        
+          for (int j = 0; j < a_matrix[i].length; j++) {
+            aux += a_matrix[i][j] * b_matrixs[k][permutation[i]][permutation[j]];
+          }
         }
+        objectives[k] = aux;
       }
-      solution.setObjective(k, aux);
-    }
+    } else if (variable.getSwapPosition1() != -1) {
+      for (int k = 0; k < numberOfObjectives_; k++)
+        objectives[k] += swapDelta(k, permutation, variable.getSwapPosition1(),
+                                   variable.getSwapPosition2());
+    } // if
+
+    variable.setCachedObjectives(this, objectives);
+    for (int k = 0; k < numberOfObjectives_; k++)
+      solution.setObjective(k, objectives[k]);
   } // evaluate
+
+  /**
+   * Computes the change of an objective when the facilities at positions r
+   * and s of a permutation are swapped. Only the terms of the flows from or
+   * to those positions change.
+   * @param k The objective
+   * @param p The permutation, once swapped
+   * @param r The first swapped position
+   * @param s The second swapped position
+   * @return The change of the objective
+   */
+  private long swapDelta(int k, int [] p, int r, int s) {
+    int [][] b = b_matrixs[k];
+    int oldR = p[s]; // locations before the swap
+    int oldS = p[r];
+    long delta = 0;
+
+    for (int j = 0; j < p.length; j++) {
+      if ((j == r) || (j == s))
+        continue;
+      int pj = p[j];
+      delta += (long)a_matrix[r][j] * (b[p[r]][pj] - b[oldR][pj])
+             + (long)a_matrix[s][j] * (b[p[s]][pj] - b[oldS][pj])
+             + (long)a_matrix[j][r] * (b[pj][p[r]] - b[pj][oldR])
+             + (long)a_matrix[j][s] * (b[pj][p[s]] - b[pj][oldS]);
+    } // for
+
+    delta += (long)a_matrix[r][r] * (b[p[r]][p[r]] - b[oldR][oldR])
+           + (long)a_matrix[r][s] * (b[p[r]][p[s]] - b[oldR][oldS])
+           + (long)a_matrix[s][r] * (b[p[s]][p[r]] - b[oldS][oldR])
+           + (long)a_matrix[s][s] * (b[p[s]][p[s]] - b[oldS][oldS]);
+
+    return delta;
+  } // swapDelta
 } // mQAP
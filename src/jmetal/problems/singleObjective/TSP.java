@@ -25,6 +25,7 @@ import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.encodings.solutionType.PermutationSolutionType;
 import jmetal.encodings.variable.Permutation;
+import jmetal.problems.TourUtil;
 import jmetal.util.JMException;
 
 import java.io.*;
@@ -74,10 +75,34 @@ public class TSP extends Problem {
   } // TSP
 
   /**
-   * Evaluates a solution
+   * Evaluates a solution. If the permutation only differs from the one of
+   * its cached objective value in a swap, the tour length is updated in
+   * constant time
    * @param solution The solution to evaluate
    */
   public void evaluate(Solution solution) {
+    Permutation variable = (Permutation)solution.getDecisionVariables()[0] ;
+    double [] objectives = variable.getCachedObjectives(this) ;
+
+    if (objectives == null) {
+      objectives = new double[1] ;
+      objectives[0] = evaluateTour(variable.vector_) ;
+    } else if (variable.getSwapPosition1() != -1) {
+      objectives[0] += TourUtil.swapDelta(distanceMatrix_, variable.vector_,
+                                 variable.getSwapPosition1(),
+                                 variable.getSwapPosition2()) ;
+    } // if
+
+    variable.setCachedObjectives(this, objectives) ;
+    solution.setObjective(0, objectives[0]);
+  } // evaluate
+
+  /**
+   * Computes the length of a tour
+   * @param tour The tour
+   * @return The length
+   */
+  private double evaluateTour(int [] tour) {
     double fitness   ;
 
     fitness   = 0.0 ;
@@ -86,20 +111,19 @@ public class TSP extends Problem {
       int x ;
       int y ;
 
-      x = ((Permutation)solution.getDecisionVariables()[0]).vector_[i] ;
-      y = ((Permutation)solution.getDecisionVariables()[0]).vector_[i+1] ;
-//  cout << "I : " << i << ", x = " << x << ", y = " << y << endl ;    
+      x = tour[i] ;
+      y = tour[i+1] ;
       fitness += distanceMatrix_[x][y] ;
     } // for
     int firstCity ;
     int lastCity  ;
 
-    firstCity = ((Permutation)solution.getDecisionVariables()[0]).vector_[0] ;
-    lastCity  = ((Permutation)solution.getDecisionVariables()[0]).vector_[numberOfCities_ - 1] ;
+    firstCity = tour[0] ;
+    lastCity  = tour[numberOfCities_ - 1] ;
     fitness += distanceMatrix_[firstCity][lastCity] ;
 
-    solution.setObjective(0, fitness);
-  } // evaluate
+    return fitness ;
+  } // evaluateTour
 
 
   public void readProblem(String fileName) throws
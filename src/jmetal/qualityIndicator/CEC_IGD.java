@@ -88,12 +88,8 @@ public class CEC_IGD {
     // STEP 3. Sum the distances between each point of the true Pareto front and
     // the nearest point in the true Pareto front
     double sum = 0.0;
-    int i=0;
-    for (;i<trueParetoFront.length;i++){
-      double[] aNormalizedParetoFront=trueParetoFront[i];
-      sum +=utils_.distanceToClosedPoint(aNormalizedParetoFront,
-    		  front);
-    }
+    for (double distance : utils_.distancesToClosedPoint(trueParetoFront, front))
+      sum += distance;
    
     
     // STEP 4. Obtain the sqrt of the sum
@@ -104,6 +100,29 @@ public class CEC_IGD {
     
     return generationalDistance;
   } // generationalDistance
+
+  /**
+   * Returns the inverted generational distance value for a given front
+   * @param front The front
+   * @param referenceFront The true pareto front
+   */
+  public double cec_IGD(double [][] front,
+                        jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    return cec_IGD(utils_.distancesToClosedPoint(referenceFront.getPoints(), front));
+  } // cec_IGD
+
+  /**
+   * Returns the inverted generational distance value given the distances of
+   * the points of the true pareto front to their nearest point in the front
+   * @param distances The distances, in the order of the true pareto front
+   */
+  public double cec_IGD(double [] distances) {
+    double sum = 0.0;
+    for (double distance : distances)
+      sum += distance;
+
+    return sum / distances.length;
+  } // cec_IGD
   
   /**
    * This class can be invoqued from the command line. Two params are required:
@@ -112,6 +112,47 @@ public class Epsilon {
     }
     return eps;
   } // epsilon
+
+  /**
+   * Returns the additive epsilon indicator of a front with respect to a
+   * reference front. The value is the same as that of
+   * <code>epsilon(front, referenceFront.getPoints(), m)</code>, but the
+   * points of the front which cannot change the result are skipped.
+   * @param front Solution front
+   * @param referenceFront True Pareto front
+   * @return the value of the epsilon indicator
+   */
+  public double epsilon(double [][] front,
+                        jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    double [][] points = referenceFront.getPoints() ;
+    int numberOfObjectives = referenceFront.getNumberOfObjectives() ;
+    if ((front.length == 0) || (points.length == 0))
+      return epsilon(front, points, numberOfObjectives) ;
+
+    double eps = 0.0 ;
+    for (int i = 0; i < points.length; i++) {
+      double [] a = points[i] ;
+      double eps_j = Double.POSITIVE_INFINITY ;
+      for (int j = 0; j < front.length; j++) {
+        double [] b = front[j] ;
+        double eps_k = b[0] - a[0] ;
+        // Once eps_k reaches eps_j this point cannot lower eps_j
+        for (int k = 1; (k < numberOfObjectives) && (eps_k < eps_j); k++) {
+          double eps_temp = b[k] - a[k] ;
+          if (eps_k < eps_temp)
+            eps_k = eps_temp ;
+        }
+        if ((j == 0) || (eps_j > eps_k))
+          eps_j = eps_k ;
+        // Once eps_j falls to eps this reference point cannot raise eps
+        if ((i > 0) && (eps_j <= eps))
+          break ;
+      }
+      if ((i == 0) || (eps < eps_j))
+        eps = eps_j ;
+    }
+    return eps ;
+  } // epsilon
  
   /**
    * Established the params by default
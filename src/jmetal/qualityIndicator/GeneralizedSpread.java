@@ -101,44 +101,87 @@ public class GeneralizedSpread {
       Arrays.sort(normalizedParetoFront,new jmetal.qualityIndicator.util.ValueComparator(i));
         System.arraycopy(normalizedParetoFront[normalizedParetoFront.length - 1], 0, extremValues[i], 0, numberOfObjectives);
     }
-    
-    int numberOfPoints     = normalizedFront.length;
-    int numberOfTruePoints = normalizedParetoFront.length;
-    
-    
+
+    return generalizedSpread(normalizedFront, extremValues);
+  } // generalizedSpread
+
+  /**
+   *  Calculates the generalized spread metric using the extreme points
+   *  precomputed for the true pareto front. The front is sorted in place.
+   *  @param paretoFront The pareto front.
+   *  @param referenceFront The true pareto front.
+   *  @return the value of the generalized spread metric
+   **/
+  public double generalizedSpread(double [][] paretoFront,
+                                  jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    return generalizedSpread(paretoFront, referenceFront.getExtremeValues());
+  } // generalizedSpread
+
+  /**
+   * Generalized spread of a front given the extreme point of each objective
+   */
+  private double generalizedSpread(double [][] normalizedFront,
+                                   double [][] extremValues) {
     // STEP 4. Sorts the normalized front
     Arrays.sort(normalizedFront,new jmetal.qualityIndicator.util.LexicoGraphicalComparator());
-    
+
+    return generalizedSpread(normalizedFront, extremValues,
+            new jmetal.qualityIndicator.util.KDTree(normalizedFront));
+  } // generalizedSpread
+
+  /**
+   *  Calculates the generalized spread metric of a front already sorted in
+   *  lexicographical order, given a <code>KDTree</code> built over it.
+   *  @param sortedFront The pareto front, sorted lexicographically.
+   *  @param referenceFront The true pareto front.
+   *  @param tree Tree over the points of sortedFront.
+   *  @return the value of the generalized spread metric
+   **/
+  double generalizedSpread(double [][] sortedFront,
+                           jmetal.qualityIndicator.util.ReferenceFront referenceFront,
+                           jmetal.qualityIndicator.util.KDTree tree) {
+    return generalizedSpread(sortedFront, referenceFront.getExtremeValues(), tree);
+  } // generalizedSpread
+
+  /**
+   * Generalized spread of a sorted front given the extreme point of each
+   * objective and a tree over the front
+   */
+  private double generalizedSpread(double [][] normalizedFront,
+                                   double [][] extremValues,
+                                   jmetal.qualityIndicator.util.KDTree tree) {
+    int numberOfPoints     = normalizedFront.length;
+
     // STEP 5. Calculate the metric value. The value is 1.0 by default
     if (utils_.distance(normalizedFront[0],normalizedFront[normalizedFront.length-1])==0.0) {
       return 1.0;
     } else {
-      
-      double dmean = 0.0;
-      
+
       // STEP 6. Calculate the mean distance between each point and its nearest neighbor
-      for (double[] aNormalizedFront : normalizedFront) {
-        dmean += utils_.distanceToNearestPoint(aNormalizedFront, normalizedFront);
+      double [] nearest = new double[numberOfPoints];
+      double dmean = 0.0;
+      for (int i = 0; i < numberOfPoints; i++) {
+        nearest[i] = tree.distanceToNearestPoint(normalizedFront[i]);
+        dmean += nearest[i];
       }
-      
+
       dmean = dmean / (numberOfPoints);
-      
+
       // STEP 7. Calculate the distance to extremal values
       double dExtrems = 0.0;
       for (double[] extremValue : extremValues) {
-        dExtrems += utils_.distanceToClosedPoint(extremValue, normalizedFront);
+        dExtrems += tree.distanceToClosestPoint(extremValue);
       }
-      
+
       // STEP 8. Computing the value of the metric
       double mean = 0.0;
-      for (double[] aNormalizedFront : normalizedFront) {
-        mean += Math.abs(utils_.distanceToNearestPoint(aNormalizedFront, normalizedFront) -
-                dmean);
+      for (int i = 0; i < numberOfPoints; i++) {
+        mean += Math.abs(nearest[i] - dmean);
       }
-      
+
       double value = (dExtrems + mean) / (dExtrems + (numberOfPoints*dmean));
       return value;
-      
+
     }
   } // generalizedSpread
      
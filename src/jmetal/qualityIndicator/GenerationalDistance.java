@@ -91,10 +91,9 @@ public class GenerationalDistance {
     // STEP 3. Sum the distances between each point of the front and the 
     // nearest point in the true Pareto front
     double sum = 0.0;
-    for (int i = 0; i < front.length; i++) 
-      sum += Math.pow(utils_.distanceToClosedPoint(normalizedFront[i],
-    		                                       normalizedParetoFront),
-    		                                       pow_);
+    for (double distance : utils_.distancesToClosedPoint(normalizedFront,
+                                                          normalizedParetoFront))
+      sum += Math.pow(distance, pow_);
    
     // STEP 4. Obtain the sqrt of the sum
     sum = Math.pow(sum,1.0/pow_);
@@ -104,6 +103,23 @@ public class GenerationalDistance {
     
     return generationalDistance;
   } // generationalDistance
+
+  /**
+   * Returns the generational distance value for a given front, looking up
+   * the nearest points in the precomputed true pareto front
+   * @param front The front
+   * @param referenceFront The true pareto front
+   */
+  public double generationalDistance(double [][] front,
+                                     jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    double sum = 0.0;
+    for (double[] point : front)
+      sum += Math.pow(referenceFront.distanceToClosestPoint(point), pow_);
+
+    sum = Math.pow(sum,1.0/pow_);
+
+    return sum / front.length;
+  } // generationalDistance
   
   /**
    * This class can be invoqued from the command line. Two params are required:
@@ -21,6 +21,15 @@
 
 package jmetal.qualityIndicator;
 
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * This class implements the hypervolume indicator. The code is the a Java version
  * of the original metric implementation by Eckart Zitzler.
@@ -139,7 +148,181 @@ public class Hypervolume {
     return n;
   } // ReduceNondominatedSet
 
+  /**
+   * Returns the volume dominated by the first 'noPoints' points of 'front'
+   * regarding the first 'noObjectives' objectives (all of them maximized and
+   * measured from the origin). Fronts with non-negative values are handled by
+   * an exact algorithm specialised on the number of objectives: a sweep for
+   * two objectives, a dimension sweep for three and WFG for four or more.
+   * Other fronts are computed with the original slicing code.
+   * @param front The front
+   * @param noPoints Number of points of the front to consider
+   * @param noObjectives Number of objectives to consider
+   */
   public double calculateHypervolume(double [][] front, int  noPoints,int  noObjectives){
+    if ((noObjectives < 2) || !isNonNegative(front, noPoints, noObjectives))
+      return calculateHypervolumeHSO(front, noPoints, noObjectives);
+
+    double [][] points = positivePoints(front, noPoints, noObjectives);
+    if (points.length == 0)
+      return 0.0;
+    else if (noObjectives == 2)
+      return hypervolume2D(points);
+    else if (noObjectives == 3)
+      return hypervolume3D(points);
+    else
+      return hypervolumeWFG(points, noObjectives);
+  } // CalculateHypervolume
+
+  /* returns true if the first 'noObjectives' values of the points
+     'front[0..noPoints-1]' are non-negative numbers */
+  boolean isNonNegative(double [][] front, int noPoints, int noObjectives) {
+    for (int i = 0; i < noPoints; i++)
+      for (int j = 0; j < noObjectives; j++)
+        if (!(front[i][j] >= 0.0))
+          return false;
+
+    return true;
+  } // isNonNegative
+
+  /* returns the points of 'front[0..noPoints-1]' that are strictly positive
+     in the first 'noObjectives' objectives; the rest have no volume */
+  double [][] positivePoints(double [][] front, int noPoints, int noObjectives) {
+    double [][] points = new double[noPoints][];
+    int n = 0;
+    for (int i = 0; i < noPoints; i++) {
+      int j = 0;
+      while ((j < noObjectives) && (front[i][j] > 0.0))
+        j++;
+      if (j == noObjectives)
+        points[n++] = front[i];
+    }
+
+    return Arrays.copyOf(points, n);
+  } // positivePoints
+
+  /* two objectives: the points are visited in decreasing order of the first
+     objective and each one adds the strip above the highest point seen */
+  double hypervolume2D(double [][] points) {
+    Arrays.sort(points, new Comparator<double[]>() {
+      public int compare(double [] p, double [] q) {
+        int result = Double.compare(q[0], p[0]);
+        return (result != 0) ? result : Double.compare(q[1], p[1]);
+      }
+    });
+
+    double volume = 0.0;
+    double height = 0.0;
+    for (double [] point : points) {
+      if (point[1] > height) {
+        volume += point[0] * (point[1] - height);
+        height = point[1];
+      }
+    }
+
+    return volume;
+  } // hypervolume2D
+
+  /* three objectives: dimension sweep in decreasing order of the third
+     objective, keeping the two-dimensional staircase of the points visited
+     so far (first objective -> second objective) and its area */
+  double hypervolume3D(double [][] points) {
+    Arrays.sort(points, new Comparator<double[]>() {
+      public int compare(double [] p, double [] q) {
+        return Double.compare(q[2], p[2]);
+      }
+    });
+
+    TreeMap<Double, Double> staircase = new TreeMap<Double, Double>();
+    double volume = 0.0;
+    double area = 0.0;
+    double distance = points[0][2];
+    for (double [] point : points) {
+      volume += area * (distance - point[2]);
+      distance = point[2];
+      area += insertInStaircase(staircase, point[0], point[1]);
+    }
+    volume += area * distance;
+
+    return volume;
+  } // hypervolume3D
+
+  /* inserts (x, y) in the staircase and returns the area it adds */
+  double insertInStaircase(TreeMap<Double, Double> staircase, double x, double y) {
+    Map.Entry<Double, Double> right = staircase.ceilingEntry(x);
+    if ((right != null) && (right.getValue() >= y))
+      return 0.0;
+
+    double delta = 0.0;
+    Map.Entry<Double, Double> left = staircase.floorEntry(x);
+    while ((left != null) && (left.getValue() <= y)) {
+      Map.Entry<Double, Double> lower = staircase.lowerEntry(left.getKey());
+      Map.Entry<Double, Double> higher = staircase.higherEntry(left.getKey());
+      double lowerX = (lower == null) ? 0.0 : lower.getKey();
+      double higherY = (higher == null) ? 0.0 : higher.getValue();
+      delta -= (left.getKey() - lowerX) * (left.getValue() - higherY);
+      staircase.remove(left.getKey());
+      left = lower;
+    }
+
+    right = staircase.higherEntry(x);
+    double leftX = (left == null) ? 0.0 : left.getKey();
+    double rightY = (right == null) ? 0.0 : right.getValue();
+    delta += (x - leftX) * (y - rightY);
+    staircase.put(x, y);
+
+    return delta;
+  } // insertInStaircase
+
+  /* four or more objectives: the dominated points are discarded and the rest
+     are handed to WFG, which presorts them on the last objective and bounds
+     every exclusive volume by the points that follow it. WFG minimizes, so
+     the points are negated and the origin is kept as reference point */
+  double hypervolumeWFG(double [][] points, int noObjectives) {
+    double [][] nondominated = new double[points.length][];
+    int n = 0;
+    for (int i = 0; i < points.length; i++) {
+      boolean dominated = false;
+      for (int j = 0; (j < points.length) && !dominated; j++)
+        if (j != i)
+          dominated = weaklyDominates(points[j], points[i], noObjectives) &&
+                  ((j < i) || !weaklyDominates(points[i], points[j], noObjectives));
+      if (!dominated)
+        nondominated[n++] = points[i];
+    }
+
+    Front front = new Front();
+    front.points_ = new Point[n];
+    front.nPoints_ = n;
+    for (int i = 0; i < n; i++) {
+      double [] objectives = new double[noObjectives];
+      for (int j = 0; j < noObjectives; j++)
+        objectives[j] = -nondominated[i][j];
+      front.points_[i] = new Point(objectives);
+    }
+
+    return new WFGHV(noObjectives, n, new Point(noObjectives)).getHV(front);
+  } // hypervolumeWFG
+
+  /* returns true if 'point1' is not worse than 'point2' in any of the first
+     'noObjectives' objectives */
+  boolean weaklyDominates(double [] point1, double [] point2, int noObjectives) {
+    for (int i = 0; i < noObjectives; i++)
+      if (point1[i] < point2[i])
+        return false;
+
+    return true;
+  } // weaklyDominates
+
+  /**
+   * Original recursive slicing algorithm by Eckart Zitzler. It is used for
+   * the fronts having negative values, as the specialised algorithms assume
+   * that every point dominates the origin.
+   * @param front The front
+   * @param noPoints Number of points of the front to consider
+   * @param noObjectives Number of objectives to consider
+   */
+  public double calculateHypervolumeHSO(double [][] front, int  noPoints,int  noObjectives){
     int     n;
     double  volume, distance;
 
@@ -158,9 +341,9 @@ public class Hypervolume {
       
         tempVolume = front[0][0];
       } else
-        tempVolume = calculateHypervolume(front,
-                                          noNondominatedPoints,
-                                          noObjectives - 1);
+        tempVolume = calculateHypervolumeHSO(front,
+                                             noNondominatedPoints,
+                                             noObjectives - 1);
       
       tempDistance = surfaceUnchangedTo(front, n, noObjectives - 1);
       volume += tempVolume * (tempDistance - distance);
@@ -168,7 +351,7 @@ public class Hypervolume {
       n = reduceNondominatedSet(front, n, noObjectives - 1, distance);
     }
     return volume;
-  } // CalculateHypervolume
+  } // CalculateHypervolumeHSO
 
    
   /* merge two fronts */
@@ -248,6 +431,21 @@ public class Hypervolume {
     // STEP4. The hypervolumen (control is passed to java version of Zitzler code)
     return this.calculateHypervolume(invertedFront,invertedFront.length,numberOfObjectives);
   }// hypervolume
+
+  /**
+   * Returns the hypervolume of a front, normalized with the bounds
+   * precomputed for the true Pareto front
+   * @param paretoFront The front
+   * @param referenceFront The true Pareto front
+   */
+  public double hypervolume(double [][] paretoFront,
+                            jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    double [][] normalizedFront = utils_.getNormalizedFront(paretoFront,
+                                                referenceFront.getMaximumValues(),
+                                                referenceFront.getMinimumValues());
+    return this.calculateHypervolume(normalizedFront, normalizedFront.length,
+                                     referenceFront.getNumberOfObjectives());
+  } // hypervolume
   
   /**
    * This class can be invoqued from the command line. Three params are required:
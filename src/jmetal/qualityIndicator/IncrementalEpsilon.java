@@ -0,0 +1,56 @@
+//  IncrementalEpsilon.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator;
+
+import jmetal.qualityIndicator.util.ReferenceFront;
+
+/**
+ * Additive epsilon indicator of a front which changes by a few solutions at a
+ * time (see <code>IncrementalIndicator</code>). The smallest epsilon by which
+ * a member covers every point of the true Pareto front is kept, so the value
+ * is the one returned by <code>Epsilon</code> (as QualityIndicator calls it)
+ * for the same front. It is infinite while the front is empty.
+ */
+public class IncrementalEpsilon extends IncrementalIndicator {
+
+  /**
+   * Constructor
+   * @param referenceFront The true Pareto front
+   */
+  public IncrementalEpsilon(ReferenceFront referenceFront) {
+    super(referenceFront) ;
+  } // IncrementalEpsilon
+
+  protected double evaluate(double [] reference, double [] member) {
+    double epsilon = member[0] - reference[0] ;
+    for (int k = 1; k < numberOfObjectives_; k++) {
+      double value = member[k] - reference[k] ;
+      if (epsilon < value)
+        epsilon = value ;
+    }
+    return epsilon ;
+  } // evaluate
+
+  public double getValue() {
+    double epsilon = Double.MIN_VALUE ;
+    for (int j = 0; j < best_.length; j++) {
+      if ((j == 0) || (epsilon < best_[j]))
+        epsilon = best_[j] ;
+    }
+    return epsilon ;
+  } // getValue
+} // IncrementalEpsilon
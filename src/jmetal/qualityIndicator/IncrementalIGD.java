@@ -0,0 +1,49 @@
+//  IncrementalIGD.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator;
+
+import jmetal.qualityIndicator.util.ReferenceFront;
+
+/**
+ * Inverted generational distance of a front which changes by a few solutions
+ * at a time (see <code>IncrementalIndicator</code>). The distance from every
+ * point of the true Pareto front to its closest member is kept, so the value
+ * is the one returned by <code>InvertedGenerationalDistance</code> for the
+ * same front. It is infinite while the front is empty.
+ */
+public class IncrementalIGD extends IncrementalIndicator {
+  public jmetal.qualityIndicator.util.MetricsUtil utils_;
+  private InvertedGenerationalDistance igd_ ;
+
+  /**
+   * Constructor
+   * @param referenceFront The true Pareto front
+   */
+  public IncrementalIGD(ReferenceFront referenceFront) {
+    super(referenceFront) ;
+    utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
+    igd_   = new InvertedGenerationalDistance() ;
+  } // IncrementalIGD
+
+  protected double evaluate(double [] reference, double [] member) {
+    return utils_.distance(reference, member) ;
+  } // evaluate
+
+  public double getValue() {
+    return igd_.invertedGenerationalDistance(best_) ;
+  } // getValue
+} // IncrementalIGD
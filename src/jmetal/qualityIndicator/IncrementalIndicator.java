@@ -0,0 +1,242 @@
+//  IncrementalIndicator.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.util.ReferenceFront;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class of the indicators computed from the best value, over the members
+ * of a front, of a function of every point of a reference front (e.g. the
+ * distance to the closest member in IGD). The members are added and removed
+ * one at a time or by synchronising with an archive (<code>update</code>),
+ * and the best value of every reference point is kept up to date: an
+ * insertion is compared with every reference point, and a removal only causes
+ * the reference points whose best member left to be recomputed. Tracking an
+ * archive changing by a few solutions per generation costs then in
+ * proportion to the change instead of to the size of the archive.
+ *
+ * The members are identified by reference, and their objective values are
+ * copied when they are added, so an archive can reuse the Solution objects
+ * it has discarded.
+ */
+public abstract class IncrementalIndicator {
+  /**
+   * Member of the front
+   */
+  private static class Member {
+    double [] objectives_ ;
+    int       position_ ;
+
+    Member(double [] objectives, int position) {
+      objectives_ = objectives ;
+      position_   = position ;
+    } // Member
+  } // Member
+
+  protected ReferenceFront referenceFront_ ;
+  protected int            numberOfObjectives_ ;
+
+  /**
+   * best_[j]: best value of reference point j over the members
+   */
+  protected double []      best_ ;
+
+  private double [][]      references_ ;
+  private Member []        owner_ ;
+  private List<Member>     members_ ;
+  private Map<Solution, Member> index_ ;
+
+  /**
+   * Reference points whose best member has been removed
+   */
+  private int []           orphans_ ;
+  private int              numberOfOrphans_ ;
+  private boolean []       isOrphan_ ;
+
+  /**
+   * Constructor
+   * @param referenceFront The true Pareto front
+   */
+  public IncrementalIndicator(ReferenceFront referenceFront) {
+    referenceFront_     = referenceFront ;
+    numberOfObjectives_ = referenceFront.getNumberOfObjectives() ;
+    references_         = referenceFront.getPoints() ;
+    best_               = new double[references_.length] ;
+    owner_              = new Member[references_.length] ;
+    orphans_            = new int[references_.length] ;
+    isOrphan_           = new boolean[references_.length] ;
+    members_            = new ArrayList<Member>() ;
+    index_              = new IdentityHashMap<Solution, Member>() ;
+    clear() ;
+  } // IncrementalIndicator
+
+  /**
+   * Value of the function for a reference point and a member; the lower the
+   * better
+   */
+  protected abstract double evaluate(double [] reference, double [] member) ;
+
+  /**
+   * Returns the value of the indicator for the current members
+   */
+  public abstract double getValue() ;
+
+  /**
+   * Removes all the members
+   */
+  public void clear() {
+    members_.clear() ;
+    index_.clear() ;
+    for (int j = 0; j < best_.length; j++) {
+      best_[j]     = Double.POSITIVE_INFINITY ;
+      owner_[j]    = null ;
+      isOrphan_[j] = false ;
+    }
+    numberOfOrphans_ = 0 ;
+  } // clear
+
+  /**
+   * Returns the number of members
+   */
+  public int size() {
+    return members_.size() ;
+  } // size
+
+  /**
+   * Adds a solution to the front; nothing is done if it is already there
+   * @param solution The solution
+   */
+  public void add(Solution solution) {
+    if (!index_.containsKey(solution)) {
+      insert(solution) ;
+      recomputeOrphans() ;
+    }
+  } // add
+
+  /**
+   * Removes a solution from the front; nothing is done if it is not there
+   * @param solution The solution
+   */
+  public void remove(Solution solution) {
+    Member member = index_.remove(solution) ;
+    if (member != null) {
+      detach(member) ;
+      recomputeOrphans() ;
+    }
+  } // remove
+
+  /**
+   * Makes the members be the solutions of an archive: the solutions that
+   * are no longer in the archive are removed and the new ones are added
+   * @param archive The archive
+   */
+  public void update(SolutionSet archive) {
+    Set<Solution> present = Collections.newSetFromMap(
+        new IdentityHashMap<Solution, Boolean>()) ;
+    for (int i = 0; i < archive.size(); i++)
+      present.add(archive.get(i)) ;
+
+    Iterator<Map.Entry<Solution, Member>> iterator = index_.entrySet().iterator() ;
+    while (iterator.hasNext()) {
+      Map.Entry<Solution, Member> entry = iterator.next() ;
+      if (!present.contains(entry.getKey())) {
+        Member member = entry.getValue() ;
+        iterator.remove() ;
+        detach(member) ;
+      }
+    }
+
+    for (int i = 0; i < archive.size(); i++)
+      if (!index_.containsKey(archive.get(i)))
+        insert(archive.get(i)) ;
+
+    recomputeOrphans() ;
+  } // update
+
+  /**
+   * Adds a member and improves the reference points it is the best for
+   */
+  private void insert(Solution solution) {
+    double [] objectives = new double[numberOfObjectives_] ;
+    for (int k = 0; k < numberOfObjectives_; k++)
+      objectives[k] = solution.getObjective(k) ;
+
+    Member member = new Member(objectives, members_.size()) ;
+    members_.add(member) ;
+    index_.put(solution, member) ;
+
+    for (int j = 0; j < references_.length; j++) {
+      double value = evaluate(references_[j], objectives) ;
+      if (value < best_[j]) {
+        best_[j]  = value ;
+        owner_[j] = member ;
+      }
+    }
+  } // insert
+
+  /**
+   * Removes a member; the reference points it was the best for become orphans
+   */
+  private void detach(Member member) {
+    Member last = members_.remove(members_.size() - 1) ;
+    if (last != member) {
+      members_.set(member.position_, last) ;
+      last.position_ = member.position_ ;
+    }
+
+    for (int j = 0; j < references_.length; j++) {
+      if (owner_[j] == member) {
+        owner_[j] = null ;
+        best_[j]  = Double.POSITIVE_INFINITY ;
+        if (!isOrphan_[j]) {
+          isOrphan_[j] = true ;
+          orphans_[numberOfOrphans_++] = j ;
+        }
+      }
+    }
+  } // detach
+
+  /**
+   * Finds the best member of every orphan reference point
+   */
+  private void recomputeOrphans() {
+    for (int o = 0; o < numberOfOrphans_; o++) {
+      int j = orphans_[o] ;
+      isOrphan_[j] = false ;
+      best_[j]     = Double.POSITIVE_INFINITY ;
+      owner_[j]    = null ;
+      for (Member member : members_) {
+        double value = evaluate(references_[j], member.objectives_) ;
+        if (value < best_[j]) {
+          best_[j]  = value ;
+          owner_[j] = member ;
+        }
+      }
+    }
+    numberOfOrphans_ = 0 ;
+  } // recomputeOrphans
+} // IncrementalIndicator
@@ -0,0 +1,219 @@
+//  IndicatorTracker.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator;
+
+import jmetal.core.Algorithm;
+import jmetal.core.GenerationListener;
+import jmetal.core.SolutionSet;
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Generation listener recording the convergence curve of a run: the values
+ * of some quality indicators against the number of evaluations. At the end
+ * of a generation only the objective values of the archive are copied; the
+ * indicators are computed by a background thread, which writes one CSV line
+ * per generation:
+ *
+ *   generation,evaluations,IGD,HV
+ *
+ * The algorithm never waits for the tracker: if the background thread falls
+ * behind and its queue is full, the snapshot is discarded and counted (see
+ * <code>getDroppedSnapshots</code>); <code>setInterval</code> reduces the
+ * number of snapshots. <code>close</code> must be called at the end of the
+ * run to write the pending snapshots and close the stream.
+ */
+public class IndicatorTracker implements GenerationListener {
+  /**
+   * Objective values of the archive at the end of a generation
+   */
+  private static class Snapshot {
+    int          generation_ ;
+    int          evaluations_ ;
+    double [][]  front_ ;
+
+    Snapshot(int generation, int evaluations, double [][] front) {
+      generation_  = generation ;
+      evaluations_ = evaluations ;
+      front_       = front ;
+    } // Snapshot
+  } // Snapshot
+
+  /**
+   * Marks the end of the snapshots
+   */
+  private static final Snapshot END = new Snapshot(-1, -1, null) ;
+
+  private QualityIndicator         reference_ ;
+  private int []                   indicators_ ;
+  private BufferedWriter           writer_ ;
+  private BlockingQueue<Snapshot>  queue_ ;
+  private Thread                   worker_ ;
+  private int                      interval_ ;
+  private volatile long            droppedSnapshots_ ;
+  private volatile Exception       error_ ;
+
+  /**
+   * Constructor
+   * @param reference Quality indicators of the problem
+   * @param indicators Indicators to record (QualityIndicator.IGD, ...)
+   * @param path File where the curve is written
+   * @throws JMException
+   */
+  public IndicatorTracker(QualityIndicator reference, int [] indicators,
+                          String path) throws JMException {
+    this(reference, indicators, openFile(path)) ;
+  } // IndicatorTracker
+
+  /**
+   * Constructor
+   * @param reference Quality indicators of the problem
+   * @param indicators Indicators to record (QualityIndicator.IGD, ...)
+   * @param stream Stream where the curve is written; closed by close()
+   * @throws JMException
+   */
+  public IndicatorTracker(QualityIndicator reference, int [] indicators,
+                          OutputStream stream) throws JMException {
+    for (int indicator : indicators) {
+      if ((indicator < 0) || (indicator >= QualityIndicator.NUMBER_OF_INDICATORS)) {
+        Configuration.logger_.severe("IndicatorTracker: unknown indicator " + indicator) ;
+        throw new JMException("Exception in IndicatorTracker") ;
+      }
+    }
+
+    reference_  = reference ;
+    indicators_ = indicators.clone() ;
+    writer_     = new BufferedWriter(new OutputStreamWriter(stream)) ;
+    queue_      = new ArrayBlockingQueue<Snapshot>(64) ;
+    interval_   = 1 ;
+
+    StringBuilder header = new StringBuilder("generation,evaluations") ;
+    for (int indicator : indicators_)
+      header.append(',').append(QualityIndicator.NAMES[indicator]) ;
+    write(header.toString()) ;
+
+    worker_ = new Thread(new Runnable() {
+      public void run() {
+        track() ;
+      }
+    }, "IndicatorTracker") ;
+    worker_.setDaemon(true) ;
+    worker_.start() ;
+  } // IndicatorTracker
+
+  /**
+   * Records only one generation out of <code>interval</code> (and the
+   * initial population)
+   * @param interval Number of generations between snapshots
+   */
+  public void setInterval(int interval) {
+    interval_ = Math.max(interval, 1) ;
+  } // setInterval
+
+  /**
+   * Returns the number of snapshots discarded because the background thread
+   * was busy
+   */
+  public long getDroppedSnapshots() {
+    return droppedSnapshots_ ;
+  } // getDroppedSnapshots
+
+  public void generationCompleted(Algorithm algorithm, int generation,
+                                  int evaluations, SolutionSet archive) {
+    if (generation % interval_ != 0)
+      return ;
+    Snapshot snapshot = new Snapshot(generation, evaluations,
+                                     archive.writeObjectivesToMatrix()) ;
+    if (!queue_.offer(snapshot))
+      droppedSnapshots_++ ;
+  } // generationCompleted
+
+  /**
+   * Waits for the pending snapshots to be written and closes the stream
+   * @throws JMException
+   */
+  public void close() throws JMException {
+    try {
+      queue_.put(END) ;
+      worker_.join() ;
+      writer_.close() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt() ;
+      Configuration.logger_.severe("IndicatorTracker.close: interrupted") ;
+      throw new JMException("Exception in IndicatorTracker.close()") ;
+    } catch (IOException e) {
+      error_ = e ;
+    }
+
+    if (error_ != null) {
+      Configuration.logger_.severe("IndicatorTracker.close: " + error_) ;
+      throw new JMException("Exception in IndicatorTracker.close()") ;
+    }
+  } // close
+
+  /**
+   * Body of the background thread
+   */
+  private void track() {
+    try {
+      Snapshot snapshot = queue_.take() ;
+      while (snapshot != END) {
+        StringBuilder line = new StringBuilder() ;
+        line.append(snapshot.generation_).append(',').append(snapshot.evaluations_) ;
+        try {
+          for (int indicator : indicators_)
+            line.append(',').append(reference_.compute(indicator, snapshot.front_)) ;
+          write(line.toString()) ;
+        } catch (RuntimeException e) {
+          // keep draining the queue, so that close() does not wait forever
+          error_ = e ;
+        }
+        snapshot = queue_.take() ;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt() ;
+    }
+  } // track
+
+  private void write(String line) {
+    if (error_ != null)
+      return ;
+    try {
+      writer_.write(line) ;
+      writer_.newLine() ;
+    } catch (IOException e) {
+      error_ = e ;
+    }
+  } // write
+
+  private static OutputStream openFile(String path) throws JMException {
+    try {
+      return new FileOutputStream(path) ;
+    } catch (IOException e) {
+      Configuration.logger_.severe("IndicatorTracker: cannot open " + path) ;
+      throw new JMException("Exception in IndicatorTracker") ;
+    }
+  } // openFile
+} // IndicatorTracker
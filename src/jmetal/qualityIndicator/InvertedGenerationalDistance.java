@@ -91,10 +91,9 @@ public class InvertedGenerationalDistance {
     // STEP 3. Sum the distances between each point of the true Pareto front and
     // the nearest point in the true Pareto front
     double sum = 0.0;
-    for (double[] aNormalizedParetoFront : normalizedParetoFront)
-      sum += Math.pow(utils_.distanceToClosedPoint(aNormalizedParetoFront,
-              normalizedFront),
-              pow_);
+    for (double distance : utils_.distancesToClosedPoint(normalizedParetoFront,
+                                                          normalizedFront))
+      sum += Math.pow(distance, pow_);
     	//sum += utils_.distanceToClosedPoint(aNormalizedParetoFront,
                 //normalizedFront);
    
@@ -107,6 +106,32 @@ public class InvertedGenerationalDistance {
     
     return generationalDistance;
   } // generationalDistance
+
+  /**
+   * Returns the inverted generational distance value for a given front
+   * @param front The front
+   * @param referenceFront The true pareto front
+   */
+  public double invertedGenerationalDistance(double [][] front,
+                                             jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    return invertedGenerationalDistance(
+        utils_.distancesToClosedPoint(referenceFront.getPoints(), front));
+  } // invertedGenerationalDistance
+
+  /**
+   * Returns the inverted generational distance value given the distances of
+   * the points of the true pareto front to their nearest point in the front
+   * @param distances The distances, in the order of the true pareto front
+   */
+  public double invertedGenerationalDistance(double [] distances) {
+    double sum = 0.0;
+    for (double distance : distances)
+      sum += Math.pow(distance, pow_);
+
+    sum = Math.pow(sum,1.0/pow_);
+
+    return sum / distances.length;
+  } // invertedGenerationalDistance
   
   /**
    * This class can be invoqued from the command line. Two params are required:
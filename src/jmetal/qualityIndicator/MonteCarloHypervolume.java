@@ -0,0 +1,371 @@
+//  MonteCarloHypervolume.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator;
+
+import jmetal.util.Configuration;
+import jmetal.util.JMException;
+import jmetal.util.SplittableRandomGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Monte Carlo estimator of the hypervolume, meant for fronts with many
+ * objectives where the exact algorithms are too slow to be run every
+ * generation. The volume is measured as in <code>Hypervolume</code> (all the
+ * objectives maximized, measured from the origin); points with a value lower
+ * than or equal to zero have no volume.
+ *
+ * The bounding box of the front is sampled with a randomized quasi-random
+ * (Kronecker) sequence. The budget is split into independent blocks, each one
+ * with its own random shift drawn from a <code>SplittableRandomGenerator</code>
+ * stream derived from the seed and the block index, so the blocks can be run
+ * in parallel and the result does not depend on the number of threads. The
+ * spread of the block estimates gives the confidence interval.
+ */
+public class MonteCarloHypervolume {
+
+  public jmetal.qualityIndicator.util.MetricsUtil utils_;
+
+  private int    numberOfSamples_ ;
+  private int    numberOfBlocks_ ;
+  private int    numberOfThreads_ ;
+  private long   seed_ ;
+
+  /**
+   * Number of standard errors of the half width of the confidence interval
+   */
+  private double criticalValue_ ;
+
+  /**
+   * Estimation of the hypervolume and its confidence interval
+   */
+  public static class Estimate {
+    private double value_ ;
+    private double standardError_ ;
+    private double halfWidth_ ;
+    private long   numberOfSamples_ ;
+
+    Estimate(double value, double standardError, double halfWidth,
+             long numberOfSamples) {
+      value_           = value ;
+      standardError_   = standardError ;
+      halfWidth_       = halfWidth ;
+      numberOfSamples_ = numberOfSamples ;
+    } // Estimate
+
+    public double getValue() {
+      return value_ ;
+    } // getValue
+
+    public double getStandardError() {
+      return standardError_ ;
+    } // getStandardError
+
+    public double getLowerBound() {
+      return value_ - halfWidth_ ;
+    } // getLowerBound
+
+    public double getUpperBound() {
+      return value_ + halfWidth_ ;
+    } // getUpperBound
+
+    public long getNumberOfSamples() {
+      return numberOfSamples_ ;
+    } // getNumberOfSamples
+
+    public String toString() {
+      return value_ + " [" + getLowerBound() + ", " + getUpperBound() + "]" ;
+    } // toString
+  } // Estimate
+
+  /**
+   * Constructor. The samples are split into 32 blocks run by as many threads
+   * as processors, and the confidence interval is the 95% one
+   * @param numberOfSamples Number of samples of every estimation
+   * @param seed Seed of the random shifts
+   */
+  public MonteCarloHypervolume(int numberOfSamples, long seed) throws JMException {
+    this(numberOfSamples, 32, 0, seed) ;
+  } // MonteCarloHypervolume
+
+  /**
+   * Constructor
+   * @param numberOfSamples Number of samples of every estimation
+   * @param numberOfBlocks Number of independent blocks (at least 2)
+   * @param numberOfThreads Number of threads (0 means as many as processors)
+   * @param seed Seed of the random shifts
+   */
+  public MonteCarloHypervolume(int numberOfSamples, int numberOfBlocks,
+                               int numberOfThreads, long seed) throws JMException {
+    if ((numberOfBlocks < 2) || (numberOfSamples < numberOfBlocks) ||
+        (numberOfThreads < 0)) {
+      Configuration.logger_.severe("MonteCarloHypervolume: invalid budget of " +
+          numberOfSamples + " samples, " + numberOfBlocks + " blocks and " +
+          numberOfThreads + " threads") ;
+      throw new JMException("Invalid configuration of MonteCarloHypervolume") ;
+    }
+
+    utils_            = new jmetal.qualityIndicator.util.MetricsUtil();
+    numberOfSamples_  = numberOfSamples ;
+    numberOfBlocks_   = numberOfBlocks ;
+    numberOfThreads_  = (numberOfThreads == 0) ?
+        Runtime.getRuntime().availableProcessors() : numberOfThreads ;
+    seed_             = seed ;
+    criticalValue_    = 1.96 ;
+  } // MonteCarloHypervolume
+
+  /**
+   * Sets the half width of the confidence interval, in standard errors
+   * (1.96 for 95%, 2.576 for 99%)
+   * @param criticalValue The number of standard errors
+   */
+  public void setCriticalValue(double criticalValue) {
+    criticalValue_ = criticalValue ;
+  } // setCriticalValue
+
+  /**
+   * Estimates the hypervolume of a front, normalized with the bounds of the
+   * true Pareto front as <code>Hypervolume.hypervolume</code> does
+   * @param paretoFront The front
+   * @param paretoTrueFront The true Pareto front
+   * @param numberOfObjectives Number of objectives
+   */
+  public Estimate hypervolume(double [][] paretoFront,
+                              double [][] paretoTrueFront,
+                              int numberOfObjectives) throws JMException {
+    double [][] normalizedFront = utils_.getNormalizedFront(paretoFront,
+        utils_.getMaximumValues(paretoTrueFront, numberOfObjectives),
+        utils_.getMinimumValues(paretoTrueFront, numberOfObjectives));
+    return estimate(normalizedFront, normalizedFront.length, numberOfObjectives) ;
+  } // hypervolume
+
+  /**
+   * Estimates the hypervolume of a front, normalized with the bounds
+   * precomputed for the true Pareto front
+   * @param paretoFront The front
+   * @param referenceFront The true Pareto front
+   */
+  public Estimate hypervolume(double [][] paretoFront,
+                              jmetal.qualityIndicator.util.ReferenceFront referenceFront)
+      throws JMException {
+    double [][] normalizedFront = utils_.getNormalizedFront(paretoFront,
+        referenceFront.getMaximumValues(),
+        referenceFront.getMinimumValues());
+    return estimate(normalizedFront, normalizedFront.length,
+                    referenceFront.getNumberOfObjectives()) ;
+  } // hypervolume
+
+  /**
+   * Estimates the volume dominated by the first 'noPoints' points of 'front'
+   * regarding the first 'noObjectives' objectives, the quantity computed by
+   * <code>Hypervolume.calculateHypervolume</code>
+   * @param front The front
+   * @param noPoints Number of points of the front to consider
+   * @param noObjectives Number of objectives to consider
+   */
+  public Estimate estimate(double [][] front, int noPoints, int noObjectives)
+      throws JMException {
+    final double [][] points = nondominatedPoints(front, noPoints, noObjectives) ;
+    if (points.length == 0)
+      return new Estimate(0.0, 0.0, 0.0, 0) ;
+
+    // Bounding box of the front; the samples outside it are never dominated
+    final double [] upper = new double[noObjectives] ;
+    double boxVolume = 1.0 ;
+    for (int j = 0; j < noObjectives; j++) {
+      for (double [] point : points)
+        upper[j] = Math.max(upper[j], point[j]) ;
+      boxVolume *= upper[j] ;
+    }
+
+    // The largest boxes are tried first, so that most of the dominated
+    // samples are rejected after a few comparisons
+    Arrays.sort(points, new Comparator<double[]>() {
+      public int compare(double [] p, double [] q) {
+        return Double.compare(relativeVolume(q, upper), relativeVolume(p, upper)) ;
+      }
+    });
+
+    final int samplesPerBlock = (numberOfSamples_ + numberOfBlocks_ - 1) / numberOfBlocks_ ;
+    final double [] steps = kroneckerSteps(noObjectives) ;
+    long [] dominated = new long[numberOfBlocks_] ;
+
+    if (numberOfThreads_ == 1) {
+      for (int b = 0; b < numberOfBlocks_; b++)
+        dominated[b] = countDominatedSamples(points, upper, steps, b, samplesPerBlock) ;
+    } else {
+      ExecutorService executor = Executors.newFixedThreadPool(
+          Math.min(numberOfThreads_, numberOfBlocks_)) ;
+      try {
+        List<Callable<Long>> tasks = new ArrayList<Callable<Long>>() ;
+        for (int b = 0; b < numberOfBlocks_; b++) {
+          final int block = b ;
+          tasks.add(new Callable<Long>() {
+            public Long call() {
+              return countDominatedSamples(points, upper, steps, block, samplesPerBlock) ;
+            }
+          });
+        }
+        List<Future<Long>> results = executor.invokeAll(tasks) ;
+        for (int b = 0; b < numberOfBlocks_; b++)
+          dominated[b] = results.get(b).get() ;
+      } catch (InterruptedException e) {
+        Configuration.logger_.severe("MonteCarloHypervolume.estimate: interrupted") ;
+        Thread.currentThread().interrupt() ;
+        throw new JMException("MonteCarloHypervolume.estimate: interrupted") ;
+      } catch (ExecutionException e) {
+        Configuration.logger_.severe("MonteCarloHypervolume.estimate: " + e.getCause()) ;
+        throw new JMException("MonteCarloHypervolume.estimate: " + e.getCause()) ;
+      } finally {
+        executor.shutdown() ;
+      }
+    }
+
+    // Every block is an unbiased estimation; their spread gives the error
+    double mean = 0.0 ;
+    double [] blockValues = new double[numberOfBlocks_] ;
+    for (int b = 0; b < numberOfBlocks_; b++) {
+      blockValues[b] = boxVolume * dominated[b] / samplesPerBlock ;
+      mean += blockValues[b] ;
+    }
+    mean /= numberOfBlocks_ ;
+
+    double variance = 0.0 ;
+    for (int b = 0; b < numberOfBlocks_; b++)
+      variance += (blockValues[b] - mean) * (blockValues[b] - mean) ;
+    double standardError = Math.sqrt(variance / ((double) numberOfBlocks_ * (numberOfBlocks_ - 1))) ;
+
+    return new Estimate(mean, standardError, criticalValue_ * standardError,
+                        (long) samplesPerBlock * numberOfBlocks_) ;
+  } // estimate
+
+  /**
+   * Counts the samples of a block dominated by the front. The samples are the
+   * points of a Kronecker sequence, shifted by a random vector of the stream
+   * of the block and scaled to the bounding box
+   */
+  long countDominatedSamples(double [][] points, double [] upper, double [] steps,
+                             int block, int numberOfSamples) {
+    int numberOfObjectives = upper.length ;
+    SplittableRandomGenerator random = new SplittableRandomGenerator(
+        SplittableRandomGenerator.deriveSeed(seed_, block)) ;
+
+    double [] u = new double[numberOfObjectives] ;
+    for (int j = 0; j < numberOfObjectives; j++)
+      u[j] = random.nextDouble() ;
+
+    double [] sample = new double[numberOfObjectives] ;
+    long count = 0 ;
+    for (int i = 0; i < numberOfSamples; i++) {
+      for (int j = 0; j < numberOfObjectives; j++) {
+        u[j] += steps[j] ;
+        if (u[j] >= 1.0)
+          u[j] -= 1.0 ;
+        sample[j] = u[j] * upper[j] ;
+      }
+
+      // early reject: stop at the first point dominating the sample
+      for (double [] point : points) {
+        int j = 0 ;
+        while ((j < numberOfObjectives) && (point[j] >= sample[j]))
+          j++ ;
+        if (j == numberOfObjectives) {
+          count++ ;
+          break ;
+        }
+      }
+    }
+
+    return count ;
+  } // countDominatedSamples
+
+  /**
+   * Returns the points of 'front[0..noPoints-1]' that are strictly positive
+   * and not dominated by another one (duplicates are kept once)
+   */
+  double [][] nondominatedPoints(double [][] front, int noPoints, int noObjectives) {
+    double [][] points = new double[noPoints][] ;
+    int n = 0 ;
+    for (int i = 0; i < noPoints; i++) {
+      int j = 0 ;
+      while ((j < noObjectives) && (front[i][j] > 0.0))
+        j++ ;
+      if (j == noObjectives)
+        points[n++] = front[i] ;
+    }
+
+    double [][] nondominated = new double[n][] ;
+    int size = 0 ;
+    for (int i = 0; i < n; i++) {
+      boolean isDominated = false ;
+      for (int k = 0; (k < n) && !isDominated; k++)
+        if (k != i)
+          isDominated = weaklyDominates(points[k], points[i], noObjectives) &&
+              ((k < i) || !weaklyDominates(points[i], points[k], noObjectives)) ;
+      if (!isDominated)
+        nondominated[size++] = points[i] ;
+    }
+
+    return Arrays.copyOf(nondominated, size) ;
+  } // nondominatedPoints
+
+  /* returns true if 'point1' is not worse than 'point2' in any of the first
+     'noObjectives' objectives */
+  boolean weaklyDominates(double [] point1, double [] point2, int noObjectives) {
+    for (int i = 0; i < noObjectives; i++)
+      if (point1[i] < point2[i])
+        return false ;
+
+    return true ;
+  } // weaklyDominates
+
+  /* volume of the box of a point relative to the bounding box */
+  static double relativeVolume(double [] point, double [] upper) {
+    double volume = 1.0 ;
+    for (int j = 0; j < upper.length; j++)
+      volume *= point[j] / upper[j] ;
+
+    return volume ;
+  } // relativeVolume
+
+  /**
+   * Steps of the Kronecker sequence of the given dimension: the powers of the
+   * inverse of the generalized golden ratio (the root of x^(d+1) = x + 1)
+   */
+  static double [] kroneckerSteps(int dimension) {
+    double phi = 2.0 ;
+    for (int i = 0; i < 64; i++)
+      phi = Math.pow(1.0 + phi, 1.0 / (dimension + 1)) ;
+
+    double [] steps = new double[dimension] ;
+    double power = 1.0 ;
+    for (int j = 0; j < dimension; j++) {
+      power /= phi ;
+      steps[j] = power - Math.floor(power) ;
+    }
+
+    return steps ;
+  } // kroneckerSteps
+} // MonteCarloHypervolume
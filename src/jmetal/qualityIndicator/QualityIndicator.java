@@ -23,14 +23,58 @@ package jmetal.qualityIndicator;
 
 import jmetal.core.Problem;
 import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.util.FrontLoader;
+import jmetal.qualityIndicator.util.KDTree;
+import jmetal.qualityIndicator.util.LexicoGraphicalComparator;
+import jmetal.qualityIndicator.util.ReferenceFront;
+import jmetal.util.Configuration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * QualityIndicator class
+ * QualityIndicator class. The true Pareto front is read and preprocessed once
+ * (see <code>ReferenceFront</code>), so an instance can be shared by several
+ * threads. Fronts are read through <code>FrontLoader</code>, in text or binary
+ * format, and the preprocessed front is shared by all the instances built on
+ * the same unchanged file.
  */
 public class QualityIndicator {
-  SolutionSet trueParetoFront_ ;
-  double      trueParetoFrontHypervolume_ ;
-  Problem     problem_ ; 
+  /**
+   * Positions of the indicators in the array returned by computeAll
+   */
+  public static final int HYPERVOLUME        = 0 ;
+  public static final int IGD                = 1 ;
+  public static final int CEC_IGD            = 2 ;
+  public static final int GD                 = 3 ;
+  public static final int SPREAD             = 4 ;
+  public static final int GENERALIZED_SPREAD = 5 ;
+  public static final int EPSILON            = 6 ;
+  public static final int NUMBER_OF_INDICATORS = 7 ;
+
+  /**
+   * Names of the indicators, in the same order
+   */
+  public static final String [] NAMES = {"HV", "IGD", "CEC_IGD", "GD", "SPREAD",
+                                         "GSPREAD", "EPSILON"} ;
+
+  /**
+   * Preprocessed front of a file, with the matrix it was computed from
+   */
+  private static class PreprocessedFront {
+    double [][]    front_ ;
+    ReferenceFront referenceFront_ ;
+    double         hypervolume_ ;
+  } // PreprocessedFront
+
+  private static final ConcurrentHashMap<String, PreprocessedFront> fronts_ =
+      new ConcurrentHashMap<String, PreprocessedFront>() ;
+
+  ReferenceFront referenceFront_ ;
+  double         trueParetoFrontHypervolume_ ;
+  Problem        problem_ ; 
   public jmetal.qualityIndicator.util.MetricsUtil utils_  ;
   
   /**
@@ -41,12 +85,44 @@ public class QualityIndicator {
   public QualityIndicator(Problem problem, String paretoFrontFile) {
     problem_ = problem ;
     utils_ = new jmetal.qualityIndicator.util.MetricsUtil() ;
-    trueParetoFront_ = utils_.readNonDominatedSolutionSet(paretoFrontFile);
-    trueParetoFrontHypervolume_ = new Hypervolume().hypervolume(
-                 trueParetoFront_.writeObjectivesToMatrix(),   
-                 trueParetoFront_.writeObjectivesToMatrix(),
-                 problem_.getNumberOfObjectives());
+
+    double [][] front ;
+    String path ;
+    try {
+      front = FrontLoader.loadNonDominated(paretoFrontFile) ;
+      path = new File(paretoFrontFile).getCanonicalPath() ;
+    } catch (IOException e) {
+      Configuration.logger_.severe("QualityIndicator: the Pareto front file " +
+                                   paretoFrontFile + " cannot be read") ;
+      throw new IllegalArgumentException(e) ;
+    }
+
+    // The loader returns the same matrix while the file is unchanged. Both
+    // caches are keyed by the canonical path, so that the different names of
+    // a file share its entry
+    int numberOfObjectives = problem_.getNumberOfObjectives() ;
+    String key = numberOfObjectives + ":" + path ;
+    PreprocessedFront preprocessed = fronts_.get(key) ;
+    if ((preprocessed == null) || (preprocessed.front_ != front)) {
+      preprocessed = new PreprocessedFront() ;
+      preprocessed.front_ = front ;
+      preprocessed.referenceFront_ = new ReferenceFront(front, numberOfObjectives) ;
+      preprocessed.hypervolume_ = new Hypervolume().calculateHypervolume(
+                 preprocessed.referenceFront_.getNormalizedPoints().clone(),
+                 preprocessed.referenceFront_.getNumberOfPoints(),
+                 numberOfObjectives);
+      fronts_.put(key, preprocessed) ;
+    }
+    referenceFront_ = preprocessed.referenceFront_ ;
+    trueParetoFrontHypervolume_ = preprocessed.hypervolume_ ;
   } // Constructor 
+
+  /**
+   * Returns the preprocessed true Pareto front
+   */
+  public ReferenceFront getReferenceFront() {
+    return referenceFront_ ;
+  } // getReferenceFront
   
   /**
    * Returns the hypervolume of solution set
@@ -55,8 +131,7 @@ public class QualityIndicator {
    */
   public double getHypervolume(SolutionSet solutionSet) {
     return new Hypervolume().hypervolume(solutionSet.writeObjectivesToMatrix(),
-                                         trueParetoFront_.writeObjectivesToMatrix(),
-                                         problem_.getNumberOfObjectives());
+                                         referenceFront_);
   } // getHypervolume
 
     
@@ -76,14 +151,12 @@ public class QualityIndicator {
   public double getIGD(SolutionSet solutionSet) {
     return new InvertedGenerationalDistance().invertedGenerationalDistance(
                     solutionSet.writeObjectivesToMatrix(),
-                    trueParetoFront_.writeObjectivesToMatrix(),
-                    problem_.getNumberOfObjectives());
+                    referenceFront_);
   } // getIGD
   public double getCEC_IGD(SolutionSet solutionSet) {
 	    return new CEC_IGD().cec_IGD(
 	                    solutionSet.writeObjectivesToMatrix(),
-	                    trueParetoFront_.writeObjectivesToMatrix(),
-	                    problem_.getNumberOfObjectives());
+	                    referenceFront_);
 	  } // getIGD
  /**
    * Returns the generational distance of solution set
@@ -93,8 +166,7 @@ public class QualityIndicator {
   public double getGD(SolutionSet solutionSet) {
     return new GenerationalDistance().generationalDistance(
                     solutionSet.writeObjectivesToMatrix(),
-                    trueParetoFront_.writeObjectivesToMatrix(),
-                    problem_.getNumberOfObjectives());
+                    referenceFront_);
   } // getGD
   
   /**
@@ -104,13 +176,11 @@ public class QualityIndicator {
    */
   public double getSpread(SolutionSet solutionSet) {
     return new Spread().spread(solutionSet.writeObjectivesToMatrix(),
-                               trueParetoFront_.writeObjectivesToMatrix(),
-                               problem_.getNumberOfObjectives());
+                               referenceFront_);
   } // getGD
   public double getGeneralizedSpread(SolutionSet solutionSet) {
     return new GeneralizedSpread().generalizedSpread(solutionSet.writeObjectivesToMatrix(),
-                               trueParetoFront_.writeObjectivesToMatrix(),
-                               problem_.getNumberOfObjectives());
+                               referenceFront_);
   } // getGD
     /**
    * Returns the epsilon indicator of solution set
@@ -119,7 +189,85 @@ public class QualityIndicator {
    */
   public double getEpsilon(SolutionSet solutionSet) {
     return new Epsilon().epsilon(solutionSet.writeObjectivesToMatrix(),
-                                 trueParetoFront_.writeObjectivesToMatrix(),
-                                 problem_.getNumberOfObjectives());
+                                 referenceFront_);
   } // getEpsilon
+
+  /**
+   * Computes all the indicators of a solution set at once. The objectives are
+   * extracted a single time, and the distances from the true Pareto front to
+   * the solution set are shared by IGD and CEC_IGD. The values are the same
+   * returned by the individual methods.
+   * @param solutionSet Solution set
+   * @return The values, indexed by HYPERVOLUME, IGD, CEC_IGD, GD, SPREAD,
+   * GENERALIZED_SPREAD and EPSILON
+   */
+  public double [] computeAll(SolutionSet solutionSet) {
+    return computeAll(solutionSet.writeObjectivesToMatrix()) ;
+  } // computeAll
+
+  /**
+   * Computes all the indicators of a front given by its objective values
+   * @param front The objective values, one row per solution
+   * @return The values, indexed as in <code>computeAll(SolutionSet)</code>
+   */
+  public double [] computeAll(double [][] front) {
+    double [] values = new double[NUMBER_OF_INDICATORS] ;
+
+    // The front is normalized once with the bounds of the true Pareto front.
+    // Only the hypervolume is defined on normalized values; the other
+    // indicators work on the raw objective values, as their getters do
+    double [][] normalizedFront = utils_.getNormalizedFront(front,
+        referenceFront_.getMaximumValues(), referenceFront_.getMinimumValues()) ;
+    values[HYPERVOLUME] = new Hypervolume().calculateHypervolume(normalizedFront,
+        normalizedFront.length, referenceFront_.getNumberOfObjectives()) ;
+
+    // A single lexicographical sort and a single tree over the front serve
+    // both spreads, IGD and CEC_IGD; GD uses the tree of the reference front
+    double [][] sortedFront = front.clone() ;
+    Arrays.sort(sortedFront, new LexicoGraphicalComparator()) ;
+    KDTree tree = new KDTree(sortedFront) ;
+
+    double [][] points = referenceFront_.getPoints() ;
+    double [] distances = new double[points.length] ;
+    for (int i = 0; i < points.length; i++)
+      distances[i] = tree.distanceToClosestPoint(points[i]) ;
+    values[IGD]     = new InvertedGenerationalDistance().invertedGenerationalDistance(distances) ;
+    values[CEC_IGD] = new CEC_IGD().cec_IGD(distances) ;
+    values[GD]      = new GenerationalDistance().generationalDistance(front, referenceFront_) ;
+
+    values[SPREAD] = new Spread().spread(sortedFront, referenceFront_) ;
+    values[GENERALIZED_SPREAD] = new GeneralizedSpread().generalizedSpread(sortedFront,
+        referenceFront_, tree) ;
+    values[EPSILON] = new Epsilon().epsilon(front, referenceFront_) ;
+
+    return values ;
+  } // computeAll
+
+  /**
+   * Computes one indicator of a front given by its objective values
+   * @param indicator The indicator (HYPERVOLUME, IGD, CEC_IGD, GD, SPREAD,
+   * GENERALIZED_SPREAD or EPSILON)
+   * @param front The objective values, one row per solution
+   * @return The value of the indicator
+   */
+  public double compute(int indicator, double [][] front) {
+    switch (indicator) {
+      case HYPERVOLUME:
+        return new Hypervolume().hypervolume(front, referenceFront_) ;
+      case IGD:
+        return new InvertedGenerationalDistance().invertedGenerationalDistance(front, referenceFront_) ;
+      case CEC_IGD:
+        return new CEC_IGD().cec_IGD(front, referenceFront_) ;
+      case GD:
+        return new GenerationalDistance().generationalDistance(front, referenceFront_) ;
+      case SPREAD:
+        return new Spread().spread(front, referenceFront_) ;
+      case GENERALIZED_SPREAD:
+        return new GeneralizedSpread().generalizedSpread(front, referenceFront_) ;
+      case EPSILON:
+        return new Epsilon().epsilon(front, referenceFront_) ;
+      default:
+        throw new IllegalArgumentException("Unknown indicator: " + indicator) ;
+    }
+  } // compute
 } // QualityIndicator
@@ -21,40 +21,39 @@
 package jmetal.qualityIndicator;
 
 import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.util.WeightVectors;
 
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.InputStreamReader;
-import java.util.LinkedList;
-import java.util.StringTokenizer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+/**
+ * R2 indicator. The weight vectors are taken from the process-wide cache of
+ * <code>WeightVectors</code>, so they are generated or read once. The
+ * Tchebycheff utilities are not stored: every weight vector only keeps the
+ * best and second best utility over the points of the front (O(|W|) memory),
+ * which gives both the R2 value and the value without every point in one
+ * pass. For large fronts the weight vectors are split across the common
+ * ForkJoin pool; the values are summed in the order of the weight vectors,
+ * so the result does not depend on the number of threads.
+ */
 public class R2 {
 
   public jmetal.qualityIndicator.util.MetricsUtil utils_;
-  double [][] matrix_ = null;
   double [][] lambda_ = null;
   int    nObj_         = 0;
-  
+
+  /**
+   * Minimum number of utility evaluations worth splitting across threads
+   */
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+
   /**
   * Constructor
   * Creates a new instance of the R2 indicator for a problem with two objectives
   * and 100 lambda vectors
   */
   public R2() {
-    utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
-    
-    // by default it creates an R2 indicator for a two dimensions probllem and
-    // uses only 100 weight vectors for the R2 computation
-    nObj_ = 2;
-    // generating the weights
-    lambda_ = new double[100][2];
-    for (int n = 0; n < 100; n++) {
-        double a = 1.0 * n / (100 - 1); 
-        lambda_[n][0] = a;
-        lambda_[n][1] = 1 - a;
-    } // for
-    
-    
+    this(100);
   } // R2
   
   
@@ -70,15 +69,8 @@ public class R2 {
     // by default it creates an R2 indicator for a two dimensions probllem and
     // uses only <code>nVectors</code> weight vectors for the R2 computation
     nObj_ = 2;
-    // generating the weights
-    lambda_ = new double[nVectors][2];
-    for (int n = 0; n < nVectors; n++) {
-        double a = 1.0 * n / (nVectors - 1);
-        lambda_[n][0] = a;
-        lambda_[n][1] = 1 - a;
-    } // for
-    
-    
+    // generating the weights: a = n / (nVectors - 1), (a, 1 - a)
+    lambda_ = WeightVectors.simplexLattice(2, nVectors - 1);
   } // R2
   
    
@@ -90,131 +82,197 @@ public class R2 {
   */
   public R2(int nObj, String file) {
     utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
+    nObj_ = nObj;
     // A file is indicated, the weights are taken from there
-    
-    // by default it creates an R2 indicator for a two dimensions probllem and
-    // uses only <code>nVectors</code> weight vectors for the R2 computation
+    lambda_ = WeightVectors.read(file, nObj);
+  } // R2
+
+
+  /**
+  * Constructor
+  * Creates a new instance of the R2 indicator for nObj objectives using the
+  * simplex-lattice weight vectors with H divisions
+  */
+  public R2(int nObj, int divisions) {
+    utils_ = new jmetal.qualityIndicator.util.MetricsUtil();
     nObj_ = nObj;
-    // generating the weights
-    
-    // reading weights
-    try {
-        // Open the file
-        FileInputStream fis = new FileInputStream(file);
-        InputStreamReader isr = new InputStreamReader(fis);
-        BufferedReader br = new BufferedReader(isr);
-
-        int numberOfObjectives = 0;
-        int i = 0;
-        int j = 0;
-        String aux = br.readLine();
-        LinkedList<double[]> list = new LinkedList<double[]>();
-        while (aux != null) {
-            StringTokenizer st = new StringTokenizer(aux);
-            j = 0;
-            numberOfObjectives = st.countTokens();
-            double [] vector = new double[nObj];
-            while (st.hasMoreTokens()) {
-                double value = new Double(st.nextToken());
-                vector[j++] = value;                                        
-            }
-            list.add(vector);
-            aux = br.readLine();                
-        }
-        br.close();
-            
-        // convert the LinkedList into a vector
-        lambda_ = new double[list.size()][];            
-        int index = 0;
-        for (double[] aList : list) lambda_[index++] = aList;
-            
-            
-    } catch (Exception e) {
-        System.out.println("initUniformWeight: failed when reading for file: " + file);
-        e.printStackTrace();
-    }                
+    lambda_ = WeightVectors.simplexLattice(nObj, divisions);
   } // R2
-  
-  
-  
-   /**
-   * Returns the R2 indicator value of a given front
-   * @param front The front 
-   * @param trueParetoFront The true Pareto front
-   * @param numberOfObjectives The number of objectives
-   * @param lambda A vector containing the lambda vectors for R2
+
+
+  /**
+   * Best and second best Tchebycheff utilities of every weight vector over
+   * the points of a front. Math.min propagates NaN, so the NaN utilities are
+   * counted apart.
    */
-  private double 
-  R2Withouth(double [][] approximation,double [][] paretoFront, int index) 
-  {
-        
+  private class Utilities {
+    double [][] front_ ;
+    double []   best_ ;
+    double []   second_ ;
+    int []      bestIndex_ ;
+    int []      nanCount_ ;
+    int []      nanIndex_ ;
+
     /**
-     * Stores the maximum values of true Pareto front.
+     * @param front Normalized front
      */
-    double [] maximumValue ;
-    
+    Utilities(double [][] front) {
+      front_     = new double[front.length][nObj_];
+      for (int i = 0; i < front.length; i++)
+        for (int n = 0; n < nObj_; n++)
+          front_[i][n] = Math.abs(front[i][n]);
+      best_      = new double[lambda_.length];
+      second_    = new double[lambda_.length];
+      bestIndex_ = new int[lambda_.length];
+      nanCount_  = new int[lambda_.length];
+      nanIndex_  = new int[lambda_.length];
+
+      long work = (long) lambda_.length * front.length * nObj_;
+      if (work < PARALLEL_THRESHOLD)
+        compute(0, lambda_.length);
+      else
+        ForkJoinPool.commonPool().invoke(new Task(0, lambda_.length,
+            (int) Math.max(1, PARALLEL_THRESHOLD / ((long) front.length * nObj_))));
+    } // Utilities
+
+    void compute(int from, int to) {
+      for (int j = from; j < to; j++) {
+        double [] lambda = lambda_[j];
+        double best = Double.POSITIVE_INFINITY;
+        double second = Double.POSITIVE_INFINITY;
+        int bestIndex = -1;
+        int nanCount = 0;
+        int nanIndex = -1;
+        for (int i = 0; i < front_.length; i++) {
+          double [] point = front_[i];
+          double utility = lambda[0] * point[0];
+          for (int n = 1; n < nObj_; n++)
+            utility = Math.max(utility, lambda[n] * point[n]);
+
+          if (Double.isNaN(utility)) {
+            nanCount++;
+            nanIndex = i;
+          } else if (utility < best) {
+            second = best;
+            best = utility;
+            bestIndex = i;
+          } else if (utility < second) {
+            second = utility;
+          }
+        }
+        best_[j] = best;
+        second_[j] = second;
+        bestIndex_[j] = bestIndex;
+        nanCount_[j] = nanCount;
+        nanIndex_[j] = nanIndex;
+      }
+    } // compute
+
     /**
-     * Stores the minimum values of the true Pareto front.
+     * Minimum utility of weight vector j over all the points
      */
-    double [] minimumValue ;
-    
+    double minimum(int j) {
+      return (nanCount_[j] > 0) ? Double.NaN : best_[j];
+    } // minimum
+
     /**
-     * Stores the normalized front.
+     * Minimum utility of weight vector j over all the points but index
      */
-    double [][] normalizedApproximation ;
-    
+    double minimumWithout(int j, int index) {
+      int nans = nanCount_[j];
+      if ((nans == 1) && (nanIndex_[j] == index))
+        nans = 0;
+      if (nans > 0)
+        return Double.NaN;
+      return (bestIndex_[j] == index) ? second_[j] : best_[j];
+    } // minimumWithout
+
     /**
-     * Stores the normalized true Pareto front.
-     */ 
-    double [][] normalizedParetoFront ; 
-    
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValue = utils_.getMaximumValues(paretoFront, nObj_);
-    minimumValue = utils_.getMinimumValues(paretoFront, nObj_);
-    
-    // STEP 2. Get the normalized front and true Pareto fronts
-    normalizedApproximation       = utils_.getNormalizedFront(approximation, 
-                                                              maximumValue, 
-                                                              minimumValue);
-    normalizedParetoFront = utils_.getNormalizedFront(paretoFront, 
-    		                                          maximumValue,
-    		                                          minimumValue);
-    
-    // STEP 3. compute all the matrix of tchebicheff values if it is null
-    //if (matrix_ == null) {
-        matrix_ = new double[approximation.length][lambda_.length];
-        for (int i = 0; i < approximation.length; i++) {
-            for (int j = 0; j < lambda_.length; j++) {
-                matrix_[i][j] = lambda_[j][0] * Math.abs(normalizedApproximation[i][0]); 
-                for (int n = 1; n < nObj_; n++) {
-                    matrix_[i][j] = Math.max(matrix_[i][j], lambda_[j][n] * Math.abs(normalizedApproximation[i][n]));
-                }
-            }
-        }
-    //}
-    
-        
-    // STEP45. Compute the R2 value withouth the point
-    double sumWithout = 0.0;     
-    for (int i = 0; i < lambda_.length; i++) {
-        
-        double tmp;
-        if (index != 0) {
-            tmp = matrix_[0][i];
+     * Computes the utilities of a range of weight vectors, splitting it
+     */
+    private class Task extends RecursiveAction {
+      private static final long serialVersionUID = 1L;
+
+      int from_, to_, grain_;
+
+      Task(int from, int to, int grain) {
+        from_ = from;
+        to_ = to;
+        grain_ = grain;
+      } // Task
+
+      protected void compute() {
+        if (to_ - from_ <= grain_) {
+          Utilities.this.compute(from_, to_);
         } else {
-            tmp = matrix_[1][i];
-        }
-        for (int j = 0; j < approximation.length; j++) {
-            if ( j != index) {
-                tmp = Math.min(tmp, matrix_[j][i]);
-            }
+          int middle = (from_ + to_) >>> 1;
+          invokeAll(new Task(from_, middle, grain_), new Task(middle, to_, grain_));
         }
-        sumWithout += tmp;
+      } // compute
+    } // Task
+  } // Utilities
+
+
+  /**
+   * Normalizes a front with the bounds of the Pareto front and computes the
+   * utilities of its points
+   */
+  private Utilities utilities(double [][] approximation, double [][] paretoFront) {
+    // STEP 1. Obtain the maximum and minimum values of the Pareto front
+    double [] maximumValue = utils_.getMaximumValues(paretoFront, nObj_);
+    double [] minimumValue = utils_.getMinimumValues(paretoFront, nObj_);
+
+    // STEP 2. Get the normalized front
+    double [][] normalizedApproximation = utils_.getNormalizedFront(approximation,
+                                                                    maximumValue,
+                                                                    minimumValue);
+
+    // STEP 3. Compute the best utilities of every weight vector
+    return new Utilities(normalizedApproximation);
+  } // utilities
+
+
+  /**
+   * Returns the R2 value of the front without each one of its points
+   * @param approximation The front
+   * @param paretoFront The true Pareto front, used for normalizing
+   * @return The values, in the order of the points of the front
+   */
+  public double []
+  R2WithoutEach(double [][] approximation, double [][] paretoFront)
+  {
+    Utilities utilities = utilities(approximation, paretoFront);
+    double [] sums = new double[approximation.length];
+    for (int j = 0; j < lambda_.length; j++) {
+      for (int i = 0; i < approximation.length; i++)
+        sums[i] += utilities.minimumWithout(j, i);
     }
-    
-    // STEP 5. Return the R2 value
+    for (int i = 0; i < approximation.length; i++)
+      sums[i] /= (double) lambda_.length;
+
+    return sums;
+  } // R2WithoutEach
+
+
+   /**
+   * Returns the R2 indicator value of a given front
+   * @param front The front 
+   * @param trueParetoFront The true Pareto front
+   * @param numberOfObjectives The number of objectives
+   * @param lambda A vector containing the lambda vectors for R2
+   */
+  private double 
+  R2Withouth(double [][] approximation,double [][] paretoFront, int index) 
+  {
+    Utilities utilities = utilities(approximation, paretoFront);
+
+    // Compute the R2 value withouth the point
+    double sumWithout = 0.0;
+    for (int i = 0; i < lambda_.length; i++)
+      sumWithout += utilities.minimumWithout(i, index);
+
+    // Return the R2 value
     return sumWithout / (double) lambda_.length;
-            
   } // R2
   
    /**
@@ -229,9 +287,10 @@ public class R2 {
   {
         int     index_best = -1;
         double  value = Double.NEGATIVE_INFINITY;
+        double [] without = this.R2WithoutEach(approximation, paretoFront);
         
         for (int i = 0; i < approximation.length; i++) {
-            double aux = this.R2Withouth(approximation, paretoFront, i);
+            double aux = without[i];
             if (aux > value) {
                 index_best = i;
                 value = aux;
@@ -254,9 +313,10 @@ public class R2 {
   {
         int     index_worst = -1;
         double  value = Double.POSITIVE_INFINITY;
+        double [] without = this.R2WithoutEach(approximation, paretoFront);
         
         for (int i = 0; i < approximation.length; i++) {
-            double aux = this.R2Withouth(approximation, paretoFront, i);
+            double aux = without[i];
             if (aux < value) {
                 index_worst = i;
                 value = aux;
@@ -309,11 +369,10 @@ public class R2 {
   getNBest(double [][] approximation,double [][] paretoFront, int N) 
   {
         int  []    index_bests = new int[approximation.length];
-        double [] values       = new double[approximation.length];
+        double [] values       = this.R2WithoutEach(approximation, paretoFront);
                                 
         
         for (int i = 0; i < approximation.length; i++) {
-            values[i]      = this.R2Withouth(approximation, paretoFront, i);
             index_bests[i] = i;
         } // for
         
@@ -367,65 +426,15 @@ public class R2 {
   public double 
   R2(double [][] approximation,double [][] paretoFront) 
   {
-        
-    /**
-     * Stores the maximum values of true pareto front.
-     */
-    double [] maximumValue ;
-    
-    /**
-     * Stores the minimum values of the true pareto front.
-     */
-    double [] minimumValue ;
-    
-    /**
-     * Stores the normalized front.
-     */
-    double [][] normalizedApproximation ;
-    
-    /**
-     * Stores the normalized true Pareto front.
-     */ 
-    double [][] normalizedParetoFront ; 
-    
-    // STEP 1. Obtain the maximum and minimum values of the Pareto front
-    maximumValue = utils_.getMaximumValues(paretoFront, nObj_);
-    minimumValue = utils_.getMinimumValues(paretoFront, nObj_);
-    
-    // STEP 2. Get the normalized front and true Pareto fronts
-    normalizedApproximation       = utils_.getNormalizedFront(approximation, 
-                                                              maximumValue, 
-                                                              minimumValue);
-    normalizedParetoFront = utils_.getNormalizedFront(paretoFront, 
-    		                                          maximumValue,
-    		                                          minimumValue);
-    
-    // STEP 3. compute all the matrix of tchebicheff values if it is null
-    //if (matrix_ == null) {
-        matrix_ = new double[approximation.length][lambda_.length];
-        for (int i = 0; i < approximation.length; i++) {
-            for (int j = 0; j < lambda_.length; j++) {
-                matrix_[i][j] = lambda_[j][0] * Math.abs(normalizedApproximation[i][0]); 
-                for (int n = 1; n < nObj_; n++) {
-                    matrix_[i][j] = Math.max(matrix_[i][j], lambda_[j][n] * Math.abs(normalizedApproximation[i][n]));
-                }
-            }
-        }
-    //}
-    
-    // STEP 4. The matrix is not null. Compute the R2 value
+    Utilities utilities = utilities(approximation, paretoFront);
+
+    // Compute the R2 value
     double sum = 0.0;
-    for (int i = 0; i < lambda_.length; i++) {
-        double tmp = matrix_[0][i];
-        for (int j = 1; j < approximation.length; j++) {
-            tmp = Math.min(tmp, matrix_[j][i]);
-        }
-        sum += tmp;
-    }
-    
-    // STEP 5. Return the R2 value
+    for (int i = 0; i < lambda_.length; i++)
+      sum += utilities.minimum(i);
+
+    // Return the R2 value
     return sum / (double) lambda_.length;
-            
   } // R2
 
   /**
@@ -95,14 +95,38 @@ public class Spread {
     Arrays.sort(normalizedParetoFront,
     		    new jmetal.qualityIndicator.util.LexicoGraphicalComparator());
 
+    return spread(normalizedFront, normalizedParetoFront[0],
+                  normalizedParetoFront[normalizedParetoFront.length-1]);
+  } // spread
+
+  /** Calculates the Spread metric using the precomputed data of the true
+   * Pareto front. The front is sorted in place.
+   *  @param front The front.
+   *  @param referenceFront The true pareto front.
+   */
+  public double spread(double [][] front,
+                       jmetal.qualityIndicator.util.ReferenceFront referenceFront) {
+    Arrays.sort(front,
+    		    new jmetal.qualityIndicator.util.LexicoGraphicalComparator());
+
+    return spread(front, referenceFront.getLexicographicalFirst(),
+                  referenceFront.getLexicographicalLast());
+  } // spread
+
+  /**
+   * Spread of a front sorted in lexicographical order, given the first and
+   * last points of the sorted true Pareto front
+   */
+  private double spread(double [][] normalizedFront, double [] firstTruePoint,
+                        double [] lastTruePoint) {
     int numberOfPoints     = normalizedFront.length;
 //    int numberOfTruePoints = normalizedParetoFront.length;
 
     // STEP 4. Compute df and dl (See specifications in Deb's description of 
     // the metric)
-    double df = utils_.distance(normalizedFront[0],normalizedParetoFront[0]);
+    double df = utils_.distance(normalizedFront[0],firstTruePoint);
     double dl = utils_.distance(normalizedFront[normalizedFront.length-1],
-    		       normalizedParetoFront[normalizedParetoFront.length-1]);
+    		       lastTruePoint);
 
     double mean = 0.0;
     double diversitySum = df + dl;
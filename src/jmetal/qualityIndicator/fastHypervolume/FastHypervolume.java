@@ -38,6 +38,7 @@ public class FastHypervolume {
   Solution referencePoint_ ;
   int numberOfObjectives_ ;
   double offset_ = 20.0 ;
+  HypervolumeContributions contributions_ = null ;
 
   public FastHypervolume() {
     referencePoint_ = null ;
@@ -135,31 +136,28 @@ public class FastHypervolume {
   }
 
   /**
-   * Computes the HV contribution of the solutions
-   * @return
+   * Computes the HV contribution of the solutions, which is stored as their
+   * crowding distance. All of them are computed in one pass (see
+   * <code>HypervolumeContributions</code>). A solution weakly dominated by
+   * another one gets 0; with two objectives this method used to give it a
+   * negative value, and the contributions of its neighbours in the sorted set
+   * were wrong too, because the 2D hypervolume was computed as if the set
+   * were non-dominated.
    */
   public void computeHVContributions(SolutionSet solutionSet) {
-    double[] contributions = new double[solutionSet.size()] ;
-    double solutionSetHV = 0 ;
-
-    solutionSetHV = computeHypervolume(solutionSet) ;
-
-    for (int i = 0; i < solutionSet.size(); i++) {
-      Solution currentPoint = solutionSet.get(i);
-      solutionSet.remove(i) ;
-
-      if (numberOfObjectives_ == 2) {
-        //updateReferencePoint(solutionSet);
-        //solutionSet.sort(new ObjectiveComparator(numberOfObjectives_-1, true));
-        contributions[i] = solutionSetHV - get2DHV(solutionSet) ;
-      }
-      else {
-        Front front = new Front(solutionSet.size(), numberOfObjectives_, solutionSet) ;
-        double hv = new WFGHV(numberOfObjectives_, solutionSet.size(), referencePoint_).getHV(front) ;
-        contributions[i] = solutionSetHV - hv ;
-      }
-      solutionSet.add(i, currentPoint) ;
-    }
+    if (solutionSet.size() == 0)
+      return ;
+
+    numberOfObjectives_ = solutionSet.get(0).getNumberOfObjectives() ;
+    referencePoint_ = new Solution(numberOfObjectives_) ;
+    updateReferencePoint(solutionSet);
+    if (numberOfObjectives_ == 2)  // the set is left sorted as computeHypervolume does
+      solutionSet.sort(new ObjectiveComparator(numberOfObjectives_-1, true));
+
+    if ((contributions_ == null) ||
+        (contributions_.getNumberOfObjectives() != numberOfObjectives_))
+      contributions_ = new HypervolumeContributions(numberOfObjectives_) ;
+    double[] contributions = contributions_.compute(solutionSet, referencePoint_) ;
 
     for (int i = 0; i < solutionSet.size(); i++) {
       solutionSet.get(i).setCrowdingDistance(contributions[i]) ;
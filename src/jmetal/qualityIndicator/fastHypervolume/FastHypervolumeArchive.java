@@ -58,6 +58,8 @@ public class FastHypervolumeArchive extends Archive {
 
   public Solution referencePoint_ ;
 
+  private FastHypervolume fastHV_ ;
+
   /**
    * Constructor.
    * @param maxSize The maximum size of the archive.
@@ -74,6 +76,7 @@ public class FastHypervolumeArchive extends Archive {
       referencePoint_.setObjective(i, Double.MAX_VALUE) ;
 
     crowdingDistance_ = new CrowdingComparator();
+    fastHV_           = new FastHypervolume() ;
   } // FastHypervolumeArchive
     
   
@@ -126,9 +129,7 @@ public class FastHypervolumeArchive extends Archive {
    */
   public void computeHVContribution() {
 	  if (size() > 2) { // The contribution can be updated
-
-      FastHypervolume fastHV = new FastHypervolume() ;
-      fastHV.computeHVContributions(this);
+      fastHV_.computeHVContributions(this);
     }
   } // computeHVContribution
 } // FastHypervolumeArchive
@@ -0,0 +1,280 @@
+//  HypervolumeContributions.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator.fastHypervolume;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Computes the exclusive hypervolume contributions of all the points of a
+ * front (minimization) in one pass, instead of recomputing the hypervolume of
+ * the front without each point.
+ * <p>
+ * With two objectives the points are sorted and the contribution of each
+ * non-dominated point is the box bounded by its neighbours, less the part of
+ * it the points it dominates cover. With more
+ * objectives the contribution of a point is its own box minus the
+ * hypervolume of its limiting set (the other points made worse than it,
+ * without the dominated ones), as in the exclusive hypervolume of WFG; that
+ * set is usually much smaller than the front. Points weakly dominated by
+ * another one contribute zero.
+ * <p>
+ * The Front, Point and WFGHV workspaces are kept between calls, so an
+ * instance should be reused, but not shared by several threads.
+ */
+public class HypervolumeContributions {
+  private int        numberOfObjectives_ ;
+  private int        capacity_ ;
+  private Front      front_ ;
+  private Front      limited_ ;
+  private Point      candidate_ ;
+  private Point      referencePoint_ ;
+  private WFGHV      wfg_ ;
+  private Integer [] order_ ;
+  private int []     chain_ ;
+  private boolean [] repeated_ ;
+
+  /**
+   * Constructor
+   * @param numberOfObjectives Number of objectives of the points
+   */
+  public HypervolumeContributions(int numberOfObjectives) {
+    numberOfObjectives_ = numberOfObjectives ;
+    capacity_ = 0 ;
+    candidate_ = new Point(numberOfObjectives) ;
+    referencePoint_ = new Point(numberOfObjectives) ;
+  } // HypervolumeContributions
+
+  /**
+   * Returns the number of objectives of the points
+   */
+  public int getNumberOfObjectives() {
+    return numberOfObjectives_ ;
+  } // getNumberOfObjectives
+
+  /**
+   * Computes the contributions of the solutions of a set
+   * @param solutionSet The solutions
+   * @param referencePoint The reference point
+   * @return The contribution of each solution, in the order of the set
+   */
+  public double [] compute(SolutionSet solutionSet, Solution referencePoint) {
+    double [] reference = new double[numberOfObjectives_] ;
+    for (int i = 0; i < numberOfObjectives_; i++)
+      reference[i] = referencePoint.getObjective(i) ;
+
+    return compute(solutionSet.writeObjectivesToMatrix(), reference) ;
+  } // compute
+
+  /**
+   * Computes the contributions of the points of a front. Coordinates beyond
+   * the reference point are taken as lying on it, so those points contribute
+   * zero. The front may contain dominated points: they contribute zero, and
+   * the region they also cover is excluded from the contribution of the
+   * points dominating them.
+   * @param front The points
+   * @param referencePoint The reference point
+   * @return The contribution of each point, in the order of the front
+   */
+  public double [] compute(double [][] front, double [] referencePoint) {
+    int numberOfPoints = front.length ;
+    ensureCapacity(numberOfPoints) ;
+
+    System.arraycopy(referencePoint, 0, referencePoint_.objectives_, 0,
+                     numberOfObjectives_) ;
+    for (int i = 0; i < numberOfPoints; i++)
+      for (int j = 0; j < numberOfObjectives_; j++)
+        front_.points_[i].objectives_[j] = Math.min(front[i][j], referencePoint[j]) ;
+
+    if (numberOfObjectives_ == 2)
+      return contributions2D(numberOfPoints) ;
+    else
+      return contributionsWFG(numberOfPoints) ;
+  } // compute
+
+  /**
+   * Sweeps the points sorted by the first objective. Every non-dominated
+   * point contributes the box between its neighbours, minus the part of it
+   * covered by the points it dominates, which are the ones sorted between it
+   * and the next non-dominated point
+   */
+  private double [] contributions2D(int numberOfPoints) {
+    final Point [] points = front_.points_ ;
+    double [] reference = referencePoint_.objectives_ ;
+    double [] contributions = new double[numberOfPoints] ;
+
+    for (int i = 0; i < numberOfPoints; i++)
+      order_[i] = i ;
+    Arrays.sort(order_, 0, numberOfPoints, new Comparator<Integer>() {
+      public int compare(Integer i, Integer j) {
+        double [] p = points[i].objectives_ ;
+        double [] q = points[j].objectives_ ;
+        if (p[0] != q[0])
+          return (p[0] < q[0]) ? -1 : 1 ;
+        return Double.compare(p[1], q[1]) ;
+      }
+    }) ;
+
+    // positions of the non-dominated points in the sorted order, with
+    // increasing first and decreasing second objective
+    int length = 0 ;
+    double lastY = reference[1] ;
+    for (int k = 0; k < numberOfPoints; k++) {
+      double [] p = points[order_[k]].objectives_ ;
+      if (length > 0) {
+        double [] last = points[order_[chain_[length - 1]]].objectives_ ;
+        if ((p[0] == last[0]) && (p[1] == last[1])) {
+          repeated_[length - 1] = true ;
+          continue ;
+        }
+      }
+      if (p[1] < lastY) {
+        chain_[length] = k ;
+        repeated_[length] = false ;
+        length++ ;
+        lastY = p[1] ;
+      }
+    }
+
+    for (int t = 0; t < length; t++) {
+      if (repeated_[t])
+        continue ;
+
+      double [] p = points[order_[chain_[t]]].objectives_ ;
+      double previousY = (t == 0) ? reference[1] :
+                                    points[order_[chain_[t - 1]]].objectives_[1] ;
+      double nextX = (t == length - 1) ? reference[0] :
+                                         points[order_[chain_[t + 1]]].objectives_[0] ;
+      int end = (t == length - 1) ? numberOfPoints : chain_[t + 1] ;
+
+      double volume = (nextX - p[0]) * (previousY - p[1]) ;
+      double minimumY = previousY ;
+      for (int k = chain_[t] + 1; k < end; k++) {
+        double [] q = points[order_[k]].objectives_ ;
+        if (q[1] < minimumY) {
+          volume -= (nextX - q[0]) * (minimumY - q[1]) ;
+          minimumY = q[1] ;
+        }
+      }
+      contributions[order_[chain_[t]]] = volume ;
+    }
+
+    return contributions ;
+  } // contributions2D
+
+  /**
+   * Computes the contribution of every point as its own box minus the
+   * hypervolume of its limiting set
+   */
+  private double [] contributionsWFG(int numberOfPoints) {
+    double [] contributions = new double[numberOfPoints] ;
+    double [] reference = referencePoint_.objectives_ ;
+    double [] worse = candidate_.objectives_ ;
+
+    for (int i = 0; i < numberOfPoints; i++) {
+      double [] p = front_.points_[i].objectives_ ;
+      double volume = 1.0 ;
+      for (int k = 0; k < numberOfObjectives_; k++)
+        volume *= reference[k] - p[k] ;
+      if (volume == 0.0)
+        continue ;
+
+      int size = 0 ;
+      boolean dominated = false ;
+      for (int j = 0; (j < numberOfPoints) && !dominated; j++) {
+        if (j == i)
+          continue ;
+
+        double [] q = front_.points_[j].objectives_ ;
+        boolean equal = true ;
+        for (int k = 0; k < numberOfObjectives_; k++) {
+          worse[k] = Math.max(p[k], q[k]) ;
+          equal &= (worse[k] == p[k]) ;
+        }
+        if (equal) {
+          dominated = true ;  // q weakly dominates p
+          continue ;
+        }
+        size = insertNonDominated(size) ;
+      }
+
+      if (!dominated) {
+        if (size > 0) {
+          limited_.nPoints_ = size ;
+          volume -= wfg_.getHV(limited_) ;
+        }
+        contributions[i] = volume ;
+      }
+    }
+
+    return contributions ;
+  } // contributionsWFG
+
+  /**
+   * Adds the candidate to the first size points of the limiting set unless
+   * one of them weakly dominates it, removing the points it dominates
+   * @return The new size of the limiting set
+   */
+  private int insertNonDominated(int size) {
+    double [] candidate = candidate_.objectives_ ;
+    Point [] points = limited_.points_ ;
+
+    int i = 0 ;
+    while (i < size) {
+      double [] q = points[i].objectives_ ;
+      boolean candidateBetter = false ;
+      boolean candidateWorse = false ;
+      for (int k = 0; k < numberOfObjectives_; k++) {
+        if (candidate[k] < q[k])
+          candidateBetter = true ;
+        else if (candidate[k] > q[k])
+          candidateWorse = true ;
+      }
+
+      if (!candidateBetter)
+        return size ;       // q weakly dominates the candidate
+      if (!candidateWorse) {
+        size-- ;            // the candidate dominates q
+        Point t = points[i] ;
+        points[i] = points[size] ;
+        points[size] = t ;
+      } else
+        i++ ;
+    }
+
+    System.arraycopy(candidate, 0, points[size].objectives_, 0, numberOfObjectives_) ;
+    return size + 1 ;
+  } // insertNonDominated
+
+  private void ensureCapacity(int numberOfPoints) {
+    if (numberOfPoints > capacity_) {
+      capacity_ = Math.max(numberOfPoints, 2 * capacity_) ;
+      front_ = new Front(capacity_, numberOfObjectives_) ;
+      limited_ = new Front(capacity_, numberOfObjectives_) ;
+      wfg_ = new WFGHV(numberOfObjectives_, capacity_, referencePoint_) ;
+      order_ = new Integer[capacity_] ;
+      chain_ = new int[capacity_] ;
+      repeated_ = new boolean[capacity_] ;
+    }
+  } // ensureCapacity
+} // HypervolumeContributions
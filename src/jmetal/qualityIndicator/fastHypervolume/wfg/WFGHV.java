@@ -40,9 +40,14 @@ import java.util.Comparator;
  * Date: 25/07/13
  * Time: 17:50
  * To change this template use File | Settings | File Templates.
+ *
+ * The points of every recursion level are stored row by row in one flat
+ * double [] (the rows of all the levels have maxNumberOfObjectives_
+ * components), and the levels are allocated and grown only when the
+ * recursion reaches them, so once warmed up an instance does not allocate.
+ * The fronts passed to the methods are copied and left unchanged.
  */
 public class WFGHV {
-  Front [] fs_ ;
   Point referencePoint_ ;
   boolean maximizing_  ;
   int currentDeep_  ;
@@ -52,6 +57,13 @@ public class WFGHV {
   final int OPT = 2 ;
   Comparator pointComparator_;
 
+  double [][] levels_ ;     // points of each recursion level, row by row
+  int []      capacities_ ; // rows each level can hold
+  double []   scratch_ ;    // rows being sorted
+  int []      order_ ;      // sorted rows
+  int []      buffer_ ;     // merge buffer of the sort
+  double []   reference_ ;  // reference point of the current computation
+
   public WFGHV(int dimension, int maxNumberOfPoints) {
     referencePoint_ = null ;
     maximizing_ = false ;
@@ -61,61 +73,39 @@ public class WFGHV {
     maxNumberOfObjectives_ = dimension ;
     pointComparator_ = new PointComparator(true) ;
 
-    int maxd = maxNumberOfPoints_ - (OPT /2 + 1) ;
-    fs_ = new Front[maxd] ;
-    for (int i = 0; i < maxd; i++) {
-      fs_[i] = new Front(maxNumberOfPoints, dimension) ;
-    }
+    levels_ = new double[0][] ;
+    capacities_ = new int[0] ;
   }
 
   public WFGHV(int dimension, int maxNumberOfPoints, Solution referencePoint) {
+    this(dimension, maxNumberOfPoints) ;
     referencePoint_ = new Point(referencePoint) ;
-    maximizing_ = false ;
-    currentDeep_ = 0 ;
-    currentDimension_ = dimension ;
-    maxNumberOfPoints_ = maxNumberOfPoints ;
-    maxNumberOfObjectives_ = dimension ;
-    pointComparator_ = new PointComparator(true) ;
-
-    int maxd = maxNumberOfPoints_ - (OPT /2 + 1) ;
-    fs_ = new Front[maxd] ;
-    for (int i = 0; i < maxd; i++) {
-      fs_[i] = new Front(maxNumberOfPoints, dimension) ;
-    }
   }
 
   public WFGHV(int dimension, int maxNumberOfPoints, Point referencePoint) {
+    this(dimension, maxNumberOfPoints) ;
     referencePoint_ = referencePoint ;
-    maximizing_ = false ;
-    currentDeep_ = 0 ;
-    currentDimension_ = dimension ;
-    maxNumberOfPoints_ = maxNumberOfPoints ;
-    maxNumberOfObjectives_ = dimension ;
-    pointComparator_ = new PointComparator(true) ;
-
-    int maxd = maxNumberOfPoints_ - (OPT /2 + 1) ;
-    fs_ = new Front[maxd] ;
-    for (int i = 0; i < maxd; i++) {
-      fs_[i] = new Front(maxNumberOfPoints, dimension) ;
-    }
   }
 
+  /**
+   * Stores as crowding distance, for every solution of the set, the volume
+   * it dominates which is not dominated by the solutions stored after it
+   * @return The index of the solution having the minimum volume
+   */
   public int getLessContributorHV(SolutionSet set) {
-
-    Front wholeFront   = new Front();
-
-    wholeFront.loadFront(set, -1);
+    int numberOfPoints = set.size() ;
+    reference_ = referencePoint_.objectives_ ;
+    ensureLevel(0, numberOfPoints) ;
+    double [] points = levels_[0] ;
+    for (int i = 0; i < numberOfPoints; i++)
+      for (int j = 0; j < maxNumberOfObjectives_; j++)
+        points[i * maxNumberOfObjectives_ + j] = set.get(i).getObjective(j) ;
 
     int index= 0;
     double contribution = Double.POSITIVE_INFINITY;
 
-    for (int i = 0; i < set.size(); i++) {
-      double [] v = new double[set.get(i).getNumberOfObjectives()];
-      for (int j = 0; j < v.length; j++){
-        v[j] = set.get(i).getObjective(j);
-      }
-      Point p = new Point(v);
-      double aux = this.getExclusiveHV(wholeFront, i);
+    for (int i = 0; i < numberOfPoints; i++) {
+      double aux = exclusiveHV(0, numberOfPoints, i, currentDimension_) ;
       if ((aux) < contribution) {
         index = i;
         contribution = aux;
@@ -128,45 +118,17 @@ public class WFGHV {
 
   public double getHV(Front front, Solution referencePoint) {
     referencePoint_ = new Point(referencePoint) ;
-    double volume = 0.0 ;
-    sort(front) ;
-
-    if (currentDimension_ == 2)
-      volume = get2DHV(front) ;
-    else {
-      volume = 0.0 ;
 
-      currentDimension_ -- ;
-      for (int i = front.nPoints_-1; i >= 0; i--) {
-        volume += Math.abs(front.getPoint(i).objectives_[currentDimension_] -
-                referencePoint_.objectives_[currentDimension_])*
-                this.getExclusiveHV(front, i) ;
-      }
-      currentDimension_ ++ ;
-    }
-
-    return volume ;
+    return getHV(front) ;
   }
 
   public double getHV(Front front) {
-    double volume = 0.0 ;
-    sort(front) ;
+    reference_ = referencePoint_.objectives_ ;
+    int numberOfPoints = load(front) ;
+    if (numberOfPoints == 0)
+      return 0.0 ;
 
-    if (currentDimension_ == 2)
-      volume = get2DHV(front) ;
-    else {
-      volume = 0.0 ;
-
-      currentDimension_ -- ;
-      for (int i = front.nPoints_-1; i >= 0; i--) {
-        volume += Math.abs(front.getPoint(i).objectives_[currentDimension_] -
-                referencePoint_.objectives_[currentDimension_])*
-                this.getExclusiveHV(front, i) ;
-      }
-      currentDimension_ ++ ;
-    }
-
-    return volume ;
+    return hv(0, numberOfPoints, currentDimension_) ;
   }
 
   public double get2DHV(Front front) {
@@ -194,56 +156,140 @@ public class WFGHV {
     return volume ;
   }
 
+  /**
+   * Returns the volume dominated by a point of the front which is not
+   * dominated by the points stored after it
+   */
   public double getExclusiveHV(Front front, int point) {
-    double volume ;
-
-    volume = getInclusiveHV(front.getPoint(point)) ;
-    if (front.nPoints_ > point + 1) {
-      makeDominatedBit(front, point);
-      double v = getHV(fs_[currentDeep_-1]) ;
-      volume -= v ;
-      currentDeep_ -- ;
+    reference_ = referencePoint_.objectives_ ;
+    int numberOfPoints = load(front) ;
+
+    return exclusiveHV(0, numberOfPoints, point, currentDimension_) ;
+  }
+
+  /**
+   * Copies the points of a front to the first level
+   * @return The number of points
+   */
+  private int load(Front front) {
+    int numberOfPoints = front.nPoints_ ;
+    ensureLevel(0, numberOfPoints) ;
+    double [] points = levels_[0] ;
+    for (int i = 0; i < numberOfPoints; i++)
+      System.arraycopy(front.points_[i].objectives_, 0, points,
+                       i * maxNumberOfObjectives_, maxNumberOfObjectives_) ;
+
+    return numberOfPoints ;
+  }
+
+  /**
+   * Hypervolume of the first n points of a level, in the given dimension
+   */
+  private double hv(int level, int n, int dimension) {
+    double volume = 0.0 ;
+    sort(level, n, dimension) ;
+    double [] points = levels_[level] ;
+    int m = maxNumberOfObjectives_ ;
+
+    if (dimension == 2) {
+      volume = Math.abs((points[0] - reference_[0]) * (points[1] - reference_[1])) ;
+      for (int i = 1; i < n; i++)
+        volume += Math.abs((points[i * m] - reference_[0]) *
+                           (points[i * m + 1] - points[(i - 1) * m + 1])) ;
+    }
+    else {
+      int last = dimension - 1 ;
+      for (int i = n - 1; i >= 0; i--) {
+        volume += Math.abs(points[i * m + last] - reference_[last]) *
+                  exclusiveHV(level, n, i, last) ;
+      }
     }
 
     return volume ;
   }
 
-  public void makeDominatedBit(Front front, int p) {
-    int z = front.nPoints_ - 1 - p ;
+  private double exclusiveHV(int level, int n, int point, int dimension) {
+    double [] points = levels_[level] ;
+    int offset = point * maxNumberOfObjectives_ ;
+    double volume = 1 ;
+    for (int i = 0; i < dimension; i++)
+      volume *= Math.abs(points[offset + i] - reference_[i]) ;
 
-    for (int i = 0 ; i < z ; i++)
-      for (int j = 0 ; j < currentDimension_; j++) {
-        fs_[currentDeep_].getPoint(i).objectives_[j] = worse(front.points_[p].objectives_[j], front.points_[p+1+i].objectives_[j], false) ;
-      }
+    if (n > point + 1) {
+      int size = makeDominatedBit(level, n, point, dimension) ;
+      volume -= hv(level + 1, size, dimension) ;
+    }
 
+    return volume ;
+  }
 
-    Point t ;
-    fs_[currentDeep_].nPoints_ = 1 ;
+  /**
+   * Returns the points of the front after p made worse than p, without the
+   * dominated ones: the set whose hypervolume getExclusiveHV subtracts from
+   * the volume of p
+   */
+  public Front makeDominatedBit(Front front, int p) {
+    int numberOfPoints = load(front) ;
+    if (numberOfPoints <= p + 1)
+      return new Front(0, maxNumberOfObjectives_) ;
+
+    int size = makeDominatedBit(0, numberOfPoints, p, currentDimension_) ;
+    Front bit = new Front(size, maxNumberOfObjectives_) ;
+    double [] points = levels_[1] ;
+    for (int i = 0; i < size; i++)
+      System.arraycopy(points, i * maxNumberOfObjectives_, bit.points_[i].objectives_,
+                       0, currentDimension_) ;
+
+    return bit ;
+  }
 
+  /**
+   * Stores in the next level the points after p made worse than p, without
+   * the dominated ones
+   * @return The number of points stored
+   */
+  private int makeDominatedBit(int level, int n, int p, int dimension) {
+    int z = n - 1 - p ;
+    ensureLevel(level + 1, z) ;
+    double [] front = levels_[level] ;
+    double [] bit = levels_[level + 1] ;
+    int m = maxNumberOfObjectives_ ;
+
+    for (int i = 0 ; i < z ; i++)
+      for (int j = 0 ; j < dimension; j++)
+        bit[i * m + j] = worse(front[p * m + j], front[(p + 1 + i) * m + j], false) ;
+
+    int size = 1 ;
     for (int i = 1; i < z; i++) {
       int j = 0 ;
       boolean keep = true ;
-      while (j < fs_[currentDeep_].nPoints_ && keep) {
-        switch (dominates2way(fs_[currentDeep_].points_[i], fs_[currentDeep_].points_[j])) {
+      while (j < size && keep) {
+        switch (dominates2way(bit, i, j, dimension)) {
           case -1:
-            t = fs_[currentDeep_].points_[j] ;
-            fs_[currentDeep_].nPoints_--;
-            fs_[currentDeep_].points_[j] = fs_[currentDeep_].points_[fs_[currentDeep_].nPoints_];
-            fs_[currentDeep_].points_[fs_[currentDeep_].nPoints_] = t;
+            size-- ;
+            swapRows(bit, j, size, dimension) ;
             break;
           case  0: j++; break;
           // case  2: printf("Identical points!\n");
           default: keep = false;
         }
       }
-      if (keep) {t = fs_[currentDeep_].points_[fs_[currentDeep_].nPoints_];
-        fs_[currentDeep_].points_[fs_[currentDeep_].nPoints_] = fs_[currentDeep_].points_[i];
-        fs_[currentDeep_].points_[i] = t;
-        fs_[currentDeep_].nPoints_++;
+      if (keep) {
+        swapRows(bit, size, i, dimension) ;
+        size++ ;
       }
     }
 
-    currentDeep_++ ;
+    return size ;
+  }
+
+  private void swapRows(double [] points, int i, int j, int dimension) {
+    int m = maxNumberOfObjectives_ ;
+    for (int k = 0; k < dimension; k++) {
+      double t = points[i * m + k] ;
+      points[i * m + k] = points[j * m + k] ;
+      points[j * m + k] = t ;
+    }
   }
 
   private double worse (double x, double y, boolean maximizing) {
@@ -263,22 +309,23 @@ public class WFGHV {
     return result ;
   }
 
-  int dominates2way(Point p, Point q)
+  int dominates2way(double [] points, int p, int q, int dimension)
 // returns -1 if p dominates q, 1 if q dominates p, 2 if p == q, 0 otherwise
   // ASSUMING MINIMIZATION
   {
     // domination could be checked in either order
+    int m = maxNumberOfObjectives_ ;
 
-    for (int i = currentDimension_ - 1; i >= 0; i--)
-      if (p.objectives_[i] < q.objectives_[i]){
+    for (int i = dimension - 1; i >= 0; i--)
+      if (points[p * m + i] < points[q * m + i]){
         for (int j = i - 1; j >= 0; j--)
-          if (q.objectives_[j] < p.objectives_[j]) return 0;
+          if (points[q * m + j] < points[p * m + j]) return 0;
         return -1;
       }
       else
-      if (q.objectives_[i] < p.objectives_[i]){
+      if (points[q * m + i] < points[p * m + i]){
         for (int j = i - 1; j >= 0; j--)
-          if (p.objectives_[j] < q.objectives_[j]) return 0;
+          if (points[p * m + j] < points[q * m + j]) return 0;
         return  1;
       }
     return 2;
@@ -288,6 +335,86 @@ public class WFGHV {
     Arrays.sort(front.points_, 0, front.nPoints_, pointComparator_);
   }
 
+  /**
+   * Sorts the first n rows of a level as PointComparator(true) does, comparing
+   * the given dimensions from the last one, with a merge sort of row indexes
+   */
+  private void sort(int level, int n, int dimension) {
+    double [] points = levels_[level] ;
+    int m = maxNumberOfObjectives_ ;
+    for (int i = 0; i < n; i++)
+      order_[i] = i ;
+    mergeSort(points, 0, n, dimension) ;
+
+    System.arraycopy(points, 0, scratch_, 0, n * m) ;
+    for (int i = 0; i < n; i++)
+      System.arraycopy(scratch_, order_[i] * m, points, i * m, dimension) ;
+  }
+
+  private void mergeSort(double [] points, int from, int to, int dimension) {
+    if (to - from < 8) {
+      for (int i = from + 1; i < to; i++) {
+        int row = order_[i] ;
+        int j = i - 1 ;
+        while ((j >= from) && (compare(points, order_[j], row, dimension) > 0)) {
+          order_[j + 1] = order_[j] ;
+          j-- ;
+        }
+        order_[j + 1] = row ;
+      }
+      return ;
+    }
+
+    int middle = (from + to) >>> 1 ;
+    mergeSort(points, from, middle, dimension) ;
+    mergeSort(points, middle, to, dimension) ;
+    if (compare(points, order_[middle - 1], order_[middle], dimension) <= 0)
+      return ;
+
+    System.arraycopy(order_, from, buffer_, from, to - from) ;
+    int i = from ;
+    int j = middle ;
+    for (int k = from; k < to; k++) {
+      if ((j >= to) || ((i < middle) && (compare(points, buffer_[i], buffer_[j], dimension) <= 0)))
+        order_[k] = buffer_[i++] ;
+      else
+        order_[k] = buffer_[j++] ;
+    }
+  }
+
+  private int compare(double [] points, int p, int q, int dimension) {
+    int m = maxNumberOfObjectives_ ;
+    for (int i = dimension - 1; i >= 0; i--) {
+      if (points[p * m + i] > points[q * m + i])
+        return -1 ;
+      else if (points[q * m + i] > points[p * m + i])
+        return 1 ;
+    }
+    return 0 ;
+  }
+
+  /**
+   * Makes a level able to hold the given number of rows, allocating it the
+   * first time the recursion reaches it
+   */
+  private void ensureLevel(int level, int rows) {
+    if (level >= levels_.length) {
+      levels_ = Arrays.copyOf(levels_, level + 1) ;
+      capacities_ = Arrays.copyOf(capacities_, level + 1) ;
+    }
+    if (capacities_[level] < rows) {
+      int capacity = Math.max(rows, Math.max(2 * capacities_[level],
+                     (level == 0) ? maxNumberOfPoints_ : 0)) ;
+      levels_[level] = new double[capacity * maxNumberOfObjectives_] ;
+      capacities_[level] = capacity ;
+      if ((order_ == null) || (order_.length < capacity)) {
+        order_ = new int[capacity] ;
+        buffer_ = new int[capacity] ;
+        scratch_ = new double[capacity * maxNumberOfObjectives_] ;
+      }
+    }
+  }
+
   public static void main(String args[]) throws IOException {
     Front front = new Front() ;
 
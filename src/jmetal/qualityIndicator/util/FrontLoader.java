@@ -0,0 +1,366 @@
+//  FrontLoader.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator.util;
+
+import jmetal.util.Ranking;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Loads Pareto fronts from text files (one point per line, as read by
+ * <code>MetricsUtil.readFront</code>) or from a compact binary format:
+ *
+ *   "JMPF" | version (int) | number of points (int) | number of objectives (int)
+ *   points (doubles, row by row)
+ *
+ * with every value in little-endian order. Binary files are read through a
+ * memory-mapped FileChannel straight into the matrix. A text file can be
+ * converted with
+ *
+ *   java jmetal.qualityIndicator.util.FrontLoader textFile binaryFile
+ *
+ * <code>load</code> and <code>loadNonDominated</code> keep a process-wide
+ * cache keyed by the path of the file, which is reloaded when its modification
+ * time, size or CRC-32 change; the file is read on every call to compute the
+ * CRC, so a rewrite within the granularity of the modification time is also
+ * seen. The matrices they return are shared, so they must not be modified.
+ */
+public class FrontLoader {
+  private static final byte [] MAGIC = {'J', 'M', 'P', 'F'} ;
+  private static final int VERSION = 1 ;
+  private static final int HEADER_SIZE = 16 ;
+
+  /**
+   * Front of a file, as it was when it was loaded
+   */
+  private static class Entry {
+    long          lastModified_ ;
+    long          length_ ;
+    long          checksum_ ;
+    double [][]   front_ ;
+    double [][]   nonDominated_ ;
+  } // Entry
+
+  private static final ConcurrentHashMap<String, Entry> cache_ =
+      new ConcurrentHashMap<String, Entry>() ;
+
+  /**
+   * Returns the points of a front file, text or binary; blank lines of text
+   * files are skipped
+   * @param path The file
+   * @return The points, shared with the other callers
+   * @throws IOException
+   */
+  public static double [][] load(String path) throws IOException {
+    return entry(path).front_ ;
+  } // load
+
+  /**
+   * Returns the points of a front file which are not dominated by another
+   * one, in the order of the file. Equal points are all kept, as in
+   * <code>MetricsUtil.readNonDominatedSolutionSet</code>.
+   * @param path The file
+   * @return The points, shared with the other callers
+   * @throws IOException
+   */
+  public static double [][] loadNonDominated(String path) throws IOException {
+    Entry entry = entry(path) ;
+    synchronized (entry) {
+      if (entry.nonDominated_ == null)
+        entry.nonDominated_ = nonDominated(entry.front_) ;
+    }
+    return entry.nonDominated_ ;
+  } // loadNonDominated
+
+  private static Entry entry(String path) throws IOException {
+    File file = new File(path) ;
+    String key = file.getCanonicalPath() ;
+    long lastModified = file.lastModified() ;
+    long length = file.length() ;
+    long checksum = checksum(path) ;
+
+    Entry entry = cache_.get(key) ;
+    if ((entry == null) || (entry.lastModified_ != lastModified) ||
+        (entry.length_ != length) || (entry.checksum_ != checksum)) {
+      entry = new Entry() ;
+      entry.lastModified_ = lastModified ;
+      entry.length_ = length ;
+      entry.checksum_ = checksum ;
+      entry.front_ = isBinary(path) ? readBinary(path) : readText(path) ;
+      cache_.put(key, entry) ;
+    }
+    return entry ;
+  } // entry
+
+  /**
+   * Returns the CRC-32 of the contents of a file
+   */
+  private static long checksum(String path) throws IOException {
+    FileInputStream stream = new FileInputStream(path) ;
+    try {
+      CRC32 crc = new CRC32() ;
+      byte [] buffer = new byte[65536] ;
+      int n = stream.read(buffer) ;
+      while (n >= 0) {
+        crc.update(buffer, 0, n) ;
+        n = stream.read(buffer) ;
+      }
+      return crc.getValue() ;
+    } finally {
+      stream.close() ;
+    }
+  } // checksum
+
+  /**
+   * Returns true if the file starts as a binary front
+   */
+  public static boolean isBinary(String path) throws IOException {
+    FileInputStream stream = new FileInputStream(path) ;
+    try {
+      byte [] magic = new byte[MAGIC.length] ;
+      int read = 0 ;
+      while (read < magic.length) {
+        int n = stream.read(magic, read, magic.length - read) ;
+        if (n < 0)
+          return false ;
+        read += n ;
+      }
+      return Arrays.equals(magic, MAGIC) ;
+    } finally {
+      stream.close() ;
+    }
+  } // isBinary
+
+  /**
+   * Reads a binary front through a memory-mapped channel
+   * @param path The file
+   * @return The points
+   * @throws IOException
+   */
+  public static double [][] readBinary(String path) throws IOException {
+    RandomAccessFile file = new RandomAccessFile(path, "r") ;
+    try {
+      FileChannel channel = file.getChannel() ;
+      long size = channel.size() ;
+      if (size < HEADER_SIZE)
+        throw new IOException("FrontLoader: truncated file " + path) ;
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size) ;
+      buffer.order(ByteOrder.LITTLE_ENDIAN) ;
+
+      byte [] magic = new byte[MAGIC.length] ;
+      buffer.get(magic) ;
+      int version = buffer.getInt() ;
+      int numberOfPoints = buffer.getInt() ;
+      int numberOfObjectives = buffer.getInt() ;
+      if (!Arrays.equals(magic, MAGIC) || (version != VERSION) ||
+          (numberOfPoints < 0) || (numberOfObjectives < 0) ||
+          (size != HEADER_SIZE + 8L * numberOfPoints * numberOfObjectives))
+        throw new IOException("FrontLoader: " + path + " is not a valid binary front") ;
+
+      DoubleBuffer values = buffer.asDoubleBuffer() ;
+      double [][] front = new double[numberOfPoints][numberOfObjectives] ;
+      for (int i = 0; i < numberOfPoints; i++)
+        values.get(front[i]) ;
+
+      return front ;
+    } finally {
+      file.close() ;
+    }
+  } // readBinary
+
+  /**
+   * Writes a front in the binary format
+   * @param front The points; all of them must have the same length
+   * @param path The file
+   * @throws IOException
+   */
+  public static void writeBinary(double [][] front, String path) throws IOException {
+    int numberOfObjectives = (front.length == 0) ? 0 : front[0].length ;
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 8 * front.length * numberOfObjectives) ;
+    buffer.order(ByteOrder.LITTLE_ENDIAN) ;
+    buffer.put(MAGIC) ;
+    buffer.putInt(VERSION) ;
+    buffer.putInt(front.length) ;
+    buffer.putInt(numberOfObjectives) ;
+    for (double [] point : front) {
+      if (point.length != numberOfObjectives)
+        throw new IOException("FrontLoader: the points of " + path +
+                              " have different numbers of objectives") ;
+      for (double value : point)
+        buffer.putDouble(value) ;
+    }
+    buffer.flip() ;
+
+    FileOutputStream stream = new FileOutputStream(path) ;
+    try {
+      FileChannel channel = stream.getChannel() ;
+      while (buffer.hasRemaining())
+        channel.write(buffer) ;
+    } finally {
+      stream.close() ;
+    }
+  } // writeBinary
+
+  /**
+   * Reads a text front, one point per line; blank lines are skipped
+   * @param path The file
+   * @return The points
+   * @throws IOException
+   */
+  public static double [][] readText(String path) throws IOException {
+    BufferedReader br = new BufferedReader(new InputStreamReader(
+        new FileInputStream(path))) ;
+    try {
+      List<double []> list = new ArrayList<double []>() ;
+      String aux = br.readLine() ;
+      while (aux != null) {
+        StringTokenizer st = new StringTokenizer(aux) ;
+        if (st.hasMoreTokens()) {
+          double [] vector = new double[st.countTokens()] ;
+          int i = 0 ;
+          while (st.hasMoreTokens())
+            vector[i++] = Double.parseDouble(st.nextToken()) ;
+          list.add(vector) ;
+        }
+        aux = br.readLine() ;
+      }
+      return list.toArray(new double[list.size()][]) ;
+    } finally {
+      br.close() ;
+    }
+  } // readText
+
+  /**
+   * Returns the points of a front which are not dominated (minimizing) by
+   * another one, in their original order; equal points are all kept. When
+   * all the points have the same number (two or more) of objectives and no
+   * NaN, they are ranked with the default engine of <code>Ranking</code>: a
+   * sweep in lexicographical order, O(N log N), for two objectives and a
+   * divide-and-conquer algorithm otherwise.
+   * @param front The points
+   * @return The non-dominated points (the same arrays, not copies), or front
+   * itself if none of its points is dominated
+   */
+  public static double [][] nonDominated(final double [][] front) {
+    int n = front.length ;
+    int numberOfObjectives = (n == 0) ? 0 : front[0].length ;
+    boolean hasNaN = false ;
+    boolean sameLength = true ;
+    for (double [] point : front) {
+      sameLength &= (point.length == numberOfObjectives) ;
+      for (double value : point)
+        hasNaN |= Double.isNaN(value) ;
+    }
+
+    boolean [] dominated = new boolean[n] ;
+    if (hasNaN) {
+      // NaN breaks the lexicographical order; every pair is compared
+      for (int i = 0; i < n; i++)
+        for (int j = 0; (j < n) && !dominated[i]; j++)
+          dominated[i] = dominates(front[j], front[i]) ;
+    } else if (sameLength && (numberOfObjectives >= 2)) {
+      int [] rank = new int[n] ;
+      Ranking.getDefaultEngine(numberOfObjectives).computeRanking(front, rank) ;
+      for (int i = 0; i < n; i++)
+        dominated[i] = (rank[i] > 0) ;
+    } else {
+      // Points are visited in lexicographical order, so every point only has
+      // to be compared with the non-dominated points visited before it
+      Integer [] order = new Integer[n] ;
+      for (int i = 0; i < n; i++)
+        order[i] = i ;
+      Arrays.sort(order, new Comparator<Integer>() {
+        public int compare(Integer i, Integer j) {
+          double [] p = front[i] ;
+          double [] q = front[j] ;
+          for (int k = 0; k < Math.min(p.length, q.length); k++) {
+            if (p[k] < q[k])
+              return -1 ;
+            if (p[k] > q[k])
+              return 1 ;
+          }
+          return 0 ;
+        }
+      }) ;
+
+      int [] kept = new int[n] ;
+      int numberOfKept = 0 ;
+      for (int i = 0; i < n; i++) {
+        double [] point = front[order[i]] ;
+        for (int k = numberOfKept - 1; (k >= 0) && !dominated[order[i]]; k--)
+          dominated[order[i]] = dominates(front[kept[k]], point) ;
+        if (!dominated[order[i]])
+          kept[numberOfKept++] = order[i] ;
+      }
+    }
+
+    List<double []> result = new ArrayList<double []>() ;
+    for (int i = 0; i < n; i++)
+      if (!dominated[i])
+        result.add(front[i]) ;
+
+    if (result.size() == n)
+      return front ;
+    return result.toArray(new double[result.size()][]) ;
+  } // nonDominated
+
+  /* true if p is not worse than q in any objective and better in one, as
+     DominanceComparator decides it */
+  private static boolean dominates(double [] p, double [] q) {
+    boolean better = false ;
+    for (int k = 0; k < q.length; k++) {
+      if (p[k] > q[k])
+        return false ;
+      if (p[k] < q[k])
+        better = true ;
+    }
+    return better ;
+  } // dominates
+
+  /**
+   * Converts a text front into a binary one
+   * @param args Text file and binary file
+   */
+  public static void main(String [] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: java jmetal.qualityIndicator.util.FrontLoader " +
+                         "<textFile> <binaryFile>") ;
+      System.exit(1) ;
+    }
+    double [][] front = readText(args[0]) ;
+    writeBinary(front, args[1]) ;
+    System.out.println(front.length + " points written to " + args[1]) ;
+  } // main
+} // FrontLoader
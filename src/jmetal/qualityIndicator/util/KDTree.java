@@ -0,0 +1,198 @@
+//  KDTree.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator.util;
+
+/**
+ * Static k-d tree over a set of points, used to find the distance from a
+ * point to the nearest one of a front. The points are stored in a flat
+ * array laid out as an implicit balanced tree: each range is split at its
+ * median along the objective with the largest spread. Distances are
+ * accumulated exactly as in <code>MetricsUtil.distance</code> and subtrees
+ * are only skipped when they cannot hold a closer point, so the results are
+ * the same as those of <code>MetricsUtil.distanceToClosedPoint</code>.
+ */
+public class KDTree {
+  /**
+   * Ranges with up to this number of points are scanned linearly
+   */
+  private static final int LEAF_SIZE = 8 ;
+
+  private int      numberOfObjectives_ ;
+  private int      numberOfPoints_ ;
+  private double[] points_ ;
+  private int[]    splitAxis_ ;
+
+  /**
+   * Constructor
+   * @param front The points; they are copied
+   */
+  public KDTree(double[][] front) {
+    numberOfPoints_     = front.length ;
+    numberOfObjectives_ = (numberOfPoints_ > 0) ? front[0].length : 0 ;
+    points_             = new double[numberOfPoints_ * numberOfObjectives_] ;
+    splitAxis_          = new int[numberOfPoints_] ;
+
+    int[] order = new int[numberOfPoints_] ;
+    for (int i = 0; i < numberOfPoints_; i++)
+      order[i] = i ;
+    build(front, order, 0, numberOfPoints_) ;
+
+    for (int i = 0; i < numberOfPoints_; i++)
+      System.arraycopy(front[order[i]], 0, points_, i * numberOfObjectives_, numberOfObjectives_) ;
+  } // KDTree
+
+  public int size() {
+    return numberOfPoints_ ;
+  } // size
+
+  /**
+   * Gets the distance between a point and the nearest one of the tree
+   * @param point The point
+   * @return The minimum distance, or infinity if the tree is empty
+   */
+  public double distanceToClosestPoint(double[] point) {
+    return Math.sqrt(search(point, 0, numberOfPoints_, Double.POSITIVE_INFINITY)) ;
+  } // distanceToClosestPoint
+
+  /**
+   * Gets the distance between a point and the nearest one of the tree which
+   * is not at distance 0. The result is the same as
+   * <code>MetricsUtil.distanceToNearestPoint</code>.
+   * @param point The point
+   * @return The minimum distance greater than 0, or Double.MAX_VALUE if
+   * there is none
+   */
+  public double distanceToNearestPoint(double[] point) {
+    double best = search(point, 0, numberOfPoints_, Double.POSITIVE_INFINITY, true) ;
+    return (best == Double.POSITIVE_INFINITY) ? Double.MAX_VALUE : Math.sqrt(best) ;
+  } // distanceToNearestPoint
+
+  /**
+   * Returns the smallest squared distance between the point and the points
+   * of the range [low, high), or best if none of them is closer
+   */
+  private double search(double[] point, int low, int high, double best) {
+    return search(point, low, high, best, false) ;
+  } // search
+
+  /**
+   * Returns the smallest squared distance between the point and the points
+   * of the range [low, high), or best if none of them is closer. If
+   * excludeZero is true, the points at distance 0 are ignored.
+   */
+  private double search(double[] point, int low, int high, double best,
+                        boolean excludeZero) {
+    if (high - low <= LEAF_SIZE) {
+      for (int i = low; i < high; i++)
+        best = squaredDistance(point, i, best, excludeZero) ;
+      return best ;
+    }
+
+    int middle = (low + high) >>> 1 ;
+    int axis   = splitAxis_[middle] ;
+    double gap = point[axis] - points_[middle * numberOfObjectives_ + axis] ;
+
+    best = squaredDistance(point, middle, best, excludeZero) ;
+    if (gap < 0) {
+      best = search(point, low, middle, best, excludeZero) ;
+      if (Math.pow(gap, 2.0) <= best)
+        best = search(point, middle + 1, high, best, excludeZero) ;
+    } else {
+      best = search(point, middle + 1, high, best, excludeZero) ;
+      if (Math.pow(gap, 2.0) <= best)
+        best = search(point, low, middle, best, excludeZero) ;
+    }
+    return best ;
+  } // search
+
+  /**
+   * Squared distance between a point and the i-th stored point, accumulated
+   * as in <code>MetricsUtil.distance</code>, or best if it is not smaller
+   * (or if it is 0 and excludeZero is true)
+   */
+  private double squaredDistance(double[] point, int i, double best,
+                                 boolean excludeZero) {
+    int offset = i * numberOfObjectives_ ;
+    double distance = 0.0 ;
+    for (int j = 0; j < numberOfObjectives_; j++) {
+      distance += Math.pow(point[j] - points_[offset + j], 2.0) ;
+      if (distance >= best)
+        return best ;
+    }
+    return (excludeZero && (distance == 0.0)) ? best : distance ;
+  } // squaredDistance
+
+  /**
+   * Arranges order[low..high) as a subtree
+   */
+  private void build(double[][] front, int[] order, int low, int high) {
+    if (high - low <= LEAF_SIZE)
+      return ;
+
+    int axis = 0 ;
+    double widest = -1.0 ;
+    for (int j = 0; j < numberOfObjectives_; j++) {
+      double min = Double.POSITIVE_INFINITY ;
+      double max = Double.NEGATIVE_INFINITY ;
+      for (int i = low; i < high; i++) {
+        double value = front[order[i]][j] ;
+        if (value < min) min = value ;
+        if (value > max) max = value ;
+      }
+      if (max - min > widest) {
+        widest = max - min ;
+        axis = j ;
+      }
+    }
+
+    int middle = (low + high) >>> 1 ;
+    select(front, order, low, high - 1, middle, axis) ;
+    splitAxis_[middle] = axis ;
+    build(front, order, low, middle) ;
+    build(front, order, middle + 1, high) ;
+  } // build
+
+  /**
+   * Quickselect: places in order[k] the point whose value in the axis would
+   * be there if order[left..right] were sorted, with no greater value before
+   * it and no smaller value after it
+   */
+  private void select(double[][] front, int[] order, int left, int right, int k, int axis) {
+    while (left < right) {
+      double pivot = front[order[(left + right) >>> 1]][axis] ;
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (front[order[i]][axis] < pivot) i++ ;
+        while (front[order[j]][axis] > pivot) j-- ;
+        if (i <= j) {
+          int tmp = order[i] ;
+          order[i] = order[j] ;
+          order[j] = tmp ;
+          i++ ;
+          j-- ;
+        }
+      }
+      if (k <= j)
+        right = j ;
+      else if (k >= i)
+        left = i ;
+      else
+        return ;
+    }
+  } // select
+} // KDTree
@@ -24,6 +24,7 @@ package jmetal.qualityIndicator.util;
 import jmetal.core.Solution;
 import jmetal.core.SolutionSet;
 import jmetal.qualityIndicator.Hypervolume;
+import jmetal.qualityIndicator.fastHypervolume.HypervolumeContributions;
 import jmetal.util.NonDominatedSolutionList;
 
 import java.io.BufferedReader;
@@ -37,12 +38,16 @@ import java.util.*;
 public class MetricsUtil {
   
   /**
-   * This method reads a Pareto Front for a file.
+   * This method reads a Pareto Front for a file, in text or in the binary
+   * format of <code>FrontLoader</code>.
    * @param path The path to the file that contains the pareto front
    * @return double [][] whit the pareto front
    **/
   public double [][] readFront(String path) {
     try {
+      if (FrontLoader.isBinary(path))
+        return FrontLoader.readBinary(path) ;
+
       // Open the file
       FileInputStream fis   = new FileInputStream(path)     ;
       InputStreamReader isr = new InputStreamReader(fis)    ;
@@ -57,7 +62,7 @@ public class MetricsUtil {
         numberOfObjectives = st.countTokens();
         double [] vector = new double[st.countTokens()];
         while (st.hasMoreTokens()) {
-          double value = new Double(st.nextToken());
+          double value = Double.parseDouble(st.nextToken());
           vector[i] = value;
           i++;
         }
@@ -164,6 +169,32 @@ public class MetricsUtil {
     
     return minDistance;
   } // distanceToClosedPoint
+
+
+  /**
+   * Gets the distance between each of a set of points and the nearest one in
+   * a given front. When there are enough points to pay for it, the nearest
+   * points are looked up in a <code>KDTree</code> built over the front.
+   * @param points The points
+   * @param front The front that contains the other points to calculate the
+   * distances
+   * @return The minimum distance of each point to the front
+   */
+  public double [] distancesToClosedPoint(double [][] points, double [][] front) {
+    double [] distances = new double[points.length];
+    // Building the tree costs about as much as a few linear scans per level
+    if ((front.length > 16) &&
+        (points.length > 16 * (32 - Integer.numberOfLeadingZeros(front.length)))) {
+      KDTree tree = new KDTree(front);
+      for (int i = 0; i < points.length; i++)
+        distances[i] = tree.distanceToClosestPoint(points[i]);
+    } else {
+      for (int i = 0; i < points.length; i++)
+        distances[i] = distanceToClosedPoint(points[i], front);
+    }
+
+    return distances;
+  } // distancesToClosedPoint
   
   
   /**
@@ -258,7 +289,7 @@ public class MetricsUtil {
         int i = 0;
         Solution solution = new Solution(st.countTokens());
         while (st.hasMoreTokens()) {
-          double value = new Double(st.nextToken());
+          double value = Double.parseDouble(st.nextToken());
           solution.setObjective(i,value);
           i++;
         }
@@ -295,7 +326,7 @@ public class MetricsUtil {
         int i = 0;
         Solution solution = new Solution(st.countTokens());
         while (st.hasMoreTokens()) {
-          double value = new Double(st.nextToken());
+          double value = Double.parseDouble(st.nextToken());
           solution.setObjective(i,value);
           i++;
         }
@@ -331,7 +362,7 @@ public class MetricsUtil {
 				Solution solution = new Solution(st.countTokens());
 				
 				while (st.hasMoreTokens()) {
-					double value = new Double(st.nextToken());
+					double value = Double.parseDouble(st.nextToken());
 					solution.setObjective(i,value);
 					i++;
 				}
@@ -348,13 +379,25 @@ public class MetricsUtil {
 	  /**
 	   * Calculates how much hypervolume each point dominates exclusively. The points
 	   * have to be transformed beforehand, to accommodate the assumptions of Zitzler's
-	   * hypervolume code.
+	   * hypervolume code. Non-negative fronts are handled in one pass by
+	   * <code>HypervolumeContributions</code>; otherwise the hypervolume of the
+	   * front without each point is computed. Either way a dominated point
+	   * contributes 0.
 	   * @param front transformed objective values
 	   * @return HV contributions
 	   */
 	  public double[] hvContributions(int numberOfobjectives, double[][] front) {
 	    Hypervolume hypervolume = new Hypervolume() ;
 	    int numberOfObjectives = numberOfobjectives;
+	    if (isNonNegative(front, numberOfObjectives)) {
+	      // maximizing from the origin is minimizing the opposite points up to it
+	      double[][] opposite = new double[front.length][numberOfObjectives];
+	      for (int i = 0; i < front.length; i++)
+	        for (int j = 0; j < numberOfObjectives; j++)
+	          opposite[i][j] = -front[i][j];
+	      return new HypervolumeContributions(numberOfObjectives).compute(
+	                     opposite, new double[numberOfObjectives]);
+	    }
 	    double[] contributions = new double[front.length];
 	    double[][] frontSubset = new double[front.length - 1][front[0].length];
 	    LinkedList<double[]> frontCopy = new LinkedList<double[]>();
@@ -373,6 +416,14 @@ public class MetricsUtil {
 	    }
 	    return contributions;
 	  }
+
+	  private boolean isNonNegative(double[][] front, int numberOfObjectives) {
+	    for (double[] point : front)
+	      for (int j = 0; j < numberOfObjectives; j++)
+	        if (!(point[j] >= 0) || Double.isInfinite(point[j]))
+	          return false;
+	    return true;
+	  } // isNonNegative
 	  
 	  
 	  /**
@@ -0,0 +1,138 @@
+//  ReferenceFront.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable reference (true Pareto) front shared by the quality indicators.
+ * Everything the indicators derive from the reference front alone (bounds,
+ * normalized copy, extreme points, k-d tree) is computed once in
+ * the constructor, so an instance can be used by several threads at a time.
+ * The arrays returned by the getters are shared and must not be modified.
+ */
+public class ReferenceFront {
+  private int         numberOfObjectives_ ;
+  private int         numberOfPoints_ ;
+
+  /**
+   * Points, in the order they were given
+   */
+  private double [][] points_ ;
+
+  /**
+   * Index used to find the nearest point of the front
+   */
+  private KDTree      tree_ ;
+
+  private double []   maximumValues_ ;
+  private double []   minimumValues_ ;
+  private double [][] normalizedPoints_ ;
+
+  /**
+   * First and last points in lexicographical order (used by Spread)
+   */
+  private double []   lexicographicalFirst_ ;
+  private double []   lexicographicalLast_ ;
+
+  /**
+   * Extreme point of each objective (used by GeneralizedSpread)
+   */
+  private double [][] extremeValues_ ;
+
+  /**
+   * Constructor
+   * @param front The reference front; it is copied
+   * @param numberOfObjectives The number of objectives
+   */
+  public ReferenceFront(double [][] front, int numberOfObjectives) {
+    MetricsUtil utils = new MetricsUtil() ;
+
+    numberOfObjectives_ = numberOfObjectives ;
+    numberOfPoints_     = front.length ;
+    points_             = new double[numberOfPoints_][] ;
+    for (int i = 0; i < numberOfPoints_; i++)
+      points_[i] = front[i].clone() ;
+
+    maximumValues_    = utils.getMaximumValues(points_, numberOfObjectives_) ;
+    minimumValues_    = utils.getMinimumValues(points_, numberOfObjectives_) ;
+    normalizedPoints_ = utils.getNormalizedFront(points_, maximumValues_, minimumValues_) ;
+
+    double [][] sorted = points_.clone() ;
+    if (numberOfPoints_ > 0) {
+      Arrays.sort(sorted, new LexicoGraphicalComparator()) ;
+      lexicographicalFirst_ = sorted[0] ;
+      lexicographicalLast_  = sorted[numberOfPoints_ - 1] ;
+
+      // Same sequence of sorts as GeneralizedSpread.generalizedSpread
+      sorted = points_.clone() ;
+      extremeValues_ = new double[numberOfObjectives_][numberOfObjectives_] ;
+      for (int i = 0; i < numberOfObjectives_; i++) {
+        Arrays.sort(sorted, new ValueComparator(i)) ;
+        System.arraycopy(sorted[numberOfPoints_ - 1], 0, extremeValues_[i], 0, numberOfObjectives_) ;
+      }
+    }
+
+    tree_ = new KDTree(points_) ;
+  } // ReferenceFront
+
+  public int getNumberOfObjectives() {
+    return numberOfObjectives_ ;
+  } // getNumberOfObjectives
+
+  public int getNumberOfPoints() {
+    return numberOfPoints_ ;
+  } // getNumberOfPoints
+
+  public double [][] getPoints() {
+    return points_ ;
+  } // getPoints
+
+  public double [] getMaximumValues() {
+    return maximumValues_ ;
+  } // getMaximumValues
+
+  public double [] getMinimumValues() {
+    return minimumValues_ ;
+  } // getMinimumValues
+
+  public double [][] getNormalizedPoints() {
+    return normalizedPoints_ ;
+  } // getNormalizedPoints
+
+  public double [] getLexicographicalFirst() {
+    return lexicographicalFirst_ ;
+  } // getLexicographicalFirst
+
+  public double [] getLexicographicalLast() {
+    return lexicographicalLast_ ;
+  } // getLexicographicalLast
+
+  public double [][] getExtremeValues() {
+    return extremeValues_ ;
+  } // getExtremeValues
+
+  /**
+   * Gets the distance between a point and the nearest one of the front. The
+   * result is the same as <code>MetricsUtil.distanceToClosedPoint</code>.
+   * @param point The point
+   * @return The minimum distance between the point and the front
+   */
+  public double distanceToClosestPoint(double [] point) {
+    return tree_.distanceToClosestPoint(point) ;
+  } // distanceToClosestPoint
+} // ReferenceFront
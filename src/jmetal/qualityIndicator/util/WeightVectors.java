@@ -0,0 +1,120 @@
+//  WeightVectors.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.qualityIndicator.util;
+
+import jmetal.util.Configuration;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of weight vectors (used by R2). The vectors of a
+ * simplex lattice or of a file are built the first time they are requested
+ * and then shared, so the arrays returned must not be modified.
+ */
+public class WeightVectors {
+  private static final ConcurrentHashMap<String, double [][]> cache_ =
+      new ConcurrentHashMap<String, double [][]>() ;
+
+  /**
+   * Returns the simplex-lattice weight vectors with the given number of
+   * divisions: every component but the last is a multiple of 1/divisions and
+   * the last one is 1 minus the rest. The vectors are ordered by the first
+   * component, then by the second, and so on.
+   * @param numberOfObjectives Number of components of the vectors
+   * @param divisions Number of divisions of every component
+   */
+  public static double [][] simplexLattice(int numberOfObjectives, int divisions) {
+    String key = "lattice:" + numberOfObjectives + ":" + divisions ;
+    double [][] weights = cache_.get(key) ;
+    if (weights == null) {
+      List<double []> list = new ArrayList<double []>() ;
+      addLatticeVectors(list, new int[numberOfObjectives], 0, divisions, divisions) ;
+      weights = list.toArray(new double[list.size()][]) ;
+      double [][] previous = cache_.putIfAbsent(key, weights) ;
+      if (previous != null)
+        weights = previous ;
+    }
+    return weights ;
+  } // simplexLattice
+
+  /**
+   * Returns the weight vectors of a file, one per line
+   * @param file The file
+   * @param numberOfObjectives Number of components of the vectors
+   * @return The vectors
+   * @throws IllegalArgumentException if the file cannot be read or has a
+   * line with more than numberOfObjectives components
+   */
+  public static double [][] read(String file, int numberOfObjectives) {
+    String key = "file:" + numberOfObjectives + ":" + file ;
+    double [][] weights = cache_.get(key) ;
+    if (weights == null) {
+      try {
+        BufferedReader br = new BufferedReader(new InputStreamReader(
+            new FileInputStream(file))) ;
+        List<double []> list = new ArrayList<double []>() ;
+        String aux = br.readLine() ;
+        while (aux != null) {
+          StringTokenizer st = new StringTokenizer(aux) ;
+          double [] vector = new double[numberOfObjectives] ;
+          int j = 0 ;
+          while (st.hasMoreTokens())
+            vector[j++] = Double.parseDouble(st.nextToken()) ;
+          list.add(vector) ;
+          aux = br.readLine() ;
+        }
+        br.close() ;
+        weights = list.toArray(new double[list.size()][]) ;
+      } catch (Exception e) {
+        Configuration.logger_.severe("WeightVectors.read: the weight vectors " +
+                                     "file " + file + " cannot be read") ;
+        throw new IllegalArgumentException(e) ;
+      }
+      double [][] previous = cache_.putIfAbsent(key, weights) ;
+      if (previous != null)
+        weights = previous ;
+    }
+    return weights ;
+  } // read
+
+  /* adds the vectors whose components from 'objective' on sum 'remaining'
+     divisions */
+  private static void addLatticeVectors(List<double []> list, int [] divisions,
+                                        int objective, int remaining, int total) {
+    if (objective == divisions.length - 1) {
+      double [] vector = new double[divisions.length] ;
+      double sum = 0.0 ;
+      for (int k = 0; k < objective; k++) {
+        vector[k] = 1.0 * divisions[k] / total ;
+        sum += vector[k] ;
+      }
+      vector[objective] = Math.max(1 - sum, 0.0) ;
+      list.add(vector) ;
+    } else {
+      for (int c = 0; c <= remaining; c++) {
+        divisions[objective] = c ;
+        addLatticeVectors(list, divisions, objective + 1, remaining - c, total) ;
+      }
+    }
+  } // addLatticeVectors
+} // WeightVectors
@@ -0,0 +1,371 @@
+//  CrowdingDistanceTruncation.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util;
+
+import jmetal.core.Solution;
+import jmetal.core.SolutionSet;
+import jmetal.util.comparators.CrowdingComparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * This class reduces a front to a given size by removing, one at a time, the
+ * solution with the lowest crowding distance. It produces the same result
+ * (survivors, their order, crowding distances and fitness values) as the loop
+ * <pre>
+ *   while (front.size() > maxSize) {
+ *     front.remove(front.size() - 1);
+ *     distance.crowdingDistanceAssignment(front, numberOfObjectives);
+ *     front.sort(new CrowdingComparator());
+ *   }
+ * </pre>
+ * but, instead of sorting the whole front once per objective after each
+ * removal, it keeps the solutions linked in the order of every objective and
+ * recomputes only the crowding distances of the neighbours of the removed
+ * solution, using an indexed heap to find the next one to remove. Whenever the
+ * result could depend on how ties are broken (repeated objective values,
+ * equal crowding distances) the loop above is applied instead.
+ */
+public class CrowdingDistanceTruncation {
+
+  private static final Comparator<Solution> crowdingComparator_ = new CrowdingComparator();
+
+  private final Distance distance_ = new Distance();
+
+  // Working state of the incremental procedure; solutions are identified by
+  // their position in the front after removing its last solution
+  private double [][] objectives_ ;
+  private int [][] previous_ ;
+  private int [][] next_ ;
+  private double [] range_ ;
+  private double [] crowding_ ;
+  private double [] fitness_ ;
+  private int [] updated_ ;  // number of assignments already applied to fitness_
+  private int [] heap_ ;
+  private int [] position_ ;
+  private int heapSize_ ;
+
+  /**
+   * Constructor
+   */
+  public CrowdingDistanceTruncation() {
+  } // CrowdingDistanceTruncation
+
+  /**
+   * Removes solutions from the front until its size is maxSize
+   * @param front The front, sorted by the <code>CrowdingComparator</code>
+   * @param maxSize Size of the front after the truncation
+   * @param numberOfObjectives Number of objectives
+   */
+  public void execute(SolutionSet front, int maxSize, int numberOfObjectives) {
+    if (front.size() <= maxSize)
+      return ;
+
+    if (!incrementalTruncation(front, maxSize, numberOfObjectives)) {
+      while (front.size() > maxSize) {
+        front.remove(front.size() - 1);
+        distance_.crowdingDistanceAssignment(front, numberOfObjectives);
+        front.sort(crowdingComparator_);
+      }
+    }
+
+    objectives_ = null ;
+    previous_ = null ;
+    next_ = null ;
+    range_ = null ;
+    crowding_ = null ;
+    fitness_ = null ;
+    updated_ = null ;
+    heap_ = null ;
+    position_ = null ;
+  } // execute
+
+  /**
+   * Applies the truncation with incremental updates. The solutions are not
+   * modified unless the result is the same as the one of the loop.
+   * @return false if the loop has to be applied instead
+   */
+  private boolean incrementalTruncation(SolutionSet front, int maxSize,
+                                        int numberOfObjectives) {
+    // The last solution of the front is removed without any computation
+    int size = front.size() - 1 ;
+    if ((maxSize < 3) || (numberOfObjectives < 1))
+      return false ;
+
+    objectives_ = new double[size][numberOfObjectives] ;
+    for (int i = 0; i < size; i++) {
+      Solution solution = front.get(i) ;
+      if (solution.getRank() != front.get(0).getRank())
+        return false ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        objectives_[i][j] = solution.getObjective(j) ;
+        if (Double.isNaN(objectives_[i][j]) || Double.isInfinite(objectives_[i][j]))
+          return false ;
+      }
+    }
+
+    // Link the solutions in the order of every objective
+    previous_ = new int[numberOfObjectives][size] ;
+    next_ = new int[numberOfObjectives][size] ;
+    range_ = new double[numberOfObjectives] ;
+    for (int j = 0; j < numberOfObjectives; j++) {
+      int [] order = sortByObjective(size, j) ;
+      for (int k = 0; k < size; k++) {
+        if ((k > 0) && (objectives_[order[k]][j] == objectives_[order[k - 1]][j]))
+          return false ;
+        previous_[j][order[k]] = (k > 0) ? order[k - 1] : -1 ;
+        next_[j][order[k]] = (k < size - 1) ? order[k + 1] : -1 ;
+      }
+      range_[j] = objectives_[order[size - 1]][j] - objectives_[order[0]][j] ;
+    }
+
+    // First assignment
+    crowding_ = new double[size] ;
+    fitness_ = new double[size] ;
+    updated_ = new int[size] ;
+    for (int i = 0; i < size; i++) {
+      crowding_[i] = crowdingDistance(i) ;
+      fitness_[i] = nextFitness(i, front.get(i).getFitness()) ;
+      updated_[i] = 1 ;
+    }
+    int assignments = 1 ;
+
+    heap_ = new int[size] ;
+    position_ = new int[size] ;
+    heapSize_ = size ;
+    for (int i = 0; i < size; i++) {
+      heap_[i] = i ;
+      position_[i] = i ;
+    }
+    for (int i = size / 2 - 1; i >= 0; i--)
+      siftDown(i) ;
+
+    boolean [] removed = new boolean[size] ;
+    int [] neighbours = new int[2 * numberOfObjectives] ;
+    while (size > maxSize) {
+      int worst = heap_[0] ;
+      if (Double.isInfinite(crowding_[worst]))
+        return false ;
+      for (int child = 1; (child <= 2) && (child < heapSize_); child++)
+        if (crowding_[heap_[child]] == crowding_[worst])
+          return false ;
+
+      // Neighbours of the removed solution; their fitness is brought up to
+      // date before their neighbourhood changes
+      int count = 0 ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        int [] candidates = {previous_[j][worst], next_[j][worst]} ;
+        for (int candidate : candidates) {
+          boolean found = (candidate < 0) ;
+          for (int k = 0; (k < count) && !found; k++)
+            found = (neighbours[k] == candidate) ;
+          if (!found)
+            neighbours[count++] = candidate ;
+        }
+      }
+      for (int k = 0; k < count; k++)
+        updateFitness(neighbours[k], assignments) ;
+      updateFitness(worst, assignments) ;
+
+      removeFromHeap(worst) ;
+      removed[worst] = true ;
+      for (int j = 0; j < numberOfObjectives; j++) {
+        int p = previous_[j][worst] ;
+        int n = next_[j][worst] ;
+        if (p >= 0)
+          next_[j][p] = n ;
+        if (n >= 0)
+          previous_[j][n] = p ;
+      }
+      size-- ;
+      assignments++ ;
+
+      for (int k = 0; k < count; k++) {
+        int neighbour = neighbours[k] ;
+        crowding_[neighbour] = crowdingDistance(neighbour) ;
+        fitness_[neighbour] = nextFitness(neighbour, fitness_[neighbour]) ;
+        updated_[neighbour] = assignments ;
+        siftUp(position_[neighbour]) ;
+        siftDown(position_[neighbour]) ;
+      }
+    }
+
+    // Order of the loop: boundary solutions in their original order, then the
+    // others by decreasing crowding distance
+    int [] survivors = new int[size] ;
+    int infinite = 0 ;
+    for (int i = 0; i < removed.length; i++)
+      if (!removed[i] && Double.isInfinite(crowding_[i]))
+        survivors[infinite++] = i ;
+    int finite = infinite ;
+    for (int i = 0; i < removed.length; i++)
+      if (!removed[i] && !Double.isInfinite(crowding_[i]))
+        survivors[finite++] = i ;
+    double [] keys = new double[size - infinite] ;
+    for (int k = infinite; k < size; k++)
+      keys[k - infinite] = -crowding_[survivors[k]] ;
+    int [] order = sortByKey(keys) ;
+    for (int k = 1; k < order.length; k++)
+      if (keys[order[k]] == keys[order[k - 1]])
+        return false ;
+    int [] finiteSurvivors = Arrays.copyOfRange(survivors, infinite, size) ;
+    for (int k = 0; k < order.length; k++)
+      survivors[infinite + k] = finiteSurvivors[order[k]] ;
+
+    // The removed solutions keep the values of their last assignment
+    for (int i = 0; i < removed.length; i++) {
+      if (!removed[i])
+        updateFitness(i, assignments) ;
+      front.get(i).setCrowdingDistance(crowding_[i]) ;
+      front.get(i).setFitness(fitness_[i]) ;
+    }
+    Solution [] solutions = new Solution[size] ;
+    for (int k = 0; k < size; k++)
+      solutions[k] = front.get(survivors[k]) ;
+    front.clear() ;
+    for (Solution solution : solutions)
+      front.add(solution) ;
+    return true ;
+  } // incrementalTruncation
+
+  /**
+   * Crowding distance of a solution as computed by
+   * <code>Distance.crowdingDistanceAssignment</code>
+   */
+  private double crowdingDistance(int i) {
+    double distance = 0.0 ;
+    for (int j = 0; j < range_.length; j++) {
+      int p = previous_[j][i] ;
+      int n = next_[j][i] ;
+      if ((p < 0) || (n < 0))
+        distance = Double.POSITIVE_INFINITY ;
+      else
+        distance += (objectives_[n][j] - objectives_[p][j]) / range_[j] ;
+    }
+    return distance ;
+  } // crowdingDistance
+
+  /**
+   * Fitness of a solution after one call to
+   * <code>Distance.crowdingDistanceAssignment</code>
+   */
+  private double nextFitness(int i, double fitness) {
+    for (int j = 0; j < range_.length; j++) {
+      int p = previous_[j][i] ;
+      int n = next_[j][i] ;
+      if ((p < 0) || (n < 0))
+        fitness = Double.POSITIVE_INFINITY ;
+      else
+        fitness = fitness + Math.pow(objectives_[n][j] - objectives_[p][j], 2.0) ;
+    }
+    int last = range_.length - 1 ;
+    if ((previous_[last][i] >= 0) && (next_[last][i] >= 0))
+      fitness = Math.sqrt(fitness) / 2.0 ;
+    return fitness ;
+  } // nextFitness
+
+  /**
+   * Applies to the fitness of a solution the assignments it has missed since
+   * its neighbourhood last changed
+   */
+  private void updateFitness(int i, int assignments) {
+    while (updated_[i] < assignments) {
+      double fitness = nextFitness(i, fitness_[i]) ;
+      updated_[i]++ ;
+      if (fitness == fitness_[i])
+        updated_[i] = assignments ;  // fixed point reached
+      fitness_[i] = fitness ;
+    }
+  } // updateFitness
+
+  private int [] sortByObjective(int size, int objective) {
+    double [] keys = new double[size] ;
+    for (int i = 0; i < size; i++)
+      keys[i] = objectives_[i][objective] ;
+    return sortByKey(keys) ;
+  } // sortByObjective
+
+  /**
+   * Returns the indices of the keys in increasing order (stable merge sort)
+   */
+  private int [] sortByKey(double [] keys) {
+    int n = keys.length ;
+    int [] index = new int[n] ;
+    int [] buffer = new int[n] ;
+    for (int i = 0; i < n; i++)
+      index[i] = i ;
+    for (int width = 1; width < n; width *= 2) {
+      for (int low = 0; low < n; low += 2 * width) {
+        int middle = Math.min(low + width, n) ;
+        int high = Math.min(low + 2 * width, n) ;
+        int i = low, j = middle, k = low ;
+        while (i < middle && j < high)
+          buffer[k++] = (keys[index[j]] < keys[index[i]]) ? index[j++] : index[i++] ;
+        while (i < middle)
+          buffer[k++] = index[i++] ;
+        while (j < high)
+          buffer[k++] = index[j++] ;
+      }
+      int [] aux = index ;
+      index = buffer ;
+      buffer = aux ;
+    }
+    return index ;
+  } // sortByKey
+
+  private void removeFromHeap(int i) {
+    int k = position_[i] ;
+    heapSize_-- ;
+    if (k != heapSize_) {
+      int moved = heap_[heapSize_] ;
+      heap_[k] = moved ;
+      position_[moved] = k ;
+      siftUp(k) ;
+      siftDown(position_[moved]) ;
+    }
+  } // removeFromHeap
+
+  private void siftUp(int k) {
+    int i = heap_[k] ;
+    while (k > 0) {
+      int parent = (k - 1) / 2 ;
+      if (crowding_[heap_[parent]] <= crowding_[i])
+        break ;
+      heap_[k] = heap_[parent] ;
+      position_[heap_[k]] = k ;
+      k = parent ;
+    }
+    heap_[k] = i ;
+    position_[i] = k ;
+  } // siftUp
+
+  private void siftDown(int k) {
+    int i = heap_[k] ;
+    while (2 * k + 1 < heapSize_) {
+      int child = 2 * k + 1 ;
+      if ((child + 1 < heapSize_) && (crowding_[heap_[child + 1]] < crowding_[heap_[child]]))
+        child++ ;
+      if (crowding_[i] <= crowding_[heap_[child]])
+        break ;
+      heap_[k] = heap_[child] ;
+      position_[heap_[k]] = k ;
+      k = child ;
+    }
+    heap_[k] = i ;
+    position_[i] = k ;
+  } // siftDown
+} // CrowdingDistanceTruncation
@@ -31,6 +31,12 @@ public class PseudoRandom  {
    */
   private static IRandomGenerator random_ = null;
   private static RandomGenerator defaultGenerator_ = new RandomGenerator() ;
+
+  /**
+   * generator of the current thread, if any; it takes precedence over random_
+   */
+  private static final ThreadLocal<IRandomGenerator> threadRandom_ =
+      new ThreadLocal<IRandomGenerator>() ;
                
   /** 
    * Constructor.
@@ -46,16 +52,51 @@ public class PseudoRandom  {
   public static void setRandomGenerator(IRandomGenerator generator) {
   	random_ = generator ;
   }
+
+  /**
+   * Sets the generator used by the current thread, so that independent runs
+   * executed in parallel draw from their own streams. A null generator makes
+   * the thread use the shared one again.
+   * @param generator The generator of the current thread
+   */
+  public static void setThreadRandomGenerator(IRandomGenerator generator) {
+    if (generator == null)
+      threadRandom_.remove() ;
+    else
+      threadRandom_.set(generator) ;
+  } // setThreadRandomGenerator
+
+  /**
+   * Returns the generator set for the current thread, or null if the thread
+   * uses the shared one. Classes having their own generators (e.g.
+   * <code>StdRandom</code>) draw from it when it is set, so that all the
+   * random numbers of a run come from its stream.
+   */
+  public static IRandomGenerator getThreadRandomGenerator() {
+    return threadRandom_.get() ;
+  } // getThreadRandomGenerator
+
+  /**
+   * Returns the generator of the current thread, or the shared one. Code
+   * drawing many numbers in a loop can obtain it once instead of paying the
+   * thread lookup on every number.
+   */
+  public static IRandomGenerator getRandomGenerator() {
+    IRandomGenerator generator = threadRandom_.get() ;
+    if (generator != null)
+      return generator ;
+    if (random_ == null) {
+      random_ = defaultGenerator_ ;
+    }
+    return random_ ;
+  } // getRandomGenerator
   
   /** 
    * Returns a random int value using the Java random generator.
    * @return A random int value.
    */
   public static int randInt() {
-    if (random_ == null) {
-      random_ = defaultGenerator_ ;
-    }
-    return random_.nextInt(Integer.MAX_VALUE);
+    return getRandomGenerator().nextInt(Integer.MAX_VALUE);
   } // randInt
     
   /** 
@@ -63,11 +104,8 @@ public class PseudoRandom  {
    * Returns A random double value.
    */
   public static double randDouble() {
-    if (random_ == null) {
-      random_ = defaultGenerator_ ;
-    }
     //return random_.rndReal(0.0,1.0);
-    return random_.nextDouble();
+    return getRandomGenerator().nextDouble();
     //return randomJava.nextDouble();
   } // randDouble
     
@@ -79,10 +117,7 @@ public class PseudoRandom  {
    * Return A pseudo random int value between minBound and maxBound.
    */
   public static int randInt(int minBound, int maxBound) {
-    if (random_ == null) {
-      random_ = defaultGenerator_ ;
-    }
-    return minBound + random_.nextInt(maxBound-minBound);
+    return minBound + getRandomGenerator().nextInt(maxBound-minBound);
     //return minBound + randomJava.nextInt(maxBound-minBound+1);
   } // randInt
     
@@ -93,10 +128,7 @@ public class PseudoRandom  {
    * @return A pseudo random double value between minBound and maxBound
    */
   public static double randDouble(double minBound, double maxBound) {
-    if (random_ == null) {
-      random_ = defaultGenerator_ ;
-    }
-    return minBound + random_.nextDouble() * (maxBound-minBound);
+    return minBound + getRandomGenerator().nextDouble() * (maxBound-minBound);
     //return minBound + (maxBound - minBound)*randomJava.nextDouble();
   } // randDouble    
 } // PseudoRandom
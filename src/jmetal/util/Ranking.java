@@ -22,13 +22,11 @@
 package jmetal.util;
 
 import jmetal.core.SolutionSet;
-import jmetal.util.comparators.DominanceComparator;
-import jmetal.util.comparators.OverallConstraintViolationComparator;
+import jmetal.util.ranking.DivideAndConquerRankingEngine;
+import jmetal.util.ranking.IRankingEngine;
+import jmetal.util.ranking.SweepLineRankingEngine;
 
-import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * This class implements some facilities for ranking solutions.
@@ -38,6 +36,11 @@ import java.util.List;
  * numbering starts from 1); thus, subset 0 contains the non-dominated 
  * solutions, subset 1 contains the non-dominated solutions after removing those
  * belonging to subset 0, and so on.
+ * The fronts of the feasible solutions are computed by an
+ * <code>IRankingEngine</code>; by default a sweep for two objectives and the
+ * divide-and-conquer algorithm of Jensen for more. The subsets contain the
+ * same solutions, in the same order, as the fast non-dominated sorting of
+ * NSGA-II with the <code>OverallConstraintViolationComparator</code>.
  */
 public class Ranking {
   
@@ -50,136 +53,289 @@ public class Ranking {
    * An array containing all the fronts found during the search
    */
   private SolutionSet[] ranking_  ;
-  
+
   /**
-   * stores a <code>Comparator</code> for dominance checking
+   * Objective values of the solutions
    */
-  private static final Comparator dominance_ = new DominanceComparator();
-  
+  private double [][] objectives_ ;
+
   /**
-   * stores a <code>Comparator</code> for Overal Constraint Violation Comparator
-   * checking
+   * Overall constraint violation of the solutions
    */
-  private static final Comparator constraint_ = new OverallConstraintViolationComparator();
+  private double [] violation_ ;
     
   /** 
    * Constructor.
    * @param solutionSet The <code>SolutionSet</code> to be ranked.
    */       
   public Ranking(SolutionSet solutionSet) {        
+    this(solutionSet, null) ;
+  } // Ranking
+
+  /** 
+   * Constructor.
+   * @param solutionSet The <code>SolutionSet</code> to be ranked.
+   * @param engine The non-dominated sorting algorithm applied to the feasible
+   * solutions; if null, the default one for the number of objectives is used
+   */       
+  public Ranking(SolutionSet solutionSet, IRankingEngine engine) {        
     solutionSet_ = solutionSet ;
+    int size = solutionSet_.size() ;
+    if (size == 0) {
+      ranking_ = new SolutionSet[0] ;
+      return ;
+    }
 
-    // dominateMe[i] contains the number of solutions dominating i        
-    int [] dominateMe = new int[solutionSet_.size()];
-
-    // iDominate[k] contains the list of solutions dominated by k
-    List<Integer> [] iDominate = new List[solutionSet_.size()];
-
-    // front[i] contains the list of individuals belonging to the front i
-    List<Integer> [] front = new List[solutionSet_.size()+1];
-        
-    // flagDominate is an auxiliar encodings.variable
-    int flagDominate;    
-
-    // Initialize the fronts 
-    for (int i = 0; i < front.length; i++)
-      front[i] = new LinkedList<Integer>();
-        
-    /*
-    //-> Fast non dominated sorting algorithm
-    for (int p = 0; p < solutionSet_.size(); p++) {
-    // Initialice the list of individuals that i dominate and the number
-    // of individuals that dominate me
-      iDominate[p] = new LinkedList<Integer>();
-      dominateMe[p] = 0;            
-      // For all q individuals , calculate if p dominates q or vice versa
-      for (int q = 0; q < solutionSet_.size(); q++) {
-        flagDominate =constraint_.compare(solutionSet.get(p),solutionSet.get(q));
-        if (flagDominate == 0) {
-          flagDominate =dominance_.compare(solutionSet.get(p),solutionSet.get(q));                                
-        }
-        
-        if (flagDominate == -1) {
-          iDominate[p].add(new Integer(q));
-        } else if (flagDominate == 1) {
-                    dominateMe[p]++;   
+    int numberOfObjectives = solutionSet_.get(0).getNumberOfObjectives() ;
+    objectives_ = new double[size][] ;
+    violation_ = new double[size] ;
+    int feasible = 0 ;
+    boolean positiveViolation = false ;
+    for (int i = 0; i < size; i++) {
+      objectives_[i] = new double[numberOfObjectives] ;
+      for (int j = 0; j < numberOfObjectives; j++)
+        objectives_[i][j] = solutionSet_.get(i).getObjective(j) ;
+      violation_[i] = solutionSet_.get(i).getOverallConstraintViolation() ;
+      if (!(violation_[i] < 0))
+        feasible++ ;
+      if (!(violation_[i] <= 0))
+        positiveViolation = true ;
+    }
+
+    if (positiveViolation && (feasible < size)) {
+      // Positive violation values are not handled by the decomposition below
+      rankByComparators() ;
+    } else {
+      if (engine == null)
+        engine = getDefaultEngine(numberOfObjectives) ;
+      // rank[i] contains the front of solution i
+      int [] rank = new int[size] ;
+      int numberOfFronts = rankWithConstraints(engine, feasible, rank) ;
+      buildFronts(rank, numberOfFronts) ;
+    }
+    objectives_ = null ;
+    violation_ = null ;
+  } // Ranking
+
+  /**
+   * Returns the ranking algorithm used by default
+   * @param numberOfObjectives Number of objectives of the problem
+   */
+  public static IRankingEngine getDefaultEngine(int numberOfObjectives) {
+    if (numberOfObjectives == 2)
+      return new SweepLineRankingEngine() ;
+    else
+      return new DivideAndConquerRankingEngine() ;
+  } // getDefaultEngine
+
+  /**
+   * Ranks the solutions when every overall constraint violation is 0 or
+   * negative. The feasible solutions are ranked by the engine; the infeasible
+   * ones are dominated by all of them and ordered by their violation, so that
+   * solutions with the same violation share a front.
+   * @return the number of fronts
+   */
+  private int rankWithConstraints(IRankingEngine engine, int feasible, int [] rank) {
+    int size = rank.length ;
+    int numberOfFronts = 0 ;
+
+    if (feasible == size) {
+      numberOfFronts = engine.computeRanking(objectives_, rank) ;
+    } else if (feasible > 0) {
+      double [][] points = new double[feasible][] ;
+      int [] index = new int[feasible] ;
+      int n = 0 ;
+      for (int i = 0; i < size; i++) {
+        if (!(violation_[i] < 0)) {
+          index[n] = i ;
+          points[n++] = objectives_[i] ;
         }
       }
-            
-      // If nobody dominates p, p belongs to the first front
-      if (dominateMe[p] == 0) {
-        front[0].add(new Integer(p));
-        solutionSet.get(p).setRank(0);
-      }            
+      int [] feasibleRank = new int[feasible] ;
+      numberOfFronts = engine.computeRanking(points, feasibleRank) ;
+      for (int i = 0; i < feasible; i++)
+        rank[index[i]] = feasibleRank[i] ;
     }
-    */
-    
-    //-> Fast non dominated sorting algorithm
-    // Contribution of Guillaume Jacquenot
-    for (int p = 0; p < solutionSet_.size(); p++) {
-    // Initialize the list of individuals that i dominate and the number
-    // of individuals that dominate me
-      iDominate[p] = new LinkedList<Integer>();
-      dominateMe[p] = 0;
+
+    if (feasible < size) {
+      // Distinct violation values, from the lowest violation to the highest
+      double [] levels = new double[size - feasible] ;
+      int n = 0 ;
+      for (int i = 0; i < size; i++)
+        if (violation_[i] < 0)
+          levels[n++] = -violation_[i] ;
+      Arrays.sort(levels) ;
+      int numberOfLevels = 0 ;
+      for (int i = 0; i < levels.length; i++)
+        if ((i == 0) || (levels[i] != levels[numberOfLevels - 1]))
+          levels[numberOfLevels++] = levels[i] ;
+      for (int i = 0; i < size; i++)
+        if (violation_[i] < 0)
+          rank[i] = numberOfFronts +
+            Arrays.binarySearch(levels, 0, numberOfLevels, -violation_[i]) ;
+      numberOfFronts += numberOfLevels ;
     }
-    for (int p = 0; p < (solutionSet_.size()-1); p++) {
-      // For all q individuals , calculate if p dominates q or vice versa
-      for (int q = p+1; q < solutionSet_.size(); q++) {
-        flagDominate =constraint_.compare(solutionSet.get(p),solutionSet.get(q));
-        if (flagDominate == 0) {
-          flagDominate =dominance_.compare(solutionSet.get(p),solutionSet.get(q));
-        }
-        if (flagDominate == -1)
-        {
-          iDominate[p].add(q);
-          dominateMe[q]++;
-        }
-        else if (flagDominate == 1)
-        {
-          iDominate[q].add(p);
-          dominateMe[p]++;
+    return numberOfFronts ;
+  } // rankWithConstraints
+
+  /**
+   * Fast non-dominated sorting of NSGA-II, applying the same comparisons as
+   * the <code>OverallConstraintViolationComparator</code> followed by the
+   * <code>DominanceComparator</code>. The subsets are built directly.
+   */
+  private void rankByComparators() {
+    int size = objectives_.length ;
+
+    // dominateMe[i] contains the number of solutions dominating i
+    int [] dominateMe = new int[size] ;
+    // the pairs (dominator[k], dominated[k]) found while comparing
+    int [] dominator = new int[size] ;
+    int [] dominated = new int[size] ;
+    int pairs = 0 ;
+    for (int p = 0; p < size - 1; p++) {
+      for (int q = p + 1; q < size; q++) {
+        int winner = dominates(p, q) ? p : (dominates(q, p) ? q : -1) ;
+        if (winner >= 0) {
+          if (pairs == dominator.length) {
+            dominator = Arrays.copyOf(dominator, 2 * pairs) ;
+            dominated = Arrays.copyOf(dominated, 2 * pairs) ;
+          }
+          dominator[pairs] = winner ;
+          dominated[pairs] = (winner == p) ? q : p ;
+          dominateMe[dominated[pairs]]++ ;
+          pairs++ ;
         }
       }
-      // If nobody dominates p, p belongs to the first front
     }
-    for (int p = 0; p < solutionSet_.size(); p++) {
+
+    // iDominate[first[p]..first[p+1]-1] contains the solutions dominated by p,
+    // in increasing index order
+    int [] first = new int[size + 1] ;
+    for (int k = 0; k < pairs; k++)
+      first[dominator[k] + 1]++ ;
+    for (int p = 0; p < size; p++)
+      first[p + 1] += first[p] ;
+    int [] iDominate = new int[pairs] ;
+    int [] next = Arrays.copyOf(first, size) ;
+    for (int k = 0; k < pairs; k++)
+      iDominate[next[dominator[k]]++] = dominated[k] ;
+
+    // the fronts are stored consecutively in order; start[f] is where front f begins
+    int [] order = new int[size] ;
+    int [] start = new int[size + 1] ;
+    int length = 0 ;
+    for (int p = 0; p < size; p++) {
       if (dominateMe[p] == 0) {
-        front[0].add(p);
-        solutionSet.get(p).setRank(0);
+        order[length++] = p ;
+        solutionSet_.get(p).setRank(0) ;
       }
-    }    
-    
-    //Obtain the rest of fronts
-    int i = 0;
-    Iterator<Integer> it1, it2 ; // Iterators
-    while (front[i].size()!= 0) {
-      i++;
-      it1 = front[i-1].iterator();
-      while (it1.hasNext()) {
-        it2 = iDominate[it1.next()].iterator();
-        while (it2.hasNext()) {
-          int index = it2.next();
-          dominateMe[index]--;
-          if (dominateMe[index]==0) {
-            front[i].add(index);
-            solutionSet_.get(index).setRank(i);
+    }
+    int fronts = 0 ;
+    start[1] = length ;
+    while (start[fronts + 1] > start[fronts]) {
+      fronts++ ;
+      for (int k = start[fronts - 1]; k < start[fronts]; k++) {
+        int p = order[k] ;
+        for (int j = first[p]; j < first[p + 1]; j++) {
+          int q = iDominate[j] ;
+          dominateMe[q]-- ;
+          if (dominateMe[q] == 0) {
+            order[length++] = q ;
+            solutionSet_.get(q).setRank(fronts) ;
           }
         }
       }
+      start[fronts + 1] = length ;
+    }
+
+    ranking_ = new SolutionSet[fronts] ;
+    for (int f = 0; f < fronts; f++) {
+      ranking_[f] = new SolutionSet(start[f + 1] - start[f]) ;
+      for (int k = start[f]; k < start[f + 1]; k++)
+        ranking_[f].add(solutionSet_.get(order[k])) ;
     }
-    //<-
-        
-    ranking_ = new SolutionSet[i];
-    //0,1,2,....,i-1 are front, then i fronts
-    for (int j = 0; j < i; j++) {
-      ranking_[j] = new SolutionSet(front[j].size());
-      it1 = front[j].iterator();
-      while (it1.hasNext()) {
-                ranking_[j].add(solutionSet.get(it1.next()));
+  } // rankByComparators
+
+  /**
+   * Returns true if solution p dominates solution q, according to the
+   * <code>OverallConstraintViolationComparator</code> and the
+   * <code>DominanceComparator</code>
+   */
+  private boolean dominates(int p, int q) {
+    double violation1 = violation_[p] ;
+    double violation2 = violation_[q] ;
+    if ((violation1 < 0) || (violation2 < 0)) {
+      if ((violation1 < 0) && (violation2 < 0))
+        return violation1 > violation2 ;
+      else if ((violation1 == 0) && (violation2 < 0))
+        return true ;
+      else
+        return false ;
+    }
+
+    boolean better = false ;
+    double [] point1 = objectives_[p] ;
+    double [] point2 = objectives_[q] ;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i])
+        return false ;
+      if (point1[i] < point2[i])
+        better = true ;
+    }
+    return better ;
+  } // dominates
+
+  /**
+   * Builds the subsets. The order of the solutions in each of them is the
+   * order in which the fast non-dominated sorting of NSGA-II discovers them:
+   * front 0 in index order, and the solutions of front i sorted by the
+   * position in front i-1 of their last dominator there, then by index.
+   */
+  private void buildFronts(int [] rank, int numberOfFronts) {
+    int size = rank.length ;
+
+    // members of front f are stored in order[start[f]..start[f+1]-1]
+    int [] start = new int[numberOfFronts + 1] ;
+    for (int i = 0; i < size; i++)
+      start[rank[i] + 1]++ ;
+    for (int f = 0; f < numberOfFronts; f++)
+      start[f + 1] += start[f] ;
+    int [] order = new int[size] ;
+    int [] next = Arrays.copyOf(start, numberOfFronts) ;
+    for (int i = 0; i < size; i++)
+      order[next[rank[i]]++] = i ;
+
+    // Every solution of an infeasible front is dominated by all those of the
+    // previous front, so the infeasible fronts keep the index order
+    DivideAndConquerRankingEngine engine = new DivideAndConquerRankingEngine() ;
+    long [] key = new long[size] ;
+    int [] last = new int[size] ;
+    for (int f = 1; (f < numberOfFronts) && !(violation_[order[start[f]]] < 0); f++) {
+      double [][] previous = new double[start[f] - start[f - 1]][] ;
+      for (int k = start[f - 1]; k < start[f]; k++)
+        previous[k - start[f - 1]] = objectives_[order[k]] ;
+      int length = start[f + 1] - start[f] ;
+      double [][] front = new double[length][] ;
+      for (int k = 0; k < length; k++)
+        front[k] = objectives_[order[start[f] + k]] ;
+
+      engine.findLastDominators(previous, front, last) ;
+      for (int k = 0; k < length; k++)
+        key[k] = (long)(last[k] + 1) * size + order[start[f] + k] ;
+      Arrays.sort(key, 0, length) ;
+      for (int k = 0; k < length; k++)
+        order[start[f] + k] = (int)(key[k] % size) ;
+    }
+
+    ranking_ = new SolutionSet[numberOfFronts] ;
+    for (int f = 0; f < numberOfFronts; f++) {
+      ranking_[f] = new SolutionSet(start[f + 1] - start[f]) ;
+      for (int k = start[f]; k < start[f + 1]; k++) {
+        solutionSet_.get(order[k]).setRank(f) ;
+        ranking_[f].add(solutionSet_.get(order[k])) ;
       }
     }
-    
-  } // Ranking
+  } // buildFronts
 
   /**
    * Returns a <code>SolutionSet</code> containing the solutions of a given rank. 
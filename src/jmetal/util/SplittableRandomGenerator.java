@@ -0,0 +1,96 @@
+//  SplittableRandomGenerator.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.util;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random number generator meant to be used as the stream of a single thread
+ * or run (see <code>PseudoRandom.setThreadRandomGenerator</code>). It is not
+ * synchronized, so drawing numbers does not cause contention, and it must not
+ * be shared between threads; <code>split</code> creates an independent
+ * generator for another thread.
+ *
+ * Seeds of parallel runs are derived from a master seed with
+ * <code>deriveSeed</code>, e.g. the stream of run r of problem p is
+ * <code>new SplittableRandomGenerator(deriveSeed(deriveSeed(seed, p), r))</code>.
+ * The derived seeds depend only on the master seed and the indices, so the
+ * results do not depend on the number of threads or on the order in which
+ * the runs are scheduled.
+ *
+ * <code>nextInt</code> includes the upper bound, as
+ * <code>RandomGenerator</code> does, because <code>PseudoRandom.randInt</code>
+ * relies on it.
+ */
+public class SplittableRandomGenerator implements IRandomGenerator {
+  private SplittableRandom random_ ;
+
+  /**
+   * Constructor
+   * @param seed Seed of the stream
+   */
+  public SplittableRandomGenerator(long seed) {
+    random_ = new SplittableRandom(seed) ;
+  } // SplittableRandomGenerator
+
+  private SplittableRandomGenerator(SplittableRandom random) {
+    random_ = random ;
+  } // SplittableRandomGenerator
+
+  /**
+   * Returns a new generator whose stream is independent of this one; the
+   * state of this generator is advanced
+   */
+  public SplittableRandomGenerator split() {
+    return new SplittableRandomGenerator(random_.split()) ;
+  } // split
+
+  /**
+   * Returns a random int between 0 and upperBound, both included; 0 if
+   * upperBound is not positive
+   */
+  public int nextInt(int upperBound) {
+    if (upperBound <= 0)
+      return 0 ;
+    if (upperBound == Integer.MAX_VALUE)
+      return random_.nextInt() >>> 1 ;
+    return random_.nextInt(upperBound + 1) ;
+  } // nextInt
+
+  /**
+   * Returns a random double in [0, 1)
+   */
+  public double nextDouble() {
+    return random_.nextDouble() ;
+  } // nextDouble
+
+  /**
+   * Derives the seed of a stream from a master seed and the index of the
+   * stream, scrambling them with the SplitMix64 finalizer so that close seeds
+   * or indices give unrelated streams. It can be applied repeatedly to derive
+   * seeds from several indices.
+   * @param seed Master seed
+   * @param index Index of the stream
+   * @return The seed of the stream
+   */
+  public static long deriveSeed(long seed, long index) {
+    long z = seed + (index + 1) * 0x9E3779B97F4A7C15L ;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L ;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL ;
+    return z ^ (z >>> 31) ;
+  } // deriveSeed
+} // SplittableRandomGenerator
@@ -1,4 +1,4 @@
-﻿package jmetal.util;
+package jmetal.util;
 
 import java.util.Random;
 
@@ -46,6 +46,10 @@ public final class StdRandom {
      * 返回一个随机的范围在[0,1)之间的double类型的数
      */
     public static double uniform() {
+        // 若当前线程设置了随机数流(PseudoRandom.setThreadRandomGenerator)，则使用该流
+        IRandomGenerator generator = PseudoRandom.getThreadRandomGenerator();
+        if (generator != null)
+            return generator.nextDouble();
         return random.nextDouble();
     }
 
@@ -53,6 +57,12 @@ public final class StdRandom {
      * 返回一个随机的范围在[0,N)之间的int类型的数
      */
     public static int uniform(int N) {
+        IRandomGenerator generator = PseudoRandom.getThreadRandomGenerator();
+        if (generator != null) {
+            if (N <= 0)
+                throw new IllegalArgumentException("N must be positive");
+            return generator.nextInt(N - 1);
+        }
         return random.nextInt(N);
     }
 
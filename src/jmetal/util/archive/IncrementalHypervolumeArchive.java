@@ -0,0 +1,552 @@
+//  IncrementalHypervolumeArchive.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+
+package jmetal.util.archive;
+
+import jmetal.core.Solution;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Front;
+import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
+import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
+import jmetal.util.avl.AvlNode;
+import jmetal.util.avl.AvlTree;
+import jmetal.util.comparators.DominanceComparator;
+import jmetal.util.comparators.EqualSolutions;
+
+import java.util.*;
+
+/**
+ * Bounded archive making the same selections as
+ * <code>WFGHypervolumeArchive</code>, but keeping the hypervolume
+ * contributions of its members up to date instead of recomputing all of them
+ * each time the archive overflows.
+ * <p>
+ * <code>WFGHV.getLessContributorHV</code> measures, for every member, the
+ * volume it dominates that is not dominated by the members stored after it.
+ * With two objectives that volume only depends on the closest later member on
+ * each side in the first objective, so the members are kept sorted in an
+ * <code>AvlTree</code>, an insertion or a deletion only updates the members
+ * whose closest later neighbours change, and the least contributor is taken
+ * from the contributions kept sorted. With three objectives the dominated bit
+ * of every member is stored, it is only rebuilt (sweeping the third
+ * objective) when the inserted or deleted member takes part in it, and its
+ * volume is computed by <code>WFGHV</code>. Other numbers of objectives, and
+ * two objective archives holding unfeasible solutions, are handled by
+ * <code>WFGHV</code> as in <code>WFGHypervolumeArchive</code>.
+ */
+public class IncrementalHypervolumeArchive extends Archive {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Stores the maximum size of the archive.
+   */
+  private int maxSize_;
+
+  /**
+   * stores the number of the objectives.
+   */
+  private int objectives_;
+
+  /**
+   * Stores a <code>Comparator</code> for dominance checking.
+   */
+  private DominanceComparator dominance_;
+
+  /**
+   * Stores a <code>Comparator</code> for equality checking (in the objective
+   * space).
+   */
+  private EqualSolutions equals_;
+
+  /**
+   * Members of the archive, in the same order as the solutions.
+   */
+  private List<Entry> entries_;
+
+  /**
+   * Order assigned to the next member.
+   */
+  private long order_;
+
+  /**
+   * Number of members violating some constraint.
+   */
+  private int unfeasible_;
+
+  /**
+   * Reference point the contributions have been computed with, or null.
+   */
+  private double[] reference_;
+
+  // Two objectives
+  private AvlTree<Entry> tree_;
+  private TreeSet<Entry> contributions_;
+  private Entry head_;
+  private Entry tail_;
+  private boolean sorted_;
+
+  // Three objectives
+  private WFGHV wfg_;
+  private int wfgCapacity_;
+  private Front bit_;
+
+  /**
+   * Constructor.
+   * @param maxSize The maximum size of the archive.
+   * @param numberOfObjectives The number of objectives.
+   */
+  public IncrementalHypervolumeArchive(int maxSize, int numberOfObjectives) {
+    super(maxSize);
+    maxSize_       = maxSize;
+    objectives_    = numberOfObjectives;
+    dominance_     = new DominanceComparator();
+    equals_        = new EqualSolutions();
+    entries_       = new ArrayList<Entry>();
+    contributions_ = new TreeSet<Entry>(new Comparator<Entry>() {
+      public int compare(Entry entry1, Entry entry2) {
+        int result = Double.compare(entry1.contribution_, entry2.contribution_);
+        if (result == 0)
+          result = (entry1.order_ < entry2.order_) ? -1 : ((entry1.order_ > entry2.order_) ? 1 : 0);
+        return result;
+      }
+    });
+    bit_           = new Front();
+    clearEntries();
+  } // IncrementalHypervolumeArchive
+
+  /**
+   * Adds a <code>Solution</code> to the archive. If the <code>Solution</code>
+   * is dominated by any member of the archive, then it is discarded. If the
+   * <code>Solution</code> dominates some members of the archive, these are
+   * removed. If the archive is full and the <code>Solution</code> has to be
+   * inserted, the member contributing the least hypervolume is removed.
+   * @param solution The <code>Solution</code>
+   * @return true if the <code>Solution</code> has been inserted, false
+   * otherwise.
+   */
+  public boolean add(Solution solution) {
+    int flag = 0;
+    int i = 0;
+    Solution aux; //Store an solution temporally
+
+    synchronise();
+    while (i < solutionsList_.size()) {
+      aux = solutionsList_.get(i);
+
+      flag = dominance_.compare(solution, aux);
+      if (flag == 1) {               // The solution to add is dominated
+        return false;                // Discard the new solution
+      } else if (flag == -1) {       // A solution in the archive is dominated
+        removeEntry(i);              // Remove it from the population
+      } else {
+        if (equals_.compare(aux, solution) == 0) { // There is an equal solution
+                                                   // in the population
+          return false; // Discard the new solution
+        }  // if
+        i++;
+      }
+    }
+    // Insert the solution into the archive
+    solutionsList_.add(solution);
+    addEntry(solution);
+    if (size() > maxSize_) { // The archive is full
+      removeEntry(getLessContributor());
+    }
+    return true;
+  } // add
+
+  /**
+   * Stores the hypervolume contribution of each member as its crowding
+   * distance, as <code>WFGHypervolumeArchive.computeHVContribution</code>
+   * does.
+   */
+  public void computeHVContribution() {
+    synchronise();
+    if (size() > 0)
+      getLessContributor();
+  } // computeHVContribution
+
+  /**
+   * Returns the index of the member contributing the least hypervolume, the
+   * first one in case of ties, and stores the contributions as crowding
+   * distances.
+   */
+  private int getLessContributor() {
+    double[] reference = getReferencePoint();
+
+    if ((objectives_ == 2) && (unfeasible_ == 0) && sorted_) {
+      if (!Arrays.equals(reference, reference_)) {
+        reference_ = reference;
+        contributions_.clear();
+        for (Entry entry : entries_)
+          update(entry);
+      }
+      return entries_.indexOf(contributions_.first());
+    } else if (objectives_ == 3) {
+      if (!Arrays.equals(reference, reference_)) {
+        reference_ = reference;
+        wfg_ = null;
+        for (Entry entry : entries_)
+          entry.valid_ = false;
+      }
+      int index = 0;
+      double contribution = Double.POSITIVE_INFINITY;
+      for (int i = 0; i < entries_.size(); i++) {
+        Entry entry = entries_.get(i);
+        if (!entry.valid_) {
+          entry.contribution_ = getContribution3D(entry);
+          entry.valid_ = true;
+        }
+        if (entry.contribution_ < contribution) {
+          index = i;
+          contribution = entry.contribution_;
+        }
+        entry.solution_.setCrowdingDistance(entry.contribution_);
+      }
+      return index;
+    } else {
+      WFGHV wfg = new WFGHV(objectives_, Math.max(size(), 3), new Point(reference));
+      return wfg.getLessContributorHV(this);
+    }
+  } // getLessContributor
+
+  /**
+   * Computes the reference point exactly as <code>WFGHypervolumeArchive</code>
+   * does: every component becomes 1.0 as soon as a member other than the
+   * first one exceeds it.
+   */
+  private double[] getReferencePoint() {
+    double[] vector = new double[objectives_];
+    vector[0] = solutionsList_.get(0).getObjective(objectives_ - 1);
+
+    if ((objectives_ == 2) && (unfeasible_ == 0) && sorted_) {
+      Entry first = entries_.get(0);
+      Entry right = (tail_ != first) ? tail_ : tail_.previous_;
+      Entry left  = (head_ != first) ? head_ : head_.next_;
+      if ((right != null) && (right.point_[0] > vector[0]))
+        vector[0] = 1.0;
+      if ((left != null) && (left.point_[1] > vector[1]))
+        vector[1] = 1.0;
+    } else {
+      for (int j = 1; j < size(); j++) {
+        for (int o = 0; o < objectives_; o++) {
+          if (get(j).getObjective(o) > vector[o]) {
+            vector[o] = 1.0;
+          }
+        }
+      }
+    }
+    return vector;
+  } // getReferencePoint
+
+  /**
+   * Rebuilds the members if the solutions have been changed without calling
+   * <code>add</code> (e.g., sorted or removed directly).
+   */
+  private void synchronise() {
+    boolean synchronised = (entries_.size() == solutionsList_.size());
+    for (int i = 0; synchronised && (i < entries_.size()); i++)
+      synchronised = (entries_.get(i).solution_ == solutionsList_.get(i));
+
+    if (!synchronised) {
+      clearEntries();
+      for (Solution solution : solutionsList_)
+        addEntry(solution);
+
+      if (objectives_ == 2) {
+        for (Entry entry = head_; (entry != null) && (entry.next_ != null); entry = entry.next_) {
+          if (!(entry.point_[0] < entry.next_.point_[0]) || !(entry.point_[1] > entry.next_.point_[1]))
+            sorted_ = false;
+        }
+      }
+    }
+  } // synchronise
+
+  private void clearEntries() {
+    entries_.clear();
+    contributions_.clear();
+    tree_ = new AvlTree<Entry>(new Comparator<Entry>() {
+      public int compare(Entry entry1, Entry entry2) {
+        for (int i = 0; i < entry1.point_.length; i++) {
+          if (entry1.point_[i] < entry2.point_[i])
+            return -1;
+          else if (entry1.point_[i] > entry2.point_[i])
+            return 1;
+        }
+        return (entry1.order_ < entry2.order_) ? -1 : ((entry1.order_ > entry2.order_) ? 1 : 0);
+      }
+    });
+    head_       = null;
+    tail_       = null;
+    sorted_     = true;
+    reference_  = null;
+    unfeasible_ = 0;
+    order_      = 0;
+  } // clearEntries
+
+  /**
+   * Registers a solution just appended to the archive.
+   */
+  private void addEntry(Solution solution) {
+    Entry entry = new Entry(solution, objectives_, order_++);
+    entries_.add(entry);
+    if (solution.getOverallConstraintViolation() < 0)
+      unfeasible_++;
+
+    if (objectives_ == 2) {
+      AvlNode<Entry> node = new AvlNode<Entry>(entry);
+      tree_.insertAvlNode(node);
+      AvlNode<Entry> previous = tree_.findPredecessor(node);
+      AvlNode<Entry> next = tree_.findSuccessor(node);
+      entry.previous_ = (previous != null) ? previous.getItem() : null;
+      entry.next_ = (next != null) ? next.getItem() : null;
+      if (entry.previous_ != null)
+        entry.previous_.next_ = entry;
+      else
+        head_ = entry;
+      if (entry.next_ != null)
+        entry.next_.previous_ = entry;
+      else
+        tail_ = entry;
+
+      // The new member is the closest later one of the members it is
+      // inserted between and of the later members chained from them
+      for (Entry e = entry.previous_; e != null; e = e.leftLater_) {
+        e.rightLater_ = entry;
+        update(e);
+      }
+      for (Entry e = entry.next_; e != null; e = e.rightLater_) {
+        e.leftLater_ = entry;
+        update(e);
+      }
+      update(entry);
+    } else if (objectives_ == 3) {
+      for (int i = 0; i < entries_.size() - 1; i++) {
+        Entry e = entries_.get(i);
+        double[] q = worse(e.point_, entry.point_);
+        if (!isCovered(q, e)) {
+          int n = 0;
+          for (int j = 0; j < e.bitSize_; j++) {
+            if (!covers(q, e.bit_[j].objectives_))
+              e.bit_[n++] = e.bit_[j];
+          }
+          if (n == e.bit_.length)
+            e.bit_ = Arrays.copyOf(e.bit_, 2 * n + 1);
+          e.bit_[n++] = new Point(q);
+          e.bitSize_ = n;
+          e.valid_ = false;
+        }
+      }
+    }
+  } // addEntry
+
+  /**
+   * Removes the solution at a given position, and its member.
+   */
+  private void removeEntry(int index) {
+    Entry entry = entries_.remove(index);
+    solutionsList_.remove(index);
+    if (entry.solution_.getOverallConstraintViolation() < 0)
+      unfeasible_--;
+
+    if (objectives_ == 2) {
+      contributions_.remove(entry);
+
+      // Members whose closest later member on the right was the removed one
+      Entry right = entry.next_;
+      for (Entry e = entry.previous_; (e != null) && (e.order_ < entry.order_); e = e.leftLater_) {
+        while ((right != null) && (right.order_ < e.order_))
+          right = right.rightLater_;
+        e.rightLater_ = right;
+        update(e);
+      }
+      // Members whose closest later member on the left was the removed one
+      Entry left = entry.previous_;
+      for (Entry e = entry.next_; (e != null) && (e.order_ < entry.order_); e = e.rightLater_) {
+        while ((left != null) && (left.order_ < e.order_))
+          left = left.leftLater_;
+        e.leftLater_ = left;
+        update(e);
+      }
+
+      if (entry.previous_ != null)
+        entry.previous_.next_ = entry.next_;
+      else
+        head_ = entry.next_;
+      if (entry.next_ != null)
+        entry.next_.previous_ = entry.previous_;
+      else
+        tail_ = entry.previous_;
+      tree_.delete(entry);
+    } else if (objectives_ == 3) {
+      for (int i = 0; i < index; i++) {
+        Entry e = entries_.get(i);
+        double[] q = worse(e.point_, entry.point_);
+        for (int j = 0; j < e.bitSize_; j++) {
+          if (Arrays.equals(q, e.bit_[j].objectives_)) {
+            rebuildBit(i);
+            e.valid_ = false;
+            break;
+          }
+        }
+      }
+    }
+  } // removeEntry
+
+  /**
+   * Recomputes the contribution of a member of a two objective archive, as
+   * <code>WFGHV.getExclusiveHV</code> does from the dominated bit formed by
+   * its closest later members.
+   */
+  private void update(Entry entry) {
+    if (reference_ == null)
+      return;
+
+    contributions_.remove(entry);
+    double x = entry.point_[0];
+    double y = entry.point_[1];
+    double volume = Math.abs(x - reference_[0]) * Math.abs(y - reference_[1]);
+    if ((entry.leftLater_ != null) && (entry.rightLater_ != null)) {
+      double hv = Math.abs((x - reference_[0]) * (entry.leftLater_.point_[1] - reference_[1]));
+      hv += Math.abs((entry.rightLater_.point_[0] - reference_[0]) * (y - entry.leftLater_.point_[1]));
+      volume -= hv;
+    } else if (entry.leftLater_ != null) {
+      volume -= Math.abs((x - reference_[0]) * (entry.leftLater_.point_[1] - reference_[1]));
+    } else if (entry.rightLater_ != null) {
+      volume -= Math.abs((entry.rightLater_.point_[0] - reference_[0]) * (y - reference_[1]));
+    }
+    entry.contribution_ = volume;
+    entry.solution_.setCrowdingDistance(volume);
+    contributions_.add(entry);
+  } // update
+
+  /**
+   * Computes the contribution of a member of a three objective archive, as
+   * <code>WFGHV.getExclusiveHV</code> does.
+   */
+  private double getContribution3D(Entry entry) {
+    double volume = 1;
+    for (int i = 0; i < objectives_; i++)
+      volume *= Math.abs(entry.point_[i] - reference_[i]);
+
+    if (entry.bitSize_ > 0) {
+      if ((wfg_ == null) || (wfgCapacity_ < entry.bitSize_)) {
+        wfgCapacity_ = Math.max(Math.max(wfgCapacity_, 2 * entry.bitSize_), 3);
+        wfg_ = new WFGHV(objectives_, wfgCapacity_, new Point(reference_));
+      }
+      bit_.points_ = entry.bit_;
+      bit_.nPoints_ = entry.bitSize_;
+      volume -= wfg_.getHV(bit_);
+    }
+    return volume;
+  } // getContribution3D
+
+  /**
+   * Rebuilds the dominated bit of a member of a three objective archive from
+   * the later members, sweeping them by their third objective.
+   */
+  private void rebuildBit(int index) {
+    Entry entry = entries_.get(index);
+    double[][] points = new double[entries_.size() - index - 1][];
+    for (int i = 0; i < points.length; i++)
+      points[i] = worse(entry.point_, entries_.get(index + 1 + i).point_);
+    Arrays.sort(points, new Comparator<double[]>() {
+      public int compare(double[] point1, double[] point2) {
+        for (int i = point1.length - 1; i >= 0; i--) {
+          if (point1[i] < point2[i])
+            return -1;
+          else if (point1[i] > point2[i])
+            return 1;
+        }
+        return 0;
+      }
+    });
+
+    TreeMap<Double, Double> front = new TreeMap<Double, Double>();
+    entry.bitSize_ = 0;
+    for (double[] point : points) {
+      Map.Entry<Double, Double> floor = front.floorEntry(point[0]);
+      if ((floor == null) || (floor.getValue() > point[1])) {
+        Iterator<Double> dominated = front.tailMap(point[0], true).values().iterator();
+        while (dominated.hasNext() && (dominated.next() >= point[1]))
+          dominated.remove();
+        front.put(point[0], point[1]);
+
+        if (entry.bitSize_ == entry.bit_.length)
+          entry.bit_ = Arrays.copyOf(entry.bit_, 2 * entry.bitSize_ + 1);
+        entry.bit_[entry.bitSize_++] = new Point(point);
+      }
+    }
+  } // rebuildBit
+
+  private boolean isCovered(double[] point, Entry entry) {
+    for (int i = 0; i < entry.bitSize_; i++) {
+      if (covers(entry.bit_[i].objectives_, point))
+        return true;
+    }
+    return false;
+  } // isCovered
+
+  /**
+   * Returns true if point1 is not worse than point2 in any objective.
+   */
+  private static boolean covers(double[] point1, double[] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] > point2[i])
+        return false;
+    }
+    return true;
+  } // covers
+
+  private static double[] worse(double[] point1, double[] point2) {
+    double[] result = new double[point1.length];
+    for (int i = 0; i < point1.length; i++)
+      result[i] = (point1[i] > point2[i]) ? point1[i] : point2[i];
+    return result;
+  } // worse
+
+  /**
+   * Member of the archive.
+   */
+  private static class Entry {
+    Solution solution_;
+    double[] point_;
+    long order_;
+    double contribution_;
+    boolean valid_;
+
+    // Two objectives: neighbours in the order of the first objective, and
+    // closest members stored after this one on each side
+    Entry previous_;
+    Entry next_;
+    Entry leftLater_;
+    Entry rightLater_;
+
+    // Three objectives: non-dominated points of the region dominated both
+    // by this member and by some later one
+    Point[] bit_;
+    int bitSize_;
+
+    Entry(Solution solution, int objectives, long order) {
+      solution_ = solution;
+      order_    = order;
+      point_    = new double[objectives];
+      for (int i = 0; i < objectives; i++)
+        point_[i] = solution.getObjective(i);
+      bit_      = new Point[0];
+    }
+  } // Entry
+} // IncrementalHypervolumeArchive
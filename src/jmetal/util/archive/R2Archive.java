@@ -96,6 +96,25 @@ public class R2Archive extends Archive {
 
   } // CrowdingArchive
 
+
+   /**
+   * Constructor. The R2 indicator uses the simplex-lattice weight vectors
+   * with the given number of divisions, shared by all the archives.
+   * @param maxSize The maximum size of the archive.
+   * @param numberOfObjectives The number of objectives.
+   * @param divisions The number of divisions of the weight vectors.
+   */
+  public R2Archive(int maxSize, int numberOfObjectives, int divisions) {
+    super(maxSize);
+    maxSize_          = maxSize;
+    objectives_       = numberOfObjectives;
+    dominance_        = new DominanceComparator();
+    equals_           = new EqualSolutions();
+    crowdingDistance_ = new CrowdingDistanceComparator();
+    r2Indicator_      = new R2(numberOfObjectives,divisions);
+
+  } // R2Archive
+
   
   /**
    * Adds a <code>Solution</code> to the archive. If the <code>Solution</code>
@@ -132,7 +151,8 @@ public class R2Archive extends Archive {
     // Insert the solution into the archive
     solutionsList_.add(solution);        
     if (size() > maxSize_) { // The archive is full
-      // Removing the one contributing the less
+      // Removing the one contributing the less (the R2 without every member
+      // is computed in a single pass)
       int indexWorst = this.r2Indicator_.getWorst(this);
       remove(indexWorst);
     }        
@@ -22,6 +22,7 @@
 package jmetal.util.archive;
 
 import jmetal.core.Solution;
+import jmetal.qualityIndicator.fastHypervolume.HypervolumeContributions;
 import jmetal.qualityIndicator.fastHypervolume.wfg.Point;
 import jmetal.qualityIndicator.fastHypervolume.wfg.WFGHV;
 import jmetal.qualityIndicator.util.MetricsUtil;
@@ -69,6 +70,7 @@ public class WFGHypervolumeArchive extends Archive {
   private double      offset_ ;
   private Comparator crowdingDistance_; 
   private WFGHV wfg = null;
+  private HypervolumeContributions contributions_ = null;
 
   /**
    * Constructor. 
@@ -137,11 +139,15 @@ public class WFGHypervolumeArchive extends Archive {
              }
          }
       }
-      Point p = new Point(vector);
-      wfg = new WFGHV(this.objectives_,this.size(),p);
-      //remove(indexWorst(crowdingDistance_));
-      
-      remove(wfg.getLessContributorHV(this));
+      if (contributions_ != null) {
+        remove(exactLessContributor(vector));
+      } else {
+        Point p = new Point(vector);
+        wfg = new WFGHV(this.objectives_,this.size(),p);
+        //remove(indexWorst(crowdingDistance_));
+
+        remove(wfg.getLessContributorHV(this));
+      }
     }
     return true;
   } // add
@@ -160,11 +166,42 @@ public class WFGHypervolumeArchive extends Archive {
              }
          }
       }
-      Point p = new Point(vector);
-      wfg = new WFGHV(this.objectives_,this.size(),p);
-      //remove(indexWorst(crowdingDistance_));
-      wfg.getLessContributorHV(this);
+      if (contributions_ != null) {
+        exactLessContributor(vector);
+      } else {
+        Point p = new Point(vector);
+        wfg = new WFGHV(this.objectives_,this.size(),p);
+        //remove(indexWorst(crowdingDistance_));
+        wfg.getLessContributorHV(this);
+      }
   }
+
+  /**
+   * Sets whether the contributions are the volumes each member dominates
+   * exclusively of all the others, computed in one pass by
+   * <code>HypervolumeContributions</code>, instead of the volumes not
+   * dominated by the members stored after it (<code>WFGHV.getLessContributorHV</code>,
+   * the default).
+   * @param exact true to use the exclusive contributions
+   */
+  public void setExactContributions(boolean exact) {
+    contributions_ = exact ? new HypervolumeContributions(objectives_) : null;
+  } // setExactContributions
+
+  /**
+   * Stores the exclusive contributions of the members as their crowding
+   * distance and returns the index of the least contributor
+   */
+  private int exactLessContributor(double [] referencePoint) {
+    double [] contributions = contributions_.compute(this.writeObjectivesToMatrix(), referencePoint);
+    int index = 0;
+    for (int j = 0; j < contributions.length; j++) {
+      if (contributions[j] < contributions[index])
+        index = j;
+      this.get(j).setCrowdingDistance(contributions[j]);
+    }
+    return index;
+  } // exactLessContributor
   /**
    * This method forces to compute the contribution of each solution (required for PAEShv)
    */
@@ -237,6 +237,23 @@ public class AvlTree<T> {
     return result;
   }
 
+  public AvlNode<T> findPredecessor(AvlNode<T> node) {
+    AvlNode<T> result = null;
+
+    if (node.hasLeft()) {
+      AvlNode<T> tmp = node.getLeft();
+      while (tmp.hasRight())
+        tmp = tmp.getRight();
+      result = tmp;
+    } else {
+      while (node.hasParent() && (node.getParent().getLeft() == node)) {
+        node = node.getParent();
+      }
+      result = node.getParent();
+    }
+    return result;
+  }
+
   /**
    * Insert node in the left of its nearest node
    *
@@ -322,6 +339,8 @@ public class AvlTree<T> {
     }
 
     node.setLeft(node.getLeft().getRight());
+    if (node.hasLeft())
+      node.getLeft().setParent(node);
     leftNode.setRight(node);
     node.setParent(leftNode);
 
@@ -343,6 +362,8 @@ public class AvlTree<T> {
     }
 
     node.setRight(node.getRight().getLeft());
+    if (node.hasRight())
+      node.getRight().setParent(node);
     rightNode.setLeft(node);
     node.setParent(rightNode);
 
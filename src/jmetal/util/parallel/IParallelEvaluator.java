@@ -22,6 +22,7 @@ package jmetal.util.parallel;
 
 import jmetal.core.Problem;
 import jmetal.core.Solution;
+import jmetal.util.JMException;
 
 import java.util.List;
 
@@ -38,6 +39,6 @@ import java.util.List;
 public interface IParallelEvaluator {
 	public void startEvaluator(Problem problem) ;
 	public void addSolutionForEvaluation(Solution solution) ;
-	public List<Solution> parallelEvaluation() ;
+	public List<Solution> parallelEvaluation() throws JMException ;
 	public void stopEvaluator() ;
 }
@@ -23,6 +23,7 @@ package jmetal.util.parallel;
 import jmetal.core.Problem;
 import jmetal.core.Solution;
 import jmetal.util.Configuration;
+import jmetal.util.JMException;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,34 +39,36 @@ public class MultithreadedEvaluator implements IParallelEvaluator {
   private int numberOfThreads_ ;
   private Problem problem_ ;
   private ExecutorService executor_ ;
-  private Collection<Callable<Solution>> taskList_ ;
+  private List<Solution> solutionList_ ;
 
   /**
    * @author Antonio J. Nebro
-   * Private class representing tasks to evaluate solutions. 
+   * Private class representing tasks to evaluate a chunk of solutions. 
    */
 
-  private class EvaluationTask implements Callable<Solution> {
+  private class EvaluationTask implements Callable<Void> {
     private Problem problem_ ;
-    private Solution solution_ ;
+    private List<Solution> solutions_ ;
+    private int from_ ;
+    private int to_ ;
 
     /**
      * Constructor
      * @param problem Problem to solve
-     * @param solution Solution to evaluate
+     * @param solutions Solutions to evaluate
+     * @param from First solution of the chunk (inclusive)
+     * @param to Last solution of the chunk (exclusive)
      */
-    public EvaluationTask(Problem problem,  Solution solution) {
+    public EvaluationTask(Problem problem, List<Solution> solutions, int from, int to) {
       problem_ = problem ;
-      solution_ = solution ;
+      solutions_ = solutions ;
+      from_ = from ;
+      to_ = to ;
     }
 
-    public Solution call() throws Exception {
-      long initTime = System.currentTimeMillis();
-      problem_.evaluate(solution_) ;
-      problem_.evaluateConstraints(solution_) ;
-      //long estimatedTime = System.currentTimeMillis() - initTime;
-      //System.out.println("Time: "+ estimatedTime) ;
-      return solution_ ;
+    public Void call() throws Exception {
+      problem_.evaluateBatch(solutions_, from_, to_) ;
+      return null ;
     } 
   }
 
@@ -92,53 +95,70 @@ public class MultithreadedEvaluator implements IParallelEvaluator {
    */
   public void startEvaluator(Problem problem) {
     executor_ = Executors.newFixedThreadPool(numberOfThreads_) ;
-    System.out.println("Cores: "+ numberOfThreads_) ;
-    taskList_ = null ; 
+    solutionList_ = null ; 
     problem_ = problem ;
   }
 
   /**
-   * Adds a solution to be evaluated to a list of tasks
+   * Adds a solution to the list of solutions to be evaluated
    * @param solution Solution to be evaluated
    */
   public void addSolutionForEvaluation(Solution solution) {
-    if (taskList_ == null)
-      taskList_ = new ArrayList<Callable<Solution>>();
+    if (solutionList_ == null)
+      solutionList_ = new ArrayList<Solution>();
 
-    taskList_.add(new EvaluationTask(problem_, solution)) ;			
+    solutionList_.add(solution) ;			
   }
 
   /**
    * Evaluates a list of solutions
    * @return A list with the evaluated solutions
+   * @throws JMException if the evaluation of a chunk fails or the thread is
+   * interrupted while waiting for it; the pending solutions are discarded
    */
-  public List<Solution> parallelEvaluation() {
-    List<Future<Solution>> future = null ;
-    try {
-      future = executor_.invokeAll(taskList_);
-    } catch (InterruptedException e1) {
-      // TODO Auto-generated catch block
-      e1.printStackTrace();
-    }
+  public List<Solution> parallelEvaluation() throws JMException {
     List<Solution> solutionList = new Vector<Solution>() ;
+    if (solutionList_ == null)
+      return solutionList ;
+    List<Solution> pending = solutionList_ ;
+    solutionList_ = null ;
 
-    for(Future<Solution> result : future){
-      Solution solution = null ;
-      try {
-        solution = result.get();
-        solutionList.add(solution) ;
-      } catch (InterruptedException e) {
-        // TODO Auto-generated catch block
-        e.printStackTrace();
-      } catch (ExecutionException e) {
-        // TODO Auto-generated catch block
-        e.printStackTrace();
-      }
+    // One task per thread, each one evaluating a contiguous chunk with
+    // Problem.evaluateBatch
+    int size = pending.size() ;
+    int chunk = (size + numberOfThreads_ - 1) / numberOfThreads_ ;
+    Collection<Callable<Void>> taskList = new ArrayList<Callable<Void>>() ;
+    for (int from = 0; from < size; from += chunk)
+      taskList.add(new EvaluationTask(problem_, pending, from,
+          Math.min(from + chunk, size))) ;
+
+    try {
+      for (Future<Void> result : executor_.invokeAll(taskList))
+        result.get() ;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt() ;
+      throw evaluationFailure("interrupted", e) ;
+    } catch (ExecutionException e) {
+      throw evaluationFailure("failed", e.getCause()) ;
     }
-    taskList_ = null ;
+    solutionList.addAll(pending) ;
     return solutionList ;
   }
 
+  /**
+   * Logs a failed parallel evaluation and returns the exception to throw
+   * @param reason What happened to the evaluation
+   * @param cause The exception causing the failure
+   */
+  private JMException evaluationFailure(String reason, Throwable cause) {
+    Configuration.logger_.severe("MultithreadedEvaluator.parallelEvaluation: " +
+        "the evaluation " + reason + ": " + cause) ;
+    JMException exception = new JMException("Exception in " +
+        "MultithreadedEvaluator.parallelEvaluation()") ;
+    exception.initCause(cause) ;
+    return exception ;
+  }
+
   /**
    * Shutdown the executor
    */
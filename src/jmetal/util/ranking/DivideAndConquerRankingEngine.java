@@ -0,0 +1,419 @@
+//  DivideAndConquerRankingEngine.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util.ranking;
+
+import java.util.Arrays;
+
+/**
+ * Non-dominated sorting based on the divide-and-conquer algorithm of Jensen,
+ * with the generalization of Fortin, Grenier and Parizeau to points sharing
+ * objective values ("Generalizing the improved run-time complexity algorithm
+ * for non-dominated sorting", GECCO 2013). The complexity is
+ * O(N log^{M-1} N). Duplicated points are ranked once and share their front.
+ */
+public class DivideAndConquerRankingEngine implements IRankingEngine {
+
+  /**
+   * Subsets below this size are ranked by comparing all their pairs
+   */
+  private static final int BRUTE_FORCE_THRESHOLD = 16 ;
+
+  /**
+   * Distinct points, in lexicographical order
+   */
+  private double [][] points_ ;
+
+  /**
+   * Front of every distinct point
+   */
+  private int [] rank_ ;
+
+  /**
+   * Position (starting at 1) of the second objective of every distinct point
+   * among the sorted values of that objective; used to index the tree
+   */
+  private int [] secondObjectiveIndex_ ;
+
+  /**
+   * Fenwick tree storing prefix maxima of the ranks, used by the sweeps
+   */
+  private int [] tree_ ;
+
+  /**
+   * Buffer for the median computations
+   */
+  private double [] values_ ;
+
+  public int computeRanking(double [][] objectives, int [] rank) {
+    int n = objectives.length ;
+    if (n == 0)
+      return 0 ;
+    int numberOfObjectives = objectives[0].length ;
+
+    int [] order = LexicographicalSorter.sort(objectives) ;
+    int [] distinct = new int[n] ;
+    int size = 0 ;
+    for (int i = 0; i < n; i++) {
+      if ((i == 0) ||
+          (LexicographicalSorter.compare(objectives[order[i]], objectives[order[i - 1]]) != 0))
+        size++ ;
+      distinct[order[i]] = size - 1 ;
+    }
+    points_ = new double[size][] ;
+    for (int i = 0; i < n; i++)
+      points_[distinct[i]] = objectives[i] ;
+    rank_ = new int[size] ;
+
+    if (numberOfObjectives == 1) {
+      for (int i = 0; i < size; i++)
+        rank_[i] = i ;
+    } else {
+      prepareSweeps() ;
+
+      int [] all = new int[size] ;
+      for (int i = 0; i < size; i++)
+        all[i] = i ;
+      helperA(all, size, numberOfObjectives - 1) ;
+    }
+
+    int fronts = 0 ;
+    for (int i = 0; i < n; i++) {
+      rank[i] = rank_[distinct[i]] ;
+      fronts = Math.max(fronts, rank[i] + 1) ;
+    }
+
+    points_ = null ;
+    rank_ = null ;
+    secondObjectiveIndex_ = null ;
+    tree_ = null ;
+    values_ = null ;
+    return fronts ;
+  } // computeRanking
+
+  /**
+   * Finds, for every point of a front, the last point of the previous front
+   * which is not worse than it in any objective. This is the point whose
+   * visit makes the fast non-dominated sorting of NSGA-II add the point to
+   * its front. The points of the previous front are weighted by their
+   * position and the maximum weight is propagated as the ranks are, in
+   * O(N log^{M-1} N).
+   * @param previous Points of the previous front, in the order in which they
+   * are visited
+   * @param front Points of the front
+   * @param last Output array; last[j] receives the largest i such that
+   * previous[i] is not worse than front[j] in any objective, or -1 if there
+   * is none
+   */
+  public void findLastDominators(double [][] previous, double [][] front,
+                                 int [] last) {
+    int size1 = previous.length ;
+    int size2 = front.length ;
+    if ((size1 == 0) || (size2 == 0)) {
+      Arrays.fill(last, 0, size2, -1) ;
+      return ;
+    }
+    int numberOfObjectives = previous[0].length ;
+
+    points_ = new double[size1 + size2][] ;
+    rank_ = new int[size1 + size2] ;
+    System.arraycopy(previous, 0, points_, 0, size1) ;
+    System.arraycopy(front, 0, points_, size1, size2) ;
+    for (int i = 0; i < size1; i++)
+      rank_[i] = i ;
+
+    // Both sets in lexicographical order, as the sweeps require
+    int [] set1 = LexicographicalSorter.sort(previous) ;
+    int [] set2 = LexicographicalSorter.sort(front) ;
+    for (int i = 0; i < size2; i++)
+      set2[i] += size1 ;
+
+    if (numberOfObjectives == 1) {
+      for (int i = 0; i < size2; i++)
+        for (int j = 0; j < size1; j++)
+          if (weaklyDominates(set1[j], set2[i], 0))
+            update(set2[i], set1[j]) ;
+    } else {
+      prepareSweeps() ;
+      helperB(set1, size1, set2, size2, numberOfObjectives - 1) ;
+    }
+
+    // rank_ of a point of the front is one more than the weight found
+    for (int i = 0; i < size2; i++)
+      last[i] = rank_[size1 + i] - 1 ;
+
+    points_ = null ;
+    rank_ = null ;
+    secondObjectiveIndex_ = null ;
+    tree_ = null ;
+    values_ = null ;
+  } // findLastDominators
+
+  /**
+   * Allocates the tree and the buffers used by the sweeps and the median
+   * computations over points_
+   */
+  private void prepareSweeps() {
+    int size = points_.length ;
+    double [] second = new double[size] ;
+    for (int i = 0; i < size; i++)
+      second[i] = points_[i][1] + 0.0 ; // -0.0 and 0.0 must share a position
+    Arrays.sort(second) ;
+    int values = 0 ;
+    for (int i = 0; i < size; i++)
+      if ((i == 0) || (second[i] != second[values - 1]))
+        second[values++] = second[i] ;
+    secondObjectiveIndex_ = new int[size] ;
+    for (int i = 0; i < size; i++)
+      secondObjectiveIndex_[i] =
+        Arrays.binarySearch(second, 0, values, points_[i][1] + 0.0) + 1 ;
+    tree_ = new int[size + 1] ;
+    Arrays.fill(tree_, -1) ;
+    values_ = new double[size] ;
+  } // prepareSweeps
+
+  /**
+   * Ranks the points of a set taking into account the objectives 0..k. All
+   * the points of the set share the values of the objectives above k.
+   * @param set Points, in lexicographical order
+   * @param size Number of points
+   * @param k Last objective to consider
+   */
+  private void helperA(int [] set, int size, int k) {
+    if (size < 2)
+      return ;
+    if (k == 1) {
+      sweepA(set, size) ;
+    } else if (size <= BRUTE_FORCE_THRESHOLD) {
+      for (int i = 1; i < size; i++)
+        for (int j = 0; j < i; j++)
+          if (weaklyDominates(set[j], set[i], k))
+            update(set[i], set[j]) ;
+    } else {
+      double median = median(set, size, k) ;
+      int [] low = split(set, size, k, median, -1) ;
+      int [] equal = split(set, size, k, median, 0) ;
+      int [] high = split(set, size, k, median, 1) ;
+      int [] lowAndEqual = merge(set, size, k, median, low.length + equal.length, true) ;
+
+      helperA(low, low.length, k) ;
+      helperB(low, low.length, equal, equal.length, k - 1) ;
+      helperA(equal, equal.length, k - 1) ;
+      helperB(lowAndEqual, lowAndEqual.length, high, high.length, k - 1) ;
+      helperA(high, high.length, k) ;
+    }
+  } // helperA
+
+  /**
+   * Updates the ranks of the points in set2 with the points of set1, taking
+   * into account the objectives 0..k. Every point of set1 is not worse than
+   * every point of set2 in the objectives above k.
+   */
+  private void helperB(int [] set1, int size1, int [] set2, int size2, int k) {
+    if ((size1 == 0) || (size2 == 0))
+      return ;
+    if ((size1 == 1) || (size2 == 1)) {
+      for (int i = 0; i < size2; i++)
+        for (int j = 0; j < size1; j++)
+          if (weaklyDominates(set1[j], set2[i], k))
+            update(set2[i], set1[j]) ;
+    } else if (k == 1) {
+      sweepB(set1, size1, set2, size2) ;
+    } else {
+      double max1 = Double.NEGATIVE_INFINITY, min1 = Double.POSITIVE_INFINITY ;
+      double max2 = Double.NEGATIVE_INFINITY, min2 = Double.POSITIVE_INFINITY ;
+      for (int i = 0; i < size1; i++) {
+        max1 = Math.max(max1, points_[set1[i]][k]) ;
+        min1 = Math.min(min1, points_[set1[i]][k]) ;
+      }
+      for (int i = 0; i < size2; i++) {
+        max2 = Math.max(max2, points_[set2[i]][k]) ;
+        min2 = Math.min(min2, points_[set2[i]][k]) ;
+      }
+
+      if (max1 <= min2) {
+        helperB(set1, size1, set2, size2, k - 1) ;
+      } else if (min1 <= max2) {
+        int [] union = new int[size1 + size2] ;
+        System.arraycopy(set1, 0, union, 0, size1) ;
+        System.arraycopy(set2, 0, union, size1, size2) ;
+        double median = median(union, union.length, k) ;
+
+        int [] low1 = split(set1, size1, k, median, -1) ;
+        int [] high1 = split(set1, size1, k, median, 1) ;
+        int [] low2 = split(set2, size2, k, median, -1) ;
+        int [] high2 = split(set2, size2, k, median, 1) ;
+        int [] notHigh1 = merge(set1, size1, k, median, size1 - high1.length, true) ;
+        int [] notLow2 = merge(set2, size2, k, median, size2 - low2.length, false) ;
+
+        helperB(low1, low1.length, low2, low2.length, k) ;
+        helperB(notHigh1, notHigh1.length, notLow2, notLow2.length, k - 1) ;
+        helperB(high1, high1.length, high2, high2.length, k) ;
+      }
+    }
+  } // helperB
+
+  /**
+   * Ranks a set of points taking into account the first two objectives
+   */
+  private void sweepA(int [] set, int size) {
+    for (int i = 0; i < size; i++) {
+      int p = set[i] ;
+      int best = query(secondObjectiveIndex_[p]) ;
+      if (best >= 0)
+        rank_[p] = Math.max(rank_[p], best + 1) ;
+      insert(secondObjectiveIndex_[p], rank_[p]) ;
+    }
+    for (int i = 0; i < size; i++)
+      clear(secondObjectiveIndex_[set[i]]) ;
+  } // sweepA
+
+  /**
+   * Updates the ranks of set2 with set1 taking into account the first two
+   * objectives
+   */
+  private void sweepB(int [] set1, int size1, int [] set2, int size2) {
+    int j = 0 ;
+    for (int i = 0; i < size2; i++) {
+      int p = set2[i] ;
+      while ((j < size1) && precedes(points_[set1[j]], points_[p])) {
+        insert(secondObjectiveIndex_[set1[j]], rank_[set1[j]]) ;
+        j++ ;
+      }
+      int best = query(secondObjectiveIndex_[p]) ;
+      if (best >= 0)
+        rank_[p] = Math.max(rank_[p], best + 1) ;
+    }
+    for (int i = 0; i < j; i++)
+      clear(secondObjectiveIndex_[set1[i]]) ;
+  } // sweepB
+
+  /**
+   * Returns true if point1 is not greater than point2 comparing the first two
+   * objectives lexicographically
+   */
+  private boolean precedes(double [] point1, double [] point2) {
+    return (point1[0] < point2[0]) ||
+           ((point1[0] == point2[0]) && (point1[1] <= point2[1])) ;
+  } // precedes
+
+  private boolean weaklyDominates(int p, int q, int k) {
+    for (int i = 0; i <= k; i++)
+      if (points_[p][i] > points_[q][i])
+        return false ;
+    return true ;
+  } // weaklyDominates
+
+  private void update(int dominated, int dominator) {
+    rank_[dominated] = Math.max(rank_[dominated], rank_[dominator] + 1) ;
+  } // update
+
+  private int query(int index) {
+    int result = -1 ;
+    for (int i = index; i > 0; i -= i & (-i))
+      result = Math.max(result, tree_[i]) ;
+    return result ;
+  } // query
+
+  private void insert(int index, int value) {
+    for (int i = index; i < tree_.length; i += i & (-i))
+      tree_[i] = Math.max(tree_[i], value) ;
+  } // insert
+
+  private void clear(int index) {
+    for (int i = index; i < tree_.length; i += i & (-i))
+      tree_[i] = -1 ;
+  } // clear
+
+  /**
+   * Returns the points of the set whose objective k is lower than (sign -1),
+   * equal to (0) or greater than (1) the given value
+   */
+  private int [] split(int [] set, int size, int k, double value, int sign) {
+    int count = 0 ;
+    for (int i = 0; i < size; i++)
+      if (sign(points_[set[i]][k], value) == sign)
+        count++ ;
+    int [] result = new int[count] ;
+    count = 0 ;
+    for (int i = 0; i < size; i++)
+      if (sign(points_[set[i]][k], value) == sign)
+        result[count++] = set[i] ;
+    return result ;
+  } // split
+
+  private int sign(double value1, double value2) {
+    if (value1 < value2)
+      return -1 ;
+    else if (value1 > value2)
+      return 1 ;
+    return 0 ;
+  } // sign
+
+  /**
+   * Returns the points of the set whose objective k is not greater (lower is
+   * true) or not lower (lower is false) than the given value
+   */
+  private int [] merge(int [] set, int size, int k, double value, int count,
+                       boolean lower) {
+    int [] result = new int[count] ;
+    count = 0 ;
+    for (int i = 0; i < size; i++) {
+      double v = points_[set[i]][k] ;
+      if (lower ? (v <= value) : (v >= value))
+        result[count++] = set[i] ;
+    }
+    return result ;
+  } // merge
+
+  /**
+   * Returns the median of the objective k of the points in the set
+   */
+  private double median(int [] set, int size, int k) {
+    double [] a = values_.length >= size ? values_ : new double[size] ;
+    for (int i = 0; i < size; i++)
+      a[i] = points_[set[i]][k] ;
+
+    // Quickselect
+    int target = size / 2 ;
+    int left = 0 ;
+    int right = size - 1 ;
+    while (left < right) {
+      double pivot = a[(left + right) >>> 1] ;
+      int i = left ;
+      int j = right ;
+      while (i <= j) {
+        while (a[i] < pivot)
+          i++ ;
+        while (a[j] > pivot)
+          j-- ;
+        if (i <= j) {
+          double aux = a[i] ;
+          a[i] = a[j] ;
+          a[j] = aux ;
+          i++ ;
+          j-- ;
+        }
+      }
+      if (target <= j)
+        right = j ;
+      else if (target >= i)
+        left = i ;
+      else
+        break ;
+    }
+    return a[target] ;
+  } // median
+} // DivideAndConquerRankingEngine
@@ -0,0 +1,116 @@
+//  DominanceCountingRankingEngine.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util.ranking;
+
+import java.util.Arrays;
+
+/**
+ * Fast non-dominated sorting of NSGA-II (Deb et al.). Every pair of points is
+ * compared, so the complexity is O(MN^2), but the lists of dominated points
+ * are kept in flat <code>int</code> arrays instead of lists of
+ * <code>Integer</code>.
+ */
+public class DominanceCountingRankingEngine implements IRankingEngine {
+
+  public int computeRanking(double [][] objectives, int [] rank) {
+    int n = objectives.length ;
+    if (n == 0)
+      return 0 ;
+
+    // dominateMe[i] contains the number of points dominating i
+    int [] dominateMe = new int[n] ;
+    // the pairs (dominator[k], dominated[k]) found while comparing
+    int [] dominator = new int[n] ;
+    int [] dominated = new int[n] ;
+    int pairs = 0 ;
+
+    for (int p = 0; p < n - 1; p++) {
+      for (int q = p + 1; q < n; q++) {
+        int flag = compare(objectives[p], objectives[q]) ;
+        if (flag != 0) {
+          if (pairs == dominator.length) {
+            dominator = Arrays.copyOf(dominator, 2 * pairs) ;
+            dominated = Arrays.copyOf(dominated, 2 * pairs) ;
+          }
+          dominator[pairs] = (flag == -1) ? p : q ;
+          dominated[pairs] = (flag == -1) ? q : p ;
+          dominateMe[dominated[pairs]]++ ;
+          pairs++ ;
+        }
+      }
+    }
+
+    // iDominate[start[p]..start[p+1]-1] contains the points dominated by p
+    int [] start = new int[n + 1] ;
+    for (int k = 0; k < pairs; k++)
+      start[dominator[k] + 1]++ ;
+    for (int p = 0; p < n; p++)
+      start[p + 1] += start[p] ;
+    int [] iDominate = new int[pairs] ;
+    int [] next = Arrays.copyOf(start, n) ;
+    for (int k = 0; k < pairs; k++)
+      iDominate[next[dominator[k]]++] = dominated[k] ;
+
+    // current holds the front being processed, it is refilled in place
+    int [] current = new int[n] ;
+    int size = 0 ;
+    for (int p = 0; p < n; p++) {
+      if (dominateMe[p] == 0) {
+        current[size++] = p ;
+        rank[p] = 0 ;
+      }
+    }
+
+    int fronts = 0 ;
+    int first = 0 ;
+    while (first < size) {
+      fronts++ ;
+      int last = size ;
+      for (int i = first; i < last; i++) {
+        int p = current[i] ;
+        for (int k = start[p]; k < start[p + 1]; k++) {
+          int q = iDominate[k] ;
+          dominateMe[q]-- ;
+          if (dominateMe[q] == 0) {
+            current[size++] = q ;
+            rank[q] = fronts ;
+          }
+        }
+      }
+      first = last ;
+    }
+    return fronts ;
+  } // computeRanking
+
+  /**
+   * Dominance test
+   * @return -1 if point1 dominates point2, 1 if point2 dominates point1 and 0
+   * otherwise
+   */
+  static int compare(double [] point1, double [] point2) {
+    boolean better = false ;
+    boolean worse = false ;
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] < point2[i])
+        better = true ;
+      else if (point1[i] > point2[i])
+        worse = true ;
+    }
+    if (better == worse)
+      return 0 ;
+    return better ? -1 : 1 ;
+  } // compare
+} // DominanceCountingRankingEngine
@@ -0,0 +1,34 @@
+//  IRankingEngine.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util.ranking;
+
+/**
+ * Interface representing non-dominated sorting algorithms. An engine works
+ * on the objective values of a set of points (minimization is assumed) and
+ * assigns to each point the index of the front it belongs to: 0 for the
+ * non-dominated points, 1 for the points which are non-dominated after
+ * removing front 0, and so on. Points having the same objective values do not
+ * dominate each other and are placed in the same front.
+ */
+public interface IRankingEngine {
+  /**
+   * Computes the front of every point
+   * @param objectives Objective values; objectives[i] are those of point i
+   * @param rank Output array; rank[i] receives the front of point i
+   * @return The number of fronts
+   */
+  public int computeRanking(double [][] objectives, int [] rank) ;
+} // IRankingEngine
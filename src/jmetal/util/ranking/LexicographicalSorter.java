@@ -0,0 +1,78 @@
+//  LexicographicalSorter.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util.ranking;
+
+/**
+ * Sorts point indices in lexicographical order of their objective values
+ * without boxing them. Used by the ranking engines based on sweeps.
+ */
+class LexicographicalSorter {
+
+  private LexicographicalSorter() {
+  } // LexicographicalSorter
+
+  /**
+   * Returns the indices 0..n-1 sorted in lexicographical order of the points.
+   * The sort is stable, so equal points keep their relative order.
+   * @param points The points
+   * @return The sorted indices
+   */
+  static int [] sort(double [][] points) {
+    int n = points.length ;
+    int [] index = new int[n] ;
+    int [] buffer = new int[n] ;
+    for (int i = 0; i < n; i++)
+      index[i] = i ;
+
+    // Bottom-up merge sort
+    for (int width = 1; width < n; width *= 2) {
+      for (int low = 0; low < n; low += 2 * width) {
+        int middle = Math.min(low + width, n) ;
+        int high = Math.min(low + 2 * width, n) ;
+        int i = low, j = middle, k = low ;
+        while (i < middle && j < high) {
+          if (compare(points[index[j]], points[index[i]]) < 0)
+            buffer[k++] = index[j++] ;
+          else
+            buffer[k++] = index[i++] ;
+        }
+        while (i < middle)
+          buffer[k++] = index[i++] ;
+        while (j < high)
+          buffer[k++] = index[j++] ;
+      }
+      int [] aux = index ;
+      index = buffer ;
+      buffer = aux ;
+    }
+    return index ;
+  } // sort
+
+  /**
+   * Compares two points lexicographically
+   * @return -1, 0 or 1 if point1 is smaller than, equal to or greater than
+   * point2
+   */
+  static int compare(double [] point1, double [] point2) {
+    for (int i = 0; i < point1.length; i++) {
+      if (point1[i] < point2[i])
+        return -1 ;
+      else if (point1[i] > point2[i])
+        return 1 ;
+    }
+    return 0 ;
+  } // compare
+} // LexicographicalSorter
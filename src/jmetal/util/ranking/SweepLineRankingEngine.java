@@ -0,0 +1,66 @@
+//  SweepLineRankingEngine.java
+//
+//  This program is free software: you can redistribute it and/or modify
+//  it under the terms of the GNU Lesser General Public License as published by
+//  the Free Software Foundation, either version 3 of the License, or
+//  (at your option) any later version.
+//
+//  This program is distributed in the hope that it will be useful,
+//  but WITHOUT ANY WARRANTY; without even the implied warranty of
+//  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//  GNU Lesser General Public License for more details.
+// 
+//  You should have received a copy of the GNU Lesser General Public License
+//  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+
+package jmetal.util.ranking;
+
+/**
+ * Non-dominated sorting for bi-objective problems in O(N log N). The points
+ * are swept in lexicographical order; a point is dominated by some member of
+ * a front if and only if it is dominated by the last point added to that
+ * front, and if a front dominates a point so do all the previous ones, so the
+ * front of every point is found with a binary search over the last points of
+ * the fronts. Problems with other number of objectives are delegated to
+ * <code>DivideAndConquerRankingEngine</code>.
+ */
+public class SweepLineRankingEngine implements IRankingEngine {
+
+  public int computeRanking(double [][] objectives, int [] rank) {
+    int n = objectives.length ;
+    if (n == 0)
+      return 0 ;
+    if (objectives[0].length != 2)
+      return new DivideAndConquerRankingEngine().computeRanking(objectives, rank) ;
+
+    int [] order = LexicographicalSorter.sort(objectives) ;
+    // last[f] is the last point added to front f
+    int [] last = new int[n] ;
+    int fronts = 0 ;
+    for (int i = 0; i < n; i++) {
+      int p = order[i] ;
+      int low = 0 ;
+      int high = fronts ;
+      while (low < high) {
+        int middle = (low + high) >>> 1 ;
+        if (dominates(objectives[last[middle]], objectives[p]))
+          low = middle + 1 ;
+        else
+          high = middle ;
+      }
+      rank[p] = low ;
+      last[low] = p ;
+      if (low == fronts)
+        fronts++ ;
+    }
+    return fronts ;
+  } // computeRanking
+
+  /**
+   * Dominance test for a point preceding another one in lexicographical order
+   */
+  private boolean dominates(double [] previous, double [] point) {
+    return (previous[1] <= point[1]) &&
+           ((previous[0] != point[0]) || (previous[1] != point[1])) ;
+  } // dominates
+} // SweepLineRankingEngine
@@ -21,8 +21,10 @@
 
 package jmetal.util.wrapper;
 
+import jmetal.core.PopulationStore;
 import jmetal.core.Solution;
 import jmetal.core.SolutionType;
+import jmetal.core.StoredSolution;
 import jmetal.encodings.solutionType.ArrayRealAndBinarySolutionType;
 import jmetal.encodings.solutionType.ArrayRealSolutionType;
 import jmetal.encodings.solutionType.BinaryRealSolutionType;
@@ -37,6 +39,8 @@ import jmetal.util.JMException;
 public class XReal {
 	private Solution solution_ ;
 	private SolutionType type_ ;
+	private PopulationStore store_ ;  // not null if the solution is a StoredSolution
+	private int offset_ ;              // position of the first variable in the store
 
 	/**
 	 * Constructor
@@ -52,6 +56,10 @@ public class XReal {
 		this() ;
 		type_ = solution.getType() ;
 		solution_ = solution ;
+		if (solution instanceof StoredSolution) {
+			store_ = ((StoredSolution)solution).getStore() ;
+			offset_ = ((StoredSolution)solution).getSlot() * store_.getNumberOfVariables() ;
+		}
 	}
 
 	/**
@@ -61,6 +69,8 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public double getValue(int index) throws JMException {
+		if (store_ != null)
+			return store_.getVariables()[offset_ + index] ;
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class)){
 			return solution_.getDecisionVariables()[index].getValue() ;			
@@ -85,7 +95,9 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public void setValue(int index, double value) throws JMException {
-		if (type_.getClass() == RealSolutionType.class)
+		if (store_ != null)
+			store_.getVariables()[offset_ + index] = value ;
+		else if (type_.getClass() == RealSolutionType.class)
 			solution_.getDecisionVariables()[index].setValue(value) ;
 		else if (type_.getClass() == ArrayRealSolutionType.class)
 			((ArrayReal)(solution_.getDecisionVariables()[0])).array_[index]=value ;
@@ -103,6 +115,8 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public double getLowerBound(int index) throws JMException {
+		if (store_ != null)
+			return store_.getLowerBounds()[index] ;
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class))
 			return solution_.getDecisionVariables()[index].getLowerBound() ;
@@ -125,6 +139,8 @@ public class XReal {
 	 * @throws JMException
 	 */
 	public double getUpperBound(int index) throws JMException {
+		if (store_ != null)
+			return store_.getUpperBounds()[index] ;
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class))			
 			return solution_.getDecisionVariables()[index].getUpperBound() ;
@@ -144,6 +160,8 @@ public class XReal {
 	 * @return
 	 */
 	public int getNumberOfDecisionVariables() {
+		if (store_ != null)
+			return store_.getNumberOfVariables() ;
 		if ((type_.getClass() == RealSolutionType.class) ||
 				(type_.getClass() == BinaryRealSolutionType.class))		
 			return solution_.getDecisionVariables().length ;
@@ -160,6 +178,8 @@ public class XReal {
 	 * @return
 	 */
 	public int size() {
+		if (store_ != null)
+			return store_.getNumberOfVariables() ;
 		if ((type_.getClass().equals(RealSolutionType.class)) ||
 				(type_.getClass().equals(BinaryRealSolutionType.class)))		
 			return solution_.getDecisionVariables().length ;